@@ -0,0 +1,88 @@
+package de.tum.cit.ase.bomberquest.ai;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ai.btree.BehaviorTree;
+import com.badlogic.gdx.ai.btree.utils.BehaviorTreeParser;
+import de.tum.cit.ase.bomberquest.map.Enemy;
+
+/**
+ * Enumeration of all alien archetypes and their behaviour trees.
+ * Every archetype loads its behaviour tree once from a file in the assets/ai folder,
+ * and all enemies of the same archetype share that single tree.
+ * Sharing works because every task of these trees finishes within one step and never reports {@code RUNNING},
+ * so a tree keeps no state between two steps. All per-enemy state lives in the {@link Enemy} itself,
+ * which acts as the blackboard of the tree.
+ * New alien types can be added by writing a new tree file and adding a variant here.
+ */
+public enum AlienArchetype {
+    /**
+     * Alien that only wanders around randomly.
+     */
+    RANDOM("alien-random.tree", false),
+    /**
+     * Alien that chases the nearest player within its detection range.
+     */
+    SMART("alien-smart.tree", false),
+    /**
+     * Alien that wanders around randomly, places bombs when cornered and keeps out of the flames.
+     */
+    BOMBER("alien-bomber.tree", true),
+    /**
+     * Alien that chases the nearest player, places bombs when cornered and keeps out of the flames.
+     */
+    SMART_BOMBER("alien-smart-bomber.tree", true);
+
+    /**
+     * The behaviour tree shared by all enemies of this archetype.
+     */
+    private final BehaviorTree<Enemy> tree;
+    /**
+     * Flag to indicate that enemies of this archetype do not walk into cells that will be covered by flames.
+     */
+    private final boolean avoidsDanger;
+
+    /**
+     * Constructor for {@code AlienArchetype} enum variants.
+     * Parses the behaviour tree file from the assets.
+     *
+     * @param fileName     The name of the behaviour tree file located in the "ai/" directory.
+     * @param avoidsDanger {@code true} if enemies of this archetype should not walk into flames, {@code false} otherwise.
+     */
+    AlienArchetype(String fileName, boolean avoidsDanger) {
+        BehaviorTreeParser<Enemy> parser = new BehaviorTreeParser<>(BehaviorTreeParser.DEBUG_NONE);
+        this.tree = parser.parse(Gdx.files.internal("assets/ai/" + fileName), null);
+        this.avoidsDanger = avoidsDanger;
+    }
+
+    /**
+     * Checks if enemies of this archetype avoid cells that will be covered by flames.
+     *
+     * @return {@code true} if they avoid flames, {@code false} otherwise.
+     */
+    public boolean avoidsDanger() {
+        return avoidsDanger;
+    }
+
+    /**
+     * Gets the archetype matching the enemy settings of the game.
+     *
+     * @param canFindPlayer {@code true} if the aliens should chase players, {@code false} otherwise.
+     * @param canPlaceBombs {@code true} if the aliens should place bombs, {@code false} otherwise.
+     * @return The matching {@link AlienArchetype}.
+     */
+    public static AlienArchetype of(boolean canFindPlayer, boolean canPlaceBombs) {
+        if (canFindPlayer) return canPlaceBombs ? SMART_BOMBER : SMART;
+        return canPlaceBombs ? BOMBER : RANDOM;
+    }
+
+    /**
+     * Runs one step of this archetype's behaviour tree for the given enemy.
+     * Selectors stop at the first branch that succeeds, so the cost of a step is bounded by the branch that is active.
+     *
+     * @param enemy The enemy whose behaviour should be updated.
+     */
+    public void step(Enemy enemy) {
+        tree.setObject(enemy);
+        tree.step();
+    }
+}
@@ -0,0 +1,33 @@
+package de.tum.cit.ase.bomberquest.ai;
+
+import com.badlogic.gdx.ai.btree.LeafTask;
+import com.badlogic.gdx.ai.btree.Task;
+import de.tum.cit.ase.bomberquest.map.Enemy;
+
+/**
+ * Behaviour tree task that moves the enemy along a path towards the nearest player.
+ */
+public class ChasePlayerTask extends LeafTask<Enemy> {
+
+    /**
+     * Moves the enemy one tick along its path to the nearest player, finding a new path if needed.
+     *
+     * @return {@link Status#SUCCEEDED} if the enemy is chasing a player, {@link Status#FAILED} if no path to a player exists.
+     */
+    @Override
+    public Status execute() {
+        return getObject().chasePlayer() ? Status.SUCCEEDED : Status.FAILED;
+    }
+
+    /**
+     * Copies this task to the given task.
+     * The task has no attributes, so there is nothing to copy.
+     *
+     * @param task The task to copy to.
+     * @return The given task.
+     */
+    @Override
+    protected Task<Enemy> copyTo(Task<Enemy> task) {
+        return task;
+    }
+}
@@ -0,0 +1,33 @@
+package de.tum.cit.ase.bomberquest.ai;
+
+import com.badlogic.gdx.ai.btree.LeafTask;
+import com.badlogic.gdx.ai.btree.Task;
+import de.tum.cit.ase.bomberquest.map.Enemy;
+
+/**
+ * Behaviour tree condition that checks whether the enemy just got cornered in a dead end.
+ */
+public class CorneredCondition extends LeafTask<Enemy> {
+
+    /**
+     * Checks whether the enemy had to turn back in its last direction choice because no other direction was free.
+     *
+     * @return {@link Status#SUCCEEDED} if the enemy is cornered, {@link Status#FAILED} otherwise.
+     */
+    @Override
+    public Status execute() {
+        return getObject().isCornered() ? Status.SUCCEEDED : Status.FAILED;
+    }
+
+    /**
+     * Copies this task to the given task.
+     * The task has no attributes, so there is nothing to copy.
+     *
+     * @param task The task to copy to.
+     * @return The given task.
+     */
+    @Override
+    protected Task<Enemy> copyTo(Task<Enemy> task) {
+        return task;
+    }
+}
@@ -0,0 +1,33 @@
+package de.tum.cit.ase.bomberquest.ai;
+
+import com.badlogic.gdx.ai.btree.LeafTask;
+import com.badlogic.gdx.ai.btree.Task;
+import de.tum.cit.ase.bomberquest.map.Enemy;
+
+/**
+ * Behaviour tree condition that checks whether the enemy stands in the reach of flames.
+ */
+public class InDangerCondition extends LeafTask<Enemy> {
+
+    /**
+     * Checks whether the enemy's cell is burning or will be covered by flames from the bombs on the map.
+     *
+     * @return {@link Status#SUCCEEDED} if the enemy is in danger, {@link Status#FAILED} otherwise.
+     */
+    @Override
+    public Status execute() {
+        return getObject().isInDanger() ? Status.SUCCEEDED : Status.FAILED;
+    }
+
+    /**
+     * Copies this task to the given task.
+     * The task has no attributes, so there is nothing to copy.
+     *
+     * @param task The task to copy to.
+     * @return The given task.
+     */
+    @Override
+    protected Task<Enemy> copyTo(Task<Enemy> task) {
+        return task;
+    }
+}
@@ -0,0 +1,34 @@
+package de.tum.cit.ase.bomberquest.ai;
+
+import com.badlogic.gdx.ai.btree.LeafTask;
+import com.badlogic.gdx.ai.btree.Task;
+import de.tum.cit.ase.bomberquest.map.Enemy;
+
+/**
+ * Behaviour tree task that makes the enemy place a bomb on its current cell.
+ */
+public class PlaceBombTask extends LeafTask<Enemy> {
+
+    /**
+     * Places a bomb on the enemy's current cell, if the enemy has a bomb left and the cell is free.
+     *
+     * @return Always {@link Status#SUCCEEDED}, the map decides whether the bomb can actually be placed.
+     */
+    @Override
+    public Status execute() {
+        getObject().placeBomb();
+        return Status.SUCCEEDED;
+    }
+
+    /**
+     * Copies this task to the given task.
+     * The task has no attributes, so there is nothing to copy.
+     *
+     * @param task The task to copy to.
+     * @return The given task.
+     */
+    @Override
+    protected Task<Enemy> copyTo(Task<Enemy> task) {
+        return task;
+    }
+}
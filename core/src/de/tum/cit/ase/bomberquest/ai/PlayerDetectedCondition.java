@@ -0,0 +1,33 @@
+package de.tum.cit.ase.bomberquest.ai;
+
+import com.badlogic.gdx.ai.btree.LeafTask;
+import com.badlogic.gdx.ai.btree.Task;
+import de.tum.cit.ase.bomberquest.map.Enemy;
+
+/**
+ * Behaviour tree condition that checks whether the enemy has detected a player it could chase.
+ */
+public class PlayerDetectedCondition extends LeafTask<Enemy> {
+
+    /**
+     * Checks whether a player is within the enemy's detection range.
+     *
+     * @return {@link Status#SUCCEEDED} if a player is detected, {@link Status#FAILED} otherwise.
+     */
+    @Override
+    public Status execute() {
+        return getObject().isPlayerDetected() ? Status.SUCCEEDED : Status.FAILED;
+    }
+
+    /**
+     * Copies this task to the given task.
+     * The task has no attributes, so there is nothing to copy.
+     *
+     * @param task The task to copy to.
+     * @return The given task.
+     */
+    @Override
+    protected Task<Enemy> copyTo(Task<Enemy> task) {
+        return task;
+    }
+}
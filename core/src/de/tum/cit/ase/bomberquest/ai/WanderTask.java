@@ -0,0 +1,34 @@
+package de.tum.cit.ase.bomberquest.ai;
+
+import com.badlogic.gdx.ai.btree.LeafTask;
+import com.badlogic.gdx.ai.btree.Task;
+import de.tum.cit.ase.bomberquest.map.Enemy;
+
+/**
+ * Behaviour tree task that moves the enemy in random free directions.
+ */
+public class WanderTask extends LeafTask<Enemy> {
+
+    /**
+     * Moves the enemy one tick in its current direction, choosing a new random free direction once a cell is reached.
+     *
+     * @return Always {@link Status#SUCCEEDED}, wandering cannot fail.
+     */
+    @Override
+    public Status execute() {
+        getObject().wander();
+        return Status.SUCCEEDED;
+    }
+
+    /**
+     * Copies this task to the given task.
+     * The task has no attributes, so there is nothing to copy.
+     *
+     * @param task The task to copy to.
+     * @return The given task.
+     */
+    @Override
+    protected Task<Enemy> copyTo(Task<Enemy> task) {
+        return task;
+    }
+}
@@ -67,8 +67,9 @@ public enum SoundEffects {
 
     /**
      * Plays this sound effect with its defined volume.
+     * The sound is started on the render thread, as the game simulation runs on its own thread.
      */
     public void play() {
-        this.sound.play(volume);
+        Gdx.app.postRunnable(() -> this.sound.play(volume));
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.List;
+
+/**
+ * Decides which enemies take part in the simulation.
+ * Enemies farther than the activity radius from every player, and not close to any flames, become dormant:
+ * their behaviour tree is not stepped and their body is deactivated, so neither the AI nor the physics step
+ * pays for them. They wake up as soon as a player approaches or a bomb threatens them.
+ */
+public class ActivityPolicy {
+    /**
+     * The danger map, used to wake enemies near pending or burning flames.
+     */
+    private final DangerMap dangerMap;
+    /**
+     * The distance in cells (in both axes) from the nearest player beyond which enemies become dormant.
+     * Values below 1 keep all enemies active.
+     */
+    private final int activityRadius;
+
+    /**
+     * Constructs a new activity policy.
+     *
+     * @param dangerMap      The {@link DangerMap} of the game map.
+     * @param activityRadius The distance in cells from the nearest player beyond which enemies become dormant.
+     */
+    public ActivityPolicy(DangerMap dangerMap, int activityRadius) {
+        this.dangerMap = dangerMap;
+        this.activityRadius = activityRadius;
+    }
+
+    /**
+     * Puts distant enemies to sleep and wakes up the ones near a player or in danger.
+     * Must be called before the enemies tick and outside of a physics step.
+     *
+     * @param enemies The enemies of the map.
+     * @param players The players of the map.
+     */
+    public void update(List<Enemy> enemies, List<Player> players) {
+        if (activityRadius < 1) return;
+        for (Enemy enemy : enemies) {
+            if (!enemy.isAlive()) continue; // Dying enemies have no body anymore
+            boolean active = isNearPlayer(enemy, players) || isNearDanger(enemy);
+            enemy.setDormant(!active);
+        }
+    }
+
+    /**
+     * Checks if an enemy is within the activity radius of any living player.
+     *
+     * @param enemy   The enemy to check.
+     * @param players The players of the map.
+     * @return {@code true} if a player is near, {@code false} otherwise.
+     */
+    private boolean isNearPlayer(Enemy enemy, List<Player> players) {
+        for (Player player : players) {
+            if (player.isAlive()
+                && Math.abs(player.getCellX() - enemy.getCellX()) <= activityRadius
+                && Math.abs(player.getCellY() - enemy.getCellY()) <= activityRadius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if flames are predicted in the enemy's cell or in one of its neighbours.
+     *
+     * @param enemy The enemy to check.
+     * @return {@code true} if the enemy has to react to a bomb, {@code false} otherwise.
+     */
+    private boolean isNearDanger(Enemy enemy) {
+        int x = enemy.getCellX();
+        int y = enemy.getCellY();
+        return dangerMap.isDangerous(x, y) || dangerMap.isDangerous(x + 1, y) || dangerMap.isDangerous(x - 1, y)
+            || dangerMap.isDangerous(x, y + 1) || dangerMap.isDangerous(x, y - 1);
+    }
+}
@@ -1,7 +1,6 @@
 package de.tum.cit.ase.bomberquest.map;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.texture.Animations;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 
@@ -33,14 +32,14 @@ public class Blast extends StationaryObject implements Drawable {
     /**
      * Constructs a new Blast object.
      *
-     * @param world The Box2D world (not used for blasts as they are stationary and have no body, but included for consistent object creation).
-     * @param x     The x-coordinate of the blast in game units.
-     * @param y     The y-coordinate of the blast in game units.
-     * @param type  The {@link BlastType} of this blast, defining its visual representation.
-     * @param owner The {@link MobileObject} that owns this blast (the bomber).
+     * @param physics The physics simulation (not used for blasts as they are stationary and have no body, but included for consistent object creation).
+     * @param x       The x-coordinate of the blast in game units.
+     * @param y       The y-coordinate of the blast in game units.
+     * @param type    The {@link BlastType} of this blast, defining its visual representation.
+     * @param owner   The {@link MobileObject} that owns this blast (the bomber).
      */
-    public Blast(World world, int x, int y, BlastType type, MobileObject owner) {
-        super(world, x, y, type == BlastType.WALL);
+    public Blast(PhysicsBackend physics, int x, int y, BlastType type, MobileObject owner) {
+        super(physics, x, y, type == BlastType.WALL);
         this.type = type;
         this.owner = owner;
     }
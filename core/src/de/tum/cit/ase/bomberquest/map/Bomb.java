@@ -1,16 +1,24 @@
 package de.tum.cit.ase.bomberquest.map;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.texture.Animations;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 
+import java.util.BitSet;
+
 /**
  * Represents a bomb placed in the game.
  * Bombs are stationary objects that have a hitbox and will explode after a certain time.
  * They are placed by {@link MobileObject}s and cause blasts upon explosion.
+ * Objects standing on a bomb when it is placed are its occupants: they may walk off the bomb,
+ * but once they have left it, the bomb blocks them like everybody else.
  */
 public class Bomb extends StationaryObject implements Drawable {
+    /**
+     * Time in seconds from placing the bomb until it explodes.
+     */
+    public static final float FUSE_TIME = 3.0f;
     /**
      * The {@link MobileObject} that placed this bomb.
      */
@@ -27,17 +35,28 @@ public class Bomb extends StationaryObject implements Drawable {
      * Flag indicating whether the bomb has exploded.
      */
     private boolean exploded;
+    /**
+     * The ids of the mobile objects that stood on the bomb when it was placed and have not left it yet,
+     * see {@link MobileObject#getId()}. Guarded by the bomb itself, as the regions of a {@link PartitionedPhysicsBackend}
+     * report contacts with a bomb on their border from several threads.
+     */
+    private final BitSet occupants = new BitSet();
+    /**
+     * Whether the occupants of the bomb are known. The physics backend arms the bomb after detecting them;
+     * until then the bomb blocks nobody.
+     */
+    private boolean armed;
 
     /**
      * Constructs a new Bomb object.
      *
-     * @param world The Box2D world where the bomb's hitbox will be created.
-     * @param x     The x-coordinate of the bomb in game units.
-     * @param y     The y-coordinate of the bomb in game units.
-     * @param owner The {@link MobileObject} that placed this bomb.
+     * @param physics The physics simulation where the bomb's hitbox will be created.
+     * @param x       The x-coordinate of the bomb in game units.
+     * @param y       The y-coordinate of the bomb in game units.
+     * @param owner   The {@link MobileObject} that placed this bomb.
      */
-    public Bomb(World world, int x, int y, MobileObject owner) {
-        super(world, x, y, true);
+    public Bomb(PhysicsBackend physics, int x, int y, MobileObject owner) {
+        super(physics, x, y, true);
         exploded = false;
         this.owner = owner;
         blastRadius = owner.getBlastRadius();
@@ -52,7 +71,7 @@ public Bomb(World world, int x, int y, MobileObject owner) {
      */
     public void tick(float frameTime) {
         this.elapsedTime += frameTime;
-        if (this.elapsedTime >= 3.0f && !exploded) {
+        if (this.elapsedTime >= FUSE_TIME && !exploded) {
             exploded = true;
             owner.returnBomb();
         }
@@ -67,6 +86,15 @@ public boolean isExploded() {
         return exploded;
     }
 
+    /**
+     * Gets the time left until the bomb explodes on its own.
+     *
+     * @return The remaining fuse time in seconds, {@code 0} if the bomb has already exploded.
+     */
+    public float getRemainingFuse() {
+        return exploded ? 0 : Math.max(FUSE_TIME - elapsedTime, 0);
+    }
+
     /**
      * Forces the bomb to explode immediately.
      * Sets the {@code exploded} flag to true and notifies the owner to return a bomb to their inventory.
@@ -91,6 +119,16 @@ public TextureRegion getCurrentAppearance() {
         return Animations.BOMB_ENEMY.getKeyFrame(elapsedTime, true);
     }
 
+    /**
+     * Gets the flat color representing the bomb in zoomed-out views.
+     *
+     * @return {@link Color#BLACK}.
+     */
+    @Override
+    public Color getMapColor() {
+        return Color.BLACK;
+    }
+
     /**
      * Gets the {@link MobileObject} that placed this bomb.
      *
@@ -108,4 +146,57 @@ public MobileObject getOwner() {
     public int getBlastRadius() {
         return blastRadius;
     }
-}
\ No newline at end of file
+
+    /**
+     * Adds a mobile object standing on the bomb while it is being armed.
+     *
+     * @param mobileObject The object standing on the bomb.
+     */
+    public synchronized void addOccupant(MobileObject mobileObject) {
+        occupants.set(mobileObject.getId());
+    }
+
+    /**
+     * Removes a mobile object that has left the bomb, so the bomb blocks it from now on.
+     *
+     * @param mobileObject The object that left the bomb.
+     */
+    public synchronized void removeOccupant(MobileObject mobileObject) {
+        occupants.clear(mobileObject.getId());
+    }
+
+    /**
+     * Checks if a mobile object stood on the bomb when it was placed and has not left it yet.
+     *
+     * @param mobileObject The object to check.
+     * @return {@code true} if the object is an occupant, {@code false} otherwise.
+     */
+    public synchronized boolean isOccupant(MobileObject mobileObject) {
+        return occupants.get(mobileObject.getId());
+    }
+
+    /**
+     * Checks if any object is still standing on the bomb since it was placed.
+     *
+     * @return {@code true} if the bomb has occupants, {@code false} otherwise.
+     */
+    public synchronized boolean hasOccupants() {
+        return !occupants.isEmpty();
+    }
+
+    /**
+     * Marks the occupants of the bomb as known, so it starts blocking everybody else.
+     */
+    public void arm() {
+        armed = true;
+    }
+
+    /**
+     * Checks if the occupants of the bomb are known.
+     *
+     * @return {@code true} if the bomb is armed, {@code false} otherwise.
+     */
+    public boolean isArmed() {
+        return armed;
+    }
+}
@@ -0,0 +1,415 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link PhysicsBackend} using the Box2D physics engine.
+ * Mobile objects are dynamic circle bodies, stationary objects are static box bodies and the walls form a
+ * {@link WallCollisionMesh}. Which bodies collide at all is decided by the category and mask bits of their fixtures,
+ * so Box2D skips those contacts before they reach Java. Only the bombs a mobile object still ignores, which change per bomb,
+ * are filtered by the {@link GameContactListener}.
+ * <p>
+ * Static box bodies of bombs and wall blasts come and go with every explosion. Instead of destroying them, they are
+ * deactivated and kept in a pool, and reused for the next box by moving them and swapping their user data.
+ * Every box body also carries a sensor fixture, enabled for bombs only, whose contacts tell the
+ * {@link GameContactListener} which objects stand on a new bomb and when they leave it.
+ * A reused body only finds its contacts at the end of the step after its activation, so the sensor may not have reported
+ * anybody yet when the bomb is armed; the objects standing on the bomb are therefore also looked up in the world itself.
+ */
+public class Box2DPhysicsBackend implements PhysicsBackend {
+    /**
+     * The number of velocity iterations performed per physics step in Box2D.
+     * More iterations increase accuracy but also increase computational cost.
+     * This value is set to balance performance and simulation quality.
+     */
+    private static final int VELOCITY_ITERATIONS = 6;
+    /**
+     * The number of position iterations performed per physics step in Box2D.
+     * Similar to velocity iterations, more position iterations improve stability and accuracy,
+     * especially for stacked bodies, at the cost of performance.
+     */
+    private static final int POSITION_ITERATIONS = 2;
+
+    /**
+     * Collision category of players.
+     */
+    private static final short PLAYER_CATEGORY = 0x0001;
+    /**
+     * Collision category of enemies.
+     */
+    private static final short ENEMY_CATEGORY = 0x0002;
+    /**
+     * Collision category of the wall collision mesh.
+     */
+    private static final short WALL_CATEGORY = 0x0004;
+    /**
+     * Collision category of bombs.
+     */
+    private static final short BOMB_CATEGORY = 0x0008;
+    /**
+     * Collision category of the other stationary objects with a hitbox (blasts of destroyed walls).
+     */
+    private static final short BLOCK_CATEGORY = 0x0010;
+    /**
+     * The categories of all mobile objects, which the stationary objects collide with.
+     */
+    private static final short MOBILE_CATEGORIES = PLAYER_CATEGORY | ENEMY_CATEGORY;
+
+    // A static block is executed once when the class is loaded.
+    static {
+        // Initialize the Box2D physics engine when the Box2DPhysicsBackend class is first loaded.
+        Box2D.init();
+    }
+
+    /**
+     * The Box2D world where all physics simulations occur.
+     */
+    private final World world;
+    /**
+     * The contact listener filtering the collisions in the world and queueing bodies for destruction.
+     */
+    private final GameContactListener contactListener;
+    /**
+     * The merged collision geometry of the walls, {@code null} until the walls are built.
+     */
+    private WallCollisionMesh wallCollisionMesh;
+    /**
+     * The game rules deciding the mask bits of the mobile objects.
+     */
+    private final CollisionRules rules;
+    /**
+     * The deactivated static box bodies waiting to be reused.
+     */
+    private final Deque<Box2DPhysicsBody> boxPool = new ArrayDeque<>();
+    /**
+     * The bombs created since the last step, armed after it once their occupants are known.
+     */
+    private final List<Bomb> newBombs = new ArrayList<>();
+    /**
+     * The world query adding the mobile objects overlapping {@link #armedBomb} as its occupants, reused for every bomb.
+     */
+    private final QueryCallback occupantQuery = this::reportOccupant;
+    /**
+     * The bomb whose occupants {@link #occupantQuery} is looking up, {@code null} outside of a query.
+     */
+    private Bomb armedBomb;
+
+    /**
+     * Constructs a new {@code Box2DPhysicsBackend} with an empty world without gravity.
+     *
+     * @param rules The {@link CollisionRules} applied to the contacts.
+     */
+    public Box2DPhysicsBackend(CollisionRules rules) {
+        this.rules = rules;
+        this.world = new World(Vector2.Zero, true); // Initialize Box2D world with no gravity
+        this.contactListener = new GameContactListener(rules); // Initialize contact listener for collision handling
+        this.world.setContactListener(contactListener); // Set the contact listener for the Box2D world
+    }
+
+    /**
+     * Creates a dynamic Box2D body with a circle fixture for a mobile object.
+     *
+     * @param owner  The mobile object the body belongs to.
+     * @param x      The starting x-coordinate in world units.
+     * @param y      The starting y-coordinate in world units.
+     * @param radius The radius of the circle.
+     * @return The created {@link PhysicsBody}.
+     */
+    @Override
+    public PhysicsBody createCircle(MobileObject owner, float x, float y, float radius) {
+        // BodyDef is like a blueprint for the movement properties of the body.
+        BodyDef bodyDef = new BodyDef();
+        // Dynamic bodies are affected by forces and collisions.
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        // Set the initial position of the body.
+        bodyDef.position.set(x, y);
+        // Create the body in the world using the body definition.
+        Body body = world.createBody(bodyDef);
+        // Now we need to give the body a shape so the physics engine knows how to collide with it.
+        // We'll use a circle shape for the player.
+        CircleShape circle = new CircleShape();
+        // Give the circle a radius.
+        circle.setRadius(radius);
+        // Attach the shape to the body as a fixture.
+        // Bodies can have multiple fixtures, but we only need one for the player or the enemy.
+        Fixture fixture = body.createFixture(circle, 1.0f);
+        fixture.setFilterData(createMobileFilter(owner));
+        // We're done with the shape, so we should dispose of it to free up memory.
+        circle.dispose();
+        // Set the object as the user data of the body, so we can look up the object from the body later.
+        body.setUserData(owner);
+        return new Box2DPhysicsBody(body);
+    }
+
+    /**
+     * Creates a static Box2D body with a square fixture of one cell for a stationary object.
+     * A pooled body is reused if available: it is moved to the cell, activated and handed to the new owner.
+     *
+     * @param owner The stationary object the body belongs to.
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     * @return The created {@link PhysicsBody}.
+     */
+    @Override
+    public PhysicsBody createBox(StationaryObject owner, int x, int y) {
+        Box2DPhysicsBody pooled = boxPool.poll();
+        Body body;
+        if (pooled != null) {
+            body = pooled.getBody();
+            body.setTransform(x, y, 0); // Move the pooled body to the new cell
+            body.setActive(true); // Put it back into the broad-phase
+        } else {
+            // BodyDef is like a blueprint for the movement properties of the body.
+            BodyDef bodyDef = new BodyDef();
+            // Static bodies never move, but other bodies can collide with them.
+            bodyDef.type = BodyDef.BodyType.StaticBody;
+            // Set the initial position of the body to the object's coordinates.
+            bodyDef.position.set(x, y);
+            // Create the body in the world using the body definition.
+            body = world.createBody(bodyDef);
+            // Now we need to give the body a shape so the physics engine knows how to collide with it.
+            // We'll use a polygon shape to represent a square tile.
+            PolygonShape box = new PolygonShape();
+            // Make the polygon a square with a side length of 1 tile (0.5f extends in each direction from the center).
+            box.setAsBox(0.5f, 0.5f);
+            // Attach the shape to the body as a fixture with default density and friction.
+            body.createFixture(box, 1.0f);
+            // The sensor of the same size detects the objects standing on a bomb
+            FixtureDef sensorDef = new FixtureDef();
+            sensorDef.shape = box;
+            sensorDef.isSensor = true;
+            body.createFixture(sensorDef);
+            // We're done with the shape, so we should dispose of it to free up memory.
+            box.dispose();
+            pooled = new Box2DPhysicsBody(body);
+        }
+        boolean isBomb = owner instanceof Bomb;
+        for (Fixture fixture : body.getFixtureList()) {
+            if (fixture.isSensor()) {
+                // Only bombs track the objects standing on them
+                fixture.setFilterData(createFilter(BOMB_CATEGORY, isBomb ? MOBILE_CATEGORIES : (short) 0));
+            } else {
+                // Stationary objects only collide with mobile objects, bombs can still be passed by their occupants
+                fixture.setFilterData(createFilter(isBomb ? BOMB_CATEGORY : BLOCK_CATEGORY, MOBILE_CATEGORIES));
+            }
+        }
+        if (isBomb) newBombs.add((Bomb) owner); // Armed after the next step
+        // Set the StationaryObject instance as the user data of the body, allowing retrieval of this object from the Box2D body later.
+        body.setUserData(owner);
+        return pooled;
+    }
+
+    /**
+     * Recomputes the mask bits of a mobile object's fixture, e.g. after a player picked up wallpass or bombpass.
+     *
+     * @param owner The mobile object whose rules changed.
+     */
+    @Override
+    public void updateCollisionFilter(MobileObject owner) {
+        updateCollisionFilter(owner, (Box2DPhysicsBody) owner.getHitbox());
+    }
+
+    /**
+     * Recomputes the mask bits of a body of a mobile object that is not its hitbox itself,
+     * e.g. the part of a {@link PartitionedPhysicsBody} in this backend's world.
+     *
+     * @param owner       The mobile object whose rules changed.
+     * @param physicsBody The body of the object in this backend's world.
+     */
+    void updateCollisionFilter(MobileObject owner, Box2DPhysicsBody physicsBody) {
+        Body body = physicsBody.getBody();
+        Filter filter = createMobileFilter(owner);
+        for (Fixture fixture : body.getFixtureList()) {
+            fixture.setFilterData(filter); // Also re-filters the existing contacts of the fixture
+        }
+    }
+
+    /**
+     * Builds the {@link WallCollisionMesh} of the loaded map.
+     *
+     * @param grid  The {@link OccupancyGrid} of the map.
+     * @param walls The walls of the map, indexed by their cell coordinates (x,y string).
+     */
+    @Override
+    public void buildWalls(OccupancyGrid grid, Map<String, StationaryObject> walls) {
+        wallCollisionMesh = new WallCollisionMesh(world, grid, walls, createFilter(WALL_CATEGORY, MOBILE_CATEGORIES)); // Merge the wall hitboxes into a few static bodies
+    }
+
+    /**
+     * Builds the {@link WallCollisionMesh} of a rectangular area of the loaded map,
+     * used by the {@link PartitionedPhysicsBackend} to give each region only the walls it can touch.
+     *
+     * @param grid  The {@link OccupancyGrid} of the map.
+     * @param walls The walls of the map, indexed by their cell coordinates (x,y string).
+     * @param minX  The lowest x-coordinate of the area (inclusive).
+     * @param minY  The lowest y-coordinate of the area (inclusive).
+     * @param maxX  The highest x-coordinate of the area (exclusive).
+     * @param maxY  The highest y-coordinate of the area (exclusive).
+     */
+    void buildWalls(OccupancyGrid grid, Map<String, StationaryObject> walls, int minX, int minY, int maxX, int maxY) {
+        wallCollisionMesh = new WallCollisionMesh(world, grid, walls, createFilter(WALL_CATEGORY, MOBILE_CATEGORIES),
+            minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Removes the fixture of a destroyed destructible wall from its chunk body.
+     *
+     * @param x The x-coordinate of the wall.
+     * @param y The y-coordinate of the wall.
+     */
+    @Override
+    public void removeWall(int x, int y) {
+        if (wallCollisionMesh != null) wallCollisionMesh.removeWall(x, y);
+    }
+
+    /**
+     * Removes a Box2D body immediately.
+     * Static box bodies are deactivated and returned to the pool, all other bodies are destroyed.
+     *
+     * @param body The body to remove.
+     */
+    @Override
+    public void destroyBody(PhysicsBody body) {
+        Box2DPhysicsBody physicsBody = (Box2DPhysicsBody) body;
+        Body box2DBody = physicsBody.getBody();
+        if (box2DBody.getType() == BodyDef.BodyType.StaticBody) {
+            box2DBody.setActive(false); // Removes the body from the broad-phase and drops its contacts
+            box2DBody.setUserData(null);
+            boxPool.push(physicsBody);
+        } else {
+            world.destroyBody(box2DBody);
+        }
+    }
+
+    /**
+     * Queues a Box2D body for destruction before the next physics step,
+     * because the world must not be modified during collision callbacks.
+     *
+     * @param body The body to remove.
+     */
+    @Override
+    public void destroyBodyLater(PhysicsBody body) {
+        contactListener.queueBodyForDestruction(((Box2DPhysicsBody) body).getBody());
+    }
+
+    /**
+     * Destroys the queued bodies, advances the Box2D world by one time step and arms the bombs created before it.
+     *
+     * @param timeStep The length of the step in seconds.
+     */
+    @Override
+    public void step(float timeStep) {
+        destroyQueuedBodies();
+        stepWorld(timeStep);
+        armNewBombs();
+    }
+
+    /**
+     * Destroys the bodies queued with {@link #destroyBodyLater}.
+     */
+    void destroyQueuedBodies() {
+        contactListener.processQueuedDestruction(); // Process bodies queued for destruction from contact listener
+    }
+
+    /**
+     * Advances the Box2D world by one time step, without destroying queued bodies or arming bombs.
+     * Touches nothing but this world and the bombs reported by its contacts, so the worlds of several backends
+     * can be stepped in parallel.
+     *
+     * @param timeStep The length of the step in seconds.
+     */
+    void stepWorld(float timeStep) {
+        world.step(timeStep, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+    }
+
+    /**
+     * Adds the mobile objects overlapping the bombs created before the last step as their occupants and arms the bombs,
+     * so later contacts with their sensors are no longer occupants.
+     * The sensor of a new body has already reported them in the step, but the sensor of a reused body only does so in the
+     * following one, so the bomb's cell is queried as well.
+     */
+    void armNewBombs() {
+        for (int i = 0; i < newBombs.size(); i++) {
+            armedBomb = newBombs.get(i);
+            float x = armedBomb.getX();
+            float y = armedBomb.getY();
+            world.QueryAABB(occupantQuery, x - 0.5f, y - 0.5f, x + 0.5f, y + 0.5f);
+            armedBomb.arm(); // Later contacts with the sensor are no longer occupants
+        }
+        armedBomb = null;
+        newBombs.clear();
+    }
+
+    /**
+     * Called by the world for every fixture near the cell of {@link #armedBomb}.
+     * Mobile objects whose circle overlaps the cell are standing on the bomb since it was placed.
+     *
+     * @param fixture The fixture whose bounding box overlaps the cell.
+     * @return {@code true} to continue the query.
+     */
+    private boolean reportOccupant(Fixture fixture) {
+        if (fixture.getBody().getUserData() instanceof MobileObject mobileObject) {
+            Vector2 position = fixture.getBody().getPosition();
+            float dx = position.x - Math.max(armedBomb.getX() - 0.5f, Math.min(position.x, armedBomb.getX() + 0.5f));
+            float dy = position.y - Math.max(armedBomb.getY() - 0.5f, Math.min(position.y, armedBomb.getY() + 0.5f));
+            if (dx * dx + dy * dy < mobileObject.getRadius() * mobileObject.getRadius()) {
+                armedBomb.addOccupant(mobileObject); // Standing on the bomb since it was placed
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Disposes the Box2D world and all of its bodies.
+     */
+    @Override
+    public void dispose() {
+        world.dispose();
+    }
+
+    /**
+     * Creates the filter of a mobile object according to the {@link CollisionRules}.
+     * Mobile objects never collide with each other, as the {@link GameMap} detects players touching enemies itself.
+     * Walls and bombs are left out of the mask if the object may pass them.
+     *
+     * @param owner The mobile object.
+     * @return The filter for the object's fixture.
+     */
+    private Filter createMobileFilter(MobileObject owner) {
+        boolean isPlayer = owner instanceof Player;
+        int mask = BLOCK_CATEGORY;
+        if (rules.isBlockedByWalls(owner)) mask |= WALL_CATEGORY;
+        if (rules.isBlockedByBombs(owner)) mask |= BOMB_CATEGORY;
+        return createFilter(isPlayer ? PLAYER_CATEGORY : ENEMY_CATEGORY, (short) mask);
+    }
+
+    /**
+     * Creates a filter with the given category and mask bits.
+     *
+     * @param category The category bits of the fixture.
+     * @param mask     The categories the fixture collides with.
+     * @return The filter.
+     */
+    private static Filter createFilter(short category, short mask) {
+        Filter filter = new Filter();
+        filter.categoryBits = category;
+        filter.maskBits = mask;
+        return filter;
+    }
+}
@@ -0,0 +1,91 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * A {@link PhysicsBody} of the {@link Box2DPhysicsBackend}, wrapping a Box2D {@link Body}.
+ */
+public class Box2DPhysicsBody implements PhysicsBody {
+    /**
+     * The wrapped Box2D body.
+     */
+    private final Body body;
+
+    /**
+     * Constructs a new {@code Box2DPhysicsBody}.
+     *
+     * @param body The Box2D body to wrap.
+     */
+    public Box2DPhysicsBody(Body body) {
+        this.body = body;
+    }
+
+    /**
+     * Gets the wrapped Box2D body.
+     *
+     * @return The Box2D {@link Body}.
+     */
+    public Body getBody() {
+        return body;
+    }
+
+    /**
+     * Gets the x-coordinate of the Box2D body's position.
+     *
+     * @return The x-coordinate in world units.
+     */
+    @Override
+    public float getX() {
+        return body.getPosition().x;
+    }
+
+    /**
+     * Gets the y-coordinate of the Box2D body's position.
+     *
+     * @return The y-coordinate in world units.
+     */
+    @Override
+    public float getY() {
+        return body.getPosition().y;
+    }
+
+    /**
+     * Sets the linear velocity of the Box2D body.
+     * Nothing is written if the body already moves with this velocity, so resting bodies are not woken up.
+     *
+     * @param velocityX The velocity in x-direction in world units per second.
+     * @param velocityY The velocity in y-direction in world units per second.
+     */
+    @Override
+    public void setLinearVelocity(float velocityX, float velocityY) {
+        Vector2 velocity = body.getLinearVelocity();
+        if (velocity.x != velocityX || velocity.y != velocityY) {
+            body.setLinearVelocity(velocityX, velocityY);
+        }
+    }
+
+    /**
+     * Teleports the Box2D body to a position, keeping its angle.
+     *
+     * @param x The new x-coordinate in world units.
+     * @param y The new y-coordinate in world units.
+     */
+    @Override
+    public void setPosition(float x, float y) {
+        Vector2 position = body.getPosition();
+        if (position.x != x || position.y != y) {
+            body.setTransform(x, y, body.getAngle()); // Moving the body also updates its contacts, so skip it if possible
+        }
+    }
+
+    /**
+     * Activates or deactivates the Box2D body. Inactive bodies are removed from the broad-phase and are not stepped.
+     *
+     * @param active {@code true} to simulate the body, {@code false} to leave it out.
+     */
+    @Override
+    public void setActive(boolean active) {
+        if (body.isActive() != active) body.setActive(active);
+    }
+}
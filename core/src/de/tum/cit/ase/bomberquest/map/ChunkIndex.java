@@ -0,0 +1,123 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import de.tum.cit.ase.bomberquest.texture.Drawable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A spatial index of drawables that never move, like bombs, blasts and power-ups, by the chunk of
+ * {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} cells they lie in.
+ * The {@link GameMap} adds and removes the objects together with its own collections, so the index is never rebuilt,
+ * and the {@link GameSimulation} only visits the chunks around the renderer's view instead of every object on the map.
+ *
+ * @param <T> The type of the indexed objects.
+ */
+public class ChunkIndex<T extends Drawable> {
+    /**
+     * Side length (in cells) of the chunks.
+     */
+    public static final int CHUNK_SIZE = 16;
+
+    /**
+     * Number of chunks in x-direction.
+     */
+    private final int chunksX;
+    /**
+     * Number of chunks in y-direction.
+     */
+    private final int chunksY;
+    /**
+     * The objects of every chunk, indexed by {@code chunkX + chunkY * chunksX}, {@code null} until the first object is added.
+     */
+    private final List<List<T>> chunks;
+
+    /**
+     * Constructs an empty index for a map.
+     *
+     * @param width  Width of the map in cells.
+     * @param height Height of the map in cells.
+     */
+    public ChunkIndex(int width, int height) {
+        this.chunksX = Math.max((width + CHUNK_SIZE - 1) / CHUNK_SIZE, 1);
+        this.chunksY = Math.max((height + CHUNK_SIZE - 1) / CHUNK_SIZE, 1);
+        this.chunks = new ArrayList<>(chunksX * chunksY);
+        for (int i = 0; i < chunksX * chunksY; i++) {
+            chunks.add(null);
+        }
+    }
+
+    /**
+     * Adds an object at its current position.
+     *
+     * @param object The object, which must not move while it is indexed.
+     */
+    public void add(T object) {
+        int chunk = getChunk(object);
+        List<T> objects = chunks.get(chunk);
+        if (objects == null) {
+            objects = new ArrayList<>();
+            chunks.set(chunk, objects);
+        }
+        objects.add(object);
+    }
+
+    /**
+     * Removes an object. Objects that are not indexed are ignored.
+     *
+     * @param object The object.
+     */
+    public void remove(T object) {
+        List<T> objects = chunks.get(getChunk(object));
+        if (objects != null) objects.remove(object);
+    }
+
+    /**
+     * Appends the objects of all chunks overlapping an area of cells to a list.
+     * Objects near the area may be included as well, as whole chunks are taken.
+     *
+     * @param minX   The lowest x-coordinate of the area (inclusive).
+     * @param minY   The lowest y-coordinate of the area (inclusive).
+     * @param maxX   The highest x-coordinate of the area (inclusive).
+     * @param maxY   The highest y-coordinate of the area (inclusive).
+     * @param result The list the objects are appended to.
+     */
+    public void collect(int minX, int minY, int maxX, int maxY, List<? super T> result) {
+        int firstX = clamp(Math.floorDiv(minX, CHUNK_SIZE), chunksX);
+        int firstY = clamp(Math.floorDiv(minY, CHUNK_SIZE), chunksY);
+        int lastX = clamp(Math.floorDiv(maxX, CHUNK_SIZE), chunksX);
+        int lastY = clamp(Math.floorDiv(maxY, CHUNK_SIZE), chunksY);
+        for (int chunkY = firstY; chunkY <= lastY; chunkY++) {
+            for (int chunkX = firstX; chunkX <= lastX; chunkX++) {
+                List<T> objects = chunks.get(chunkX + chunkY * chunksX);
+                if (objects == null) continue;
+                for (int i = 0; i < objects.size(); i++) {
+                    result.add(objects.get(i)); // Unlike addAll, copies no array
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the chunk an object lies in, clamping objects outside of the map to the nearest chunk.
+     *
+     * @param object The object.
+     * @return The index of the chunk.
+     */
+    private int getChunk(T object) {
+        int chunkX = clamp(Math.floorDiv(Math.round(object.getX()), CHUNK_SIZE), chunksX);
+        int chunkY = clamp(Math.floorDiv(Math.round(object.getY()), CHUNK_SIZE), chunksY);
+        return chunkX + chunkY * chunksX;
+    }
+
+    /**
+     * Clamps a chunk coordinate to the chunks of the map.
+     *
+     * @param chunk The chunk coordinate.
+     * @param count The number of chunks along the axis.
+     * @return The clamped chunk coordinate.
+     */
+    private static int clamp(int chunk, int count) {
+        return Math.max(0, Math.min(chunk, count - 1));
+    }
+}
@@ -0,0 +1,44 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * The game rules for contacts between objects, shared by all {@link PhysicsBackend} implementations.
+ * They decide which contacts with walls and bombs block movement.
+ * Players and enemies never block each other; the {@link GameMap} detects them touching with a {@link MobileObjectIndex},
+ * so the deadly contact works the same with every backend.
+ */
+public class CollisionRules {
+
+    /**
+     * Checks if a bomb blocks the movement of a mobile object.
+     * Bombs do not block objects that still stand on them since they were placed, nor players with the bombpass power-up.
+     * Bombs whose occupants are not known yet block nobody.
+     *
+     * @param mobileObject The moving object.
+     * @param bomb         The bomb in the way.
+     * @return {@code true} if the bomb blocks the object, {@code false} otherwise.
+     */
+    public boolean isBlockedByBomb(MobileObject mobileObject, Bomb bomb) {
+        if (!bomb.isArmed() || bomb.isOccupant(mobileObject)) return false; // The object may still walk off this bomb
+        return isBlockedByBombs(mobileObject);
+    }
+
+    /**
+     * Checks if bombs in general block the movement of a mobile object, regardless of the bombs it currently ignores.
+     *
+     * @param mobileObject The moving object.
+     * @return {@code true} if bombs block the object, {@code false} if it is a player with the bombpass power-up.
+     */
+    public boolean isBlockedByBombs(MobileObject mobileObject) {
+        return !(mobileObject instanceof Player player && player.isBombpass()); // Players with bombpass walk through bombs
+    }
+
+    /**
+     * Checks if walls block the movement of a mobile object.
+     *
+     * @param mobileObject The moving object.
+     * @return {@code true} if walls block the object, {@code false} if it is a player with the wallpass power-up.
+     */
+    public boolean isBlockedByWalls(MobileObject mobileObject) {
+        return !(mobileObject instanceof Player player && player.isWallpass());
+    }
+}
@@ -0,0 +1,297 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plans paths to the nearest player that avoid the paths other enemies have already planned.
+ * It runs an A* search over (cell, time step) states: a cell may not be entered at a time step another enemy
+ * has reserved it for in the {@link ReservationTable}, and two enemies may not swap cells. The walking distance
+ * from the {@link PlayerDistanceField} serves as the heuristic, so a search that meets no reservations walks straight
+ * down the field. Enemies chasing the same player therefore fan out through alternative corridors.
+ * The number of expanded states per frame is bounded by a budget; when it is used up, enemies fall back to the plain field path.
+ */
+public class CooperativePathfinder {
+    /**
+     * Possible movement directions (up, down, right, left), in the same order as used by the {@link Pathfinder}.
+     */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+
+    /**
+     * Reference to the game map, used to check which cells are free.
+     */
+    private final GameMap map;
+    /**
+     * The table holding the reservations of all enemies.
+     */
+    private final ReservationTable reservations;
+    /**
+     * The maximum number of states that may be expanded per frame, shared by all searches.
+     */
+    private final int frameBudget;
+    /**
+     * Width of the map in cells.
+     */
+    private final int width;
+    /**
+     * Number of time steps per cell in the state arrays, the reservation window plus one.
+     */
+    private final int steps;
+    /**
+     * Mask turning a hash into an index of the visited table, whose capacity is a power of two.
+     */
+    private final int tableMask;
+    /**
+     * Open-addressing table of the states reached in the latest search: the state stored in each entry.
+     * A search reaches at most four states per expanded state, so the table is sized from the frame budget, not the map.
+     */
+    private final int[] tableStates;
+    /**
+     * The state the state of each entry was reached from, {@code -1} for the start.
+     */
+    private final int[] tableParents;
+    /**
+     * Stamp of the search in which each entry was last filled, so the table never has to be cleared.
+     */
+    private final int[] tableStamps;
+    /**
+     * Binary heap of states ordered by their priority.
+     */
+    private final int[] heapStates;
+    /**
+     * Priorities of the states in {@link #heapStates}.
+     */
+    private final int[] heapPriorities;
+    /**
+     * Number of states in the heap.
+     */
+    private int heapSize;
+    /**
+     * Stamp of the latest search.
+     */
+    private int currentStamp;
+    /**
+     * Number of states that may still be expanded in the current frame.
+     */
+    private int budgetLeft;
+
+    /**
+     * Constructs a new {@code CooperativePathfinder} for the given map.
+     *
+     * @param map          The {@link GameMap} paths are planned on.
+     * @param reservations The {@link ReservationTable} shared by all enemies.
+     * @param frameBudget  The maximum number of states that may be expanded per frame.
+     */
+    public CooperativePathfinder(GameMap map, ReservationTable reservations, int frameBudget) {
+        this.map = map;
+        this.reservations = reservations;
+        this.frameBudget = frameBudget;
+        this.width = map.getMAX_X() + 1;
+        this.steps = reservations.getWindow() + 1;
+        int maxStates = 1 + DIRECTIONS.length * frameBudget; // The start plus the neighbours of every expanded state
+        int capacity = MathUtils.nextPowerOfTwo(2 * maxStates); // Keeps the table at most half full
+        this.tableMask = capacity - 1;
+        this.tableStates = new int[capacity];
+        this.tableParents = new int[capacity];
+        this.tableStamps = new int[capacity];
+        this.heapStates = new int[maxStates];
+        this.heapPriorities = new int[maxStates];
+        this.budgetLeft = frameBudget;
+    }
+
+    /**
+     * Refills the search budget. Must be called once per frame before the enemies are updated.
+     */
+    public void newFrame() {
+        budgetLeft = frameBudget;
+    }
+
+    /**
+     * Plans a path from a cell towards the nearest player and reserves it for the given owner.
+     * Reservations the owner made for an earlier path are released first.
+     * The path ends at the player's cell, or earlier if the player is further away than the reservation window.
+     *
+     * @param owner The enemy planning the path.
+     * @param x     The x-coordinate of the start cell.
+     * @param y     The y-coordinate of the start cell.
+     * @return A {@link List} of {@link Tile} objects from the start cell onwards, inclusive of the start,
+     * or {@code null} if no path avoiding the other enemies was found within the budget.
+     */
+    public List<Tile> findPath(MobileObject owner, int x, int y) {
+        reservations.releaseAll(owner);
+        PlayerDistanceField field = map.getPlayerDistanceField();
+        int startDistance = field.getDistance(x, y);
+        if (budgetLeft <= 0 || startDistance == PlayerDistanceField.UNREACHED) return null;
+        int slot = reservations.getCurrentSlot();
+        currentStamp++;
+        heapSize = 0;
+        int start = (x + y * width) * steps;
+        visit(start, -1);
+        push(start, priority(0, startDistance));
+
+        while (heapSize > 0) {
+            if (budgetLeft-- <= 0) return null; // Out of budget, the caller falls back to the field path
+            int state = pop();
+            int cell = state / steps;
+            int time = state % steps;
+            int cellX = cell % width;
+            int cellY = cell / width;
+            int distance = field.getDistance(cellX, cellY);
+            if (distance == 0 || time == steps - 1) {
+                List<Tile> path = buildPath(state);
+                reserve(owner, path, slot);
+                return path;
+            }
+            for (int[] dir : DIRECTIONS) {
+                int newX = cellX + dir[0];
+                int newY = cellY + dir[1];
+                // Same bounds as the Pathfinder uses
+                if (newX < 0 || newX >= map.getMAX_X() || newY < 0 || newY >= map.getMAX_Y()) continue;
+                int newDistance = field.getDistance(newX, newY);
+                if (newDistance == PlayerDistanceField.UNREACHED) continue; // Outside the detection range
+                if (newDistance > 0 && !map.isCellFree(newX, newY)) continue; // The player's cell may always be entered
+                int newCell = newX + newY * width;
+                int next = newCell * steps + time + 1;
+                int entry = entryOf(next);
+                if (tableStamps[entry] == currentStamp) continue;
+                if (newDistance > 0) {
+                    MobileObject other = reservations.getOwner(newCell, slot + time + 1);
+                    if (other != null && other != owner) continue; // Someone else will be there
+                    MobileObject oncoming = reservations.getOwner(newCell, slot + time);
+                    if (oncoming != null && oncoming != owner && oncoming == reservations.getOwner(cell, slot + time + 1)) {
+                        continue; // Would swap cells with someone else
+                    }
+                }
+                fill(entry, next, state);
+                push(next, priority(time + 1, newDistance));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reserves the cells of a path at consecutive time slots, except for the player's cell which everyone may enter.
+     *
+     * @param owner The enemy owning the path.
+     * @param path  The planned path.
+     * @param slot  The time slot of the first tile of the path.
+     */
+    private void reserve(MobileObject owner, List<Tile> path, int slot) {
+        PlayerDistanceField field = map.getPlayerDistanceField();
+        for (int i = 0; i < path.size(); i++) {
+            Tile tile = path.get(i);
+            if (field.getDistance(tile.x(), tile.y()) == 0) continue;
+            reservations.reserve(owner, tile.x() + tile.y() * width, slot + i);
+        }
+    }
+
+    /**
+     * Builds the path to a state by following the parent links of the latest search back to the start.
+     *
+     * @param state The final state of the path.
+     * @return A {@link List} of {@link Tile} objects from the start cell to the cell of the final state, inclusive of both.
+     */
+    private List<Tile> buildPath(int state) {
+        List<Tile> path = new ArrayList<>(state % steps + 1);
+        for (int current = state; current != -1; current = tableParents[entryOf(current)]) {
+            int cell = current / steps;
+            path.add(0, new Tile(cell % width, cell / width));
+        }
+        return path;
+    }
+
+    /**
+     * Marks a state as reached in the latest search.
+     *
+     * @param state  The reached state.
+     * @param parent The state it was reached from, {@code -1} for the start.
+     */
+    private void visit(int state, int parent) {
+        fill(entryOf(state), state, parent);
+    }
+
+    /**
+     * Stores a reached state in an entry of the visited table.
+     *
+     * @param entry  The entry, as returned by {@link #entryOf(int)}.
+     * @param state  The reached state.
+     * @param parent The state it was reached from, {@code -1} for the start.
+     */
+    private void fill(int entry, int state, int parent) {
+        tableStamps[entry] = currentStamp;
+        tableStates[entry] = state;
+        tableParents[entry] = parent;
+    }
+
+    /**
+     * Finds the entry of a state in the visited table by linear probing.
+     *
+     * @param state The state.
+     * @return The entry holding the state if it was reached in the latest search, otherwise the free entry it belongs in.
+     */
+    private int entryOf(int state) {
+        int hash = state * 0x9E3779B9; // Spreads neighbouring states over the table
+        int entry = (hash ^ (hash >>> 16)) & tableMask;
+        while (tableStamps[entry] == currentStamp && tableStates[entry] != state) {
+            entry = (entry + 1) & tableMask;
+        }
+        return entry;
+    }
+
+    /**
+     * Computes the priority of a state for the heap: the estimated total path length,
+     * with ties broken in favour of states further along in time.
+     *
+     * @param time     The time step of the state, which equals the cost to reach it.
+     * @param distance The remaining walking distance to the player.
+     * @return The priority, lower is better.
+     */
+    private int priority(int time, int distance) {
+        return (time + distance) * (steps + 1) - time;
+    }
+
+    /**
+     * Adds a state to the heap.
+     *
+     * @param state    The state to add.
+     * @param priority The priority of the state.
+     */
+    private void push(int state, int priority) {
+        int index = heapSize++;
+        while (index > 0) {
+            int parent = (index - 1) >> 1;
+            if (heapPriorities[parent] <= priority) break;
+            heapStates[index] = heapStates[parent];
+            heapPriorities[index] = heapPriorities[parent];
+            index = parent;
+        }
+        heapStates[index] = state;
+        heapPriorities[index] = priority;
+    }
+
+    /**
+     * Removes the state with the lowest priority from the heap.
+     *
+     * @return The removed state.
+     */
+    private int pop() {
+        int top = heapStates[0];
+        int lastState = heapStates[--heapSize];
+        int lastPriority = heapPriorities[heapSize];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapPriorities[child + 1] < heapPriorities[child]) child++;
+            if (heapPriorities[child] >= lastPriority) break;
+            heapStates[index] = heapStates[child];
+            heapPriorities[index] = heapPriorities[child];
+            index = child;
+        }
+        heapStates[index] = lastState;
+        heapPriorities[index] = lastPriority;
+        return top;
+    }
+}
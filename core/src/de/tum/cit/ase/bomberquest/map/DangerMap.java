@@ -0,0 +1,402 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Predicts, for every cell of the {@link GameMap}, when it will be covered by flames from the bombs that are already placed.
+ * The prediction includes chain reactions: a bomb caught in the flames of another bomb detonates together with it.
+ * Flame times are stored as absolute game times, so the prediction stays valid while the game time advances
+ * and only has to be rebuilt when bombs are placed, bombs explode or blasts end.
+ * Enemies query it in constant time to avoid walking into cells that are about to burn.
+ */
+public class DangerMap {
+    /**
+     * Returned for cells that will not be covered by flames from any of the current bombs.
+     */
+    public static final float SAFE = Float.POSITIVE_INFINITY;
+    /**
+     * Possible movement directions (up, down, right, left), in the same order as used by the {@link Pathfinder}.
+     */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+
+    /**
+     * Reference to the game map, used to check which cells are free and which contain walls.
+     */
+    private final GameMap map;
+    /**
+     * Width of the danger map in cells.
+     */
+    private final int width;
+    /**
+     * Height of the danger map in cells.
+     */
+    private final int height;
+    /**
+     * Absolute game time at which each cell will be covered by flames, valid only where {@link #stamps} matches {@link #currentStamp}.
+     */
+    private final float[] flameTimes;
+    /**
+     * Stamp of the rebuild in which each cell was last covered, so the flame times never have to be cleared.
+     */
+    private final int[] stamps;
+    /**
+     * Index (into {@link #pendingBombs}) of the bomb lying on each cell, valid only where {@link #bombStamps} matches {@link #currentStamp}.
+     */
+    private final int[] bombAt;
+    /**
+     * Stamp of the rebuild in which a bomb was found on each cell.
+     */
+    private final int[] bombStamps;
+    /**
+     * Stamp of the rebuild in which each destructible wall was found to be destroyed by an earlier detonation.
+     */
+    private final int[] wallStamps;
+    /**
+     * Reusable BFS queue holding cell indices for escape path searches.
+     */
+    private final int[] queue;
+    /**
+     * Index of the cell each cell was reached from in the latest escape search.
+     */
+    private final int[] parents;
+    /**
+     * Stamp of the escape search in which each cell was last visited.
+     */
+    private final int[] visited;
+    /**
+     * The bombs of the latest rebuild, in no particular order.
+     */
+    private final List<Bomb> pendingBombs;
+    /**
+     * Predicted detonation time of each bomb of the latest rebuild, after chain reactions.
+     */
+    private float[] detonationTimes;
+    /**
+     * Stamp of the rebuild in which each bomb of the latest rebuild has detonated, indexed like {@link #detonationTimes}.
+     */
+    private int[] detonatedStamps;
+    /**
+     * Binary min-heap of bomb indices ordered by detonation time. A bomb pulled forward by a chain reaction is pushed again,
+     * the outdated entry is skipped when it comes up.
+     */
+    private int[] heapBombs;
+    /**
+     * Detonation times of the entries in {@link #heapBombs}.
+     */
+    private float[] heapTimes;
+    /**
+     * Number of entries in the heap.
+     */
+    private int heapSize;
+    /**
+     * Stamp of the latest rebuild.
+     */
+    private int currentStamp;
+    /**
+     * Stamp of the latest escape search.
+     */
+    private int searchStamp;
+    /**
+     * The game time of the latest update.
+     */
+    private float now;
+    /**
+     * Flag to indicate that bombs or blasts have changed and the prediction has to be rebuilt.
+     */
+    private boolean dirty;
+
+    /**
+     * Constructs a new {@code DangerMap} covering the whole map.
+     *
+     * @param map The {@link GameMap} the danger is predicted for.
+     */
+    public DangerMap(GameMap map) {
+        this.map = map;
+        this.width = map.getMAX_X() + 1;
+        this.height = map.getMAX_Y() + 1;
+        this.flameTimes = new float[width * height];
+        this.stamps = new int[width * height];
+        this.bombAt = new int[width * height];
+        this.bombStamps = new int[width * height];
+        this.wallStamps = new int[width * height];
+        this.queue = new int[width * height];
+        this.parents = new int[width * height];
+        this.visited = new int[width * height];
+        this.pendingBombs = new ArrayList<>();
+        this.detonationTimes = new float[0];
+        this.detonatedStamps = new int[0];
+        this.heapBombs = new int[16];
+        this.heapTimes = new float[16];
+        this.dirty = true;
+    }
+
+    /**
+     * Marks the prediction as outdated. Must be called whenever a bomb is placed or explodes, or a blast ends.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Advances the game time of the prediction and rebuilds it if it has been marked as outdated.
+     *
+     * @param bombs  All bombs currently on the map.
+     * @param blasts All blasts currently on the map.
+     * @param time   The current game time in seconds.
+     */
+    public void update(Collection<Bomb> bombs, List<Blast> blasts, float time) {
+        now = time;
+        if (!dirty) return;
+        dirty = false;
+        currentStamp++;
+
+        // Cells that are burning right now
+        for (Blast blast : blasts) {
+            if (!blast.isFinished()) cover(blast.getCellX(), blast.getCellY(), now);
+        }
+
+        // Every bomb detonates when its fuse runs out, or right away if it lies in a burning cell
+        pendingBombs.clear();
+        pendingBombs.addAll(bombs);
+        if (detonationTimes.length < pendingBombs.size()) {
+            detonationTimes = new float[pendingBombs.size() * 2];
+            detonatedStamps = new int[pendingBombs.size() * 2];
+        }
+        heapSize = 0;
+        for (int i = 0; i < pendingBombs.size(); i++) {
+            Bomb bomb = pendingBombs.get(i);
+            detonationTimes[i] = now + bomb.getRemainingFuse();
+            float burning = getFlameTime(bomb.getCellX(), bomb.getCellY());
+            if (burning < detonationTimes[i]) detonationTimes[i] = burning;
+            if (isInside(bomb.getCellX(), bomb.getCellY())) {
+                int index = bomb.getCellX() + bomb.getCellY() * width;
+                bombAt[index] = i;
+                bombStamps[index] = currentStamp;
+            }
+            push(i, detonationTimes[i]);
+        }
+
+        // Relax chain reactions: detonate the bombs in order of time, pulling forward bombs caught in the flames
+        while (heapSize > 0) {
+            int next = pop();
+            if (detonatedStamps[next] == currentStamp) continue; // Outdated entry of a bomb pulled forward
+            detonatedStamps[next] = currentStamp;
+            Bomb bomb = pendingBombs.get(next);
+            float detonation = detonationTimes[next];
+            cover(bomb.getCellX(), bomb.getCellY(), detonation);
+            for (int[] dir : DIRECTIONS) {
+                spreadFlame(bomb.getCellX(), bomb.getCellY(), dir[0], dir[1], bomb.getBlastRadius(), detonation);
+            }
+        }
+    }
+
+    /**
+     * Gets the time left until a cell will be covered by flames.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The time in seconds, {@code 0} if the cell is burning right now, or {@link #SAFE} if no flame will reach it.
+     */
+    public float getTimeUntilFlame(int x, int y) {
+        float flameTime = getFlameTime(x, y);
+        return flameTime == SAFE ? SAFE : Math.max(flameTime - now, 0);
+    }
+
+    /**
+     * Checks if a cell will be covered by flames from any of the current bombs or blasts.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell is or will be burning, {@code false} otherwise.
+     */
+    public boolean isDangerous(int x, int y) {
+        return getFlameTime(x, y) != SAFE;
+    }
+
+    /**
+     * Searches the shortest path from a cell to the nearest cell that no flame will reach.
+     * A cell on the way may only be entered if the flames reach it later than the walker does.
+     *
+     * @param x              The x-coordinate of the start cell.
+     * @param y              The y-coordinate of the start cell.
+     * @param secondsPerCell The time the walker needs to move from one cell to the next.
+     * @param maxSteps       The maximum length of the path in cells.
+     * @return A {@link List} of {@link Tile} objects from the start cell to the safe cell, inclusive of both,
+     * or {@code null} if no safe cell can be reached in time.
+     */
+    public List<Tile> findEscapePath(int x, int y, float secondsPerCell, int maxSteps) {
+        if (!isInside(x, y)) return null;
+        searchStamp++;
+        int start = x + y * width;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited[start] = searchStamp;
+        parents[start] = -1;
+        int steps = 0;
+        while (head < tail && steps <= maxSteps) {
+            int levelEnd = tail;
+            while (head < levelEnd) {
+                int index = queue[head++];
+                int cellX = index % width;
+                int cellY = index / width;
+                if (!isDangerous(cellX, cellY)) return buildPath(index);
+                for (int[] dir : DIRECTIONS) {
+                    int newX = cellX + dir[0];
+                    int newY = cellY + dir[1];
+                    // Same bounds as the Pathfinder uses
+                    if (newX < 0 || newX >= map.getMAX_X() || newY < 0 || newY >= map.getMAX_Y()) continue;
+                    int neighbor = newX + newY * width;
+                    if (visited[neighbor] == searchStamp || !map.isCellFree(newX, newY)) continue;
+                    // Leave the cell again before it starts burning
+                    if (getTimeUntilFlame(newX, newY) <= (steps + 2) * secondsPerCell) continue;
+                    visited[neighbor] = searchStamp;
+                    parents[neighbor] = index;
+                    queue[tail++] = neighbor;
+                }
+            }
+            steps++;
+        }
+        return null;
+    }
+
+    /**
+     * Builds the path to a cell by following the parent links of the latest escape search back to the start.
+     *
+     * @param index The index of the target cell.
+     * @return A {@link List} of {@link Tile} objects from the start cell to the target cell, inclusive of both.
+     */
+    private List<Tile> buildPath(int index) {
+        List<Tile> path = new ArrayList<>();
+        for (int current = index; current != -1; current = parents[current]) {
+            path.add(0, new Tile(current % width, current / width));
+        }
+        return path;
+    }
+
+    /**
+     * Spreads the flame of a bomb in one direction, the same way {@link GameMap} releases a blast:
+     * indestructible walls stop the flame, destructible walls are covered and stop it, power-ups and bombs do not stop it.
+     * Destructible walls destroyed by an earlier detonation no longer stop the flame.
+     *
+     * @param x      The x-coordinate of the bomb.
+     * @param y      The y-coordinate of the bomb.
+     * @param dx     The x-direction of the flame.
+     * @param dy     The y-direction of the flame.
+     * @param radius The blast radius of the bomb.
+     * @param time   The detonation time of the bomb.
+     */
+    private void spreadFlame(int x, int y, int dx, int dy, int radius, float time) {
+        OccupancyGrid grid = map.getOccupancyGrid();
+        for (int i = 1; i <= radius; i++) {
+            int currentX = x + i * dx;
+            int currentY = y + i * dy;
+            if (!isInside(currentX, currentY)) return;
+            int index = currentX + currentY * width;
+            byte wall = grid.get(currentX, currentY);
+            if (wall == OccupancyGrid.INDESTRUCTIBLE) return;
+            cover(currentX, currentY, time);
+            if (bombStamps[index] == currentStamp) {
+                int bomb = bombAt[index];
+                if (detonationTimes[bomb] > time) {
+                    detonationTimes[bomb] = time; // Chain reaction
+                    push(bomb, time);
+                }
+            }
+            if (wall == OccupancyGrid.DESTRUCTIBLE && wallStamps[index] != currentStamp) {
+                wallStamps[index] = currentStamp; // Bombs are processed in order of time, so later flames find the wall destroyed
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds a bomb to the heap, growing it if needed.
+     *
+     * @param bomb The index of the bomb.
+     * @param time The detonation time of the bomb.
+     */
+    private void push(int bomb, float time) {
+        if (heapSize == heapBombs.length) {
+            heapBombs = Arrays.copyOf(heapBombs, heapSize * 2);
+            heapTimes = Arrays.copyOf(heapTimes, heapSize * 2);
+        }
+        int index = heapSize++;
+        while (index > 0) {
+            int parent = (index - 1) >> 1;
+            if (heapTimes[parent] <= time) break;
+            heapBombs[index] = heapBombs[parent];
+            heapTimes[index] = heapTimes[parent];
+            index = parent;
+        }
+        heapBombs[index] = bomb;
+        heapTimes[index] = time;
+    }
+
+    /**
+     * Removes the bomb with the earliest detonation time from the heap.
+     *
+     * @return The index of the removed bomb.
+     */
+    private int pop() {
+        int top = heapBombs[0];
+        int lastBomb = heapBombs[--heapSize];
+        float lastTime = heapTimes[heapSize];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapTimes[child + 1] < heapTimes[child]) child++;
+            if (heapTimes[child] >= lastTime) break;
+            heapBombs[index] = heapBombs[child];
+            heapTimes[index] = heapTimes[child];
+            index = child;
+        }
+        heapBombs[index] = lastBomb;
+        heapTimes[index] = lastTime;
+        return top;
+    }
+
+    /**
+     * Records that a cell will be covered by flames at the given time, keeping the earliest time.
+     *
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @param time The absolute game time the flames reach the cell.
+     */
+    private void cover(int x, int y, float time) {
+        if (!isInside(x, y)) return;
+        int index = x + y * width;
+        if (stamps[index] != currentStamp || flameTimes[index] > time) {
+            stamps[index] = currentStamp;
+            flameTimes[index] = time;
+        }
+    }
+
+    /**
+     * Gets the absolute game time at which a cell will be covered by flames.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The absolute time, or {@link #SAFE} if no flame will reach the cell.
+     */
+    private float getFlameTime(int x, int y) {
+        if (!isInside(x, y)) return SAFE;
+        int index = x + y * width;
+        return stamps[index] == currentStamp ? flameTimes[index] : SAFE;
+    }
+
+    /**
+     * Checks if a cell lies within the danger map.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell is inside the danger map, {@code false} otherwise.
+     */
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
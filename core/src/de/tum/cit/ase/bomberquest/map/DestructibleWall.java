@@ -1,15 +1,14 @@
 package de.tum.cit.ase.bomberquest.map;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 import de.tum.cit.ase.bomberquest.texture.Textures;
 
 /**
  * Represents destructible wall tiles in the game map.
  * Destructible walls are a type of {@link StationaryObject} that can be destroyed by explosions.
- * They have a hitbox for collision detection and can optionally contain a {@link WallContentType}
+ * They collide through the wall geometry of the {@link PhysicsBackend} and can optionally contain a {@link WallContentType}
  * which determines what item, if any, is revealed when the wall is destroyed.
  */
 public class DestructibleWall extends StationaryObject implements Drawable {
@@ -17,35 +16,30 @@ public class DestructibleWall extends StationaryObject implements Drawable {
      * The type of content that this destructible wall may contain when destroyed.
      * Defaults to {@link WallContentType#EMPTY} if no content is specified.
      */
-    private final WallContentType wallContentType;
-    /**
-     * The Box2D body representing the hitbox of the destructible wall.
-     * Inherited from {@link StationaryObject}.
-     */
-    private Body hitbox; // While this is declared, it's actually managed by StationaryObject
+    private WallContentType wallContentType;
 
     /**
      * Constructs a new DestructibleWall object with no content.
      *
-     * @param world The Box2D world where the wall's hitbox will be created.
-     * @param x     The x-coordinate of the wall in game units.
-     * @param y     The y-coordinate of the wall in game units.
+     * @param physics The physics simulation the wall belongs to.
+     * @param x       The x-coordinate of the wall in game units.
+     * @param y       The y-coordinate of the wall in game units.
      */
-    public DestructibleWall(World world, int x, int y) {
-        super(world, x, y, true);
+    public DestructibleWall(PhysicsBackend physics, int x, int y) {
+        super(physics, x, y, false); // Collisions are handled by the wall geometry of the physics backend
         wallContentType = WallContentType.EMPTY;
     }
 
     /**
      * Constructs a new DestructibleWall object with specified content.
      *
-     * @param world           The Box2D world where the wall's hitbox will be created.
+     * @param physics         The physics simulation the wall belongs to.
      * @param x               The x-coordinate of the wall in game units.
      * @param y               The y-coordinate of the wall in game units.
      * @param wallContentType The type of content to be contained within this wall.
      */
-    public DestructibleWall(World world, int x, int y, WallContentType wallContentType) {
-        super(world, x, y, true);
+    public DestructibleWall(PhysicsBackend physics, int x, int y, WallContentType wallContentType) {
+        super(physics, x, y, false); // Collisions are handled by the wall geometry of the physics backend
         this.wallContentType = wallContentType;
     }
 
@@ -58,6 +52,27 @@ public WallContentType getWallContentType() {
         return wallContentType;
     }
 
+    /**
+     * Sets the content type of this destructible wall.
+     * Used while loading the map to hide the exit and power-ups in existing walls without recreating them.
+     *
+     * @param wallContentType The {@link WallContentType} revealed when the wall is destroyed.
+     */
+    public void setWallContentType(WallContentType wallContentType) {
+        this.wallContentType = wallContentType;
+    }
+
+    /**
+     * Removes the wall's collision geometry from the physics simulation.
+     *
+     * @param physics The {@link PhysicsBackend} from which the wall should be removed.
+     */
+    @Override
+    public void destroy(PhysicsBackend physics) {
+        physics.removeWall(getCellX(), getCellY());
+        super.destroy(physics);
+    }
+
     /**
      * Gets the current texture region representing the visual appearance of the destructible wall.
      *
@@ -67,4 +82,14 @@ public WallContentType getWallContentType() {
     public TextureRegion getCurrentAppearance() {
         return Textures.DESTRUCTIBLE_WALL;
     }
+
+    /**
+     * Gets the flat color representing the destructible wall in zoomed-out views.
+     *
+     * @return {@link Color#BROWN}.
+     */
+    @Override
+    public Color getMapColor() {
+        return Color.BROWN;
+    }
 }
\ No newline at end of file
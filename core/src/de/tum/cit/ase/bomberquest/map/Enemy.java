@@ -1,8 +1,8 @@
 package de.tum.cit.ase.bomberquest.map;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.World;
+import de.tum.cit.ase.bomberquest.ai.AlienArchetype;
 import de.tum.cit.ase.bomberquest.texture.Animations;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 import de.tum.cit.ase.bomberquest.texture.Textures;
@@ -15,9 +15,28 @@
  * Represents an enemy character in the game.
  * Enemies are mobile objects that can navigate the game map, potentially place bombs, and attempt to find and reach players.
  * They extend {@link MobileObject} and thus inherit movement capabilities and collision detection.
- * Enemies can be configured to either actively seek out players or move randomly, and also whether they can place bombs.
+ * What an enemy does every tick is decided by the behaviour tree of its {@link AlienArchetype},
+ * which is shared by all enemies of that archetype and uses the enemy as its blackboard.
+ * The enemy itself only provides the building blocks (detecting, chasing, wandering, bombing) the trees are made of.
  */
 public class Enemy extends MobileObject implements Drawable {
+    /**
+     * Walking distance (in cells) within which the enemy will detect players and start pathfinding towards them.
+     * The {@link PlayerDistanceField} of the map is computed up to this distance.
+     */
+    public static final int DETECTION_RANGE = 5; // Adjust as needed
+    /**
+     * Walking distance (in cells) within which the enemy hears players even without a clear line of sight.
+     */
+    public static final int HEARING_RANGE = 2;
+    /**
+     * Maximum length (in cells) of a path the enemy searches to get out of the reach of flames.
+     */
+    public static final int ESCAPE_RANGE = 6;
+    /**
+     * Movement speed of enemies in cells per second.
+     */
+    public static final int SPEED = 1;
     /**
      * Random number generator for making decisions, such as choosing movement directions.
      */
@@ -26,22 +45,14 @@ public class Enemy extends MobileObject implements Drawable {
      * Reference to the game map, allowing the enemy to perceive its surroundings and make informed decisions about movement and pathfinding.
      */
     private final GameMap map;
-    /**
-     * Radius around the enemy within which it will detect players and start pathfinding towards them.
-     */
-    private final float DETECTION_RADIUS = 5f; // Adjust as needed
     /**
      * Threshold for considering the enemy to have reached a cell, used to handle floating-point inaccuracies and ensure smooth movement.
      */
     private final float reachedCellThreshold = 0.03f;
     /**
-     * Flag determining if this enemy is capable of finding and pathfinding to the player.
-     */
-    private final boolean canFindPlayer;
-    /**
-     * Flag determining if this enemy is capable of placing bombs.
+     * The archetype of this enemy, whose behaviour tree decides what the enemy does every tick.
      */
-    private final boolean canPlaceBombs;
+    private final AlienArchetype archetype;
     /**
      * Flag to indicate if the enemy has reached its current target cell, used for smooth movement between grid cells.
      */
@@ -71,44 +82,69 @@ public class Enemy extends MobileObject implements Drawable {
      */
     private boolean trapped;
     /**
-     * List of tiles representing the calculated path to the player.
-     * This path is generated by the {@link Pathfinder}.
+     * Flag to indicate if the enemy had to turn back in its last direction choice, because no other direction was free.
      */
-    private List<Tile> pathToPlayer;
+    private boolean cornered;
     /**
-     * Index of the next tile in the {@code pathToPlayer} list that the enemy should move to.
+     * List of tiles representing the path the enemy is currently following.
+     * A path to the player is read from the {@link PlayerDistanceField} of the map,
+     * a path out of danger is searched in the {@link DangerMap} of the map.
+     */
+    private List<Tile> path;
+    /**
+     * Flag to indicate that the current {@code path} leads out of danger instead of to a player.
+     */
+    private boolean fleeing;
+    /**
+     * Index of the next tile in the {@code path} list that the enemy should move to.
      */
     private int pathIndex;
+    /**
+     * Flag indicating that the enemy is too far from any player to be simulated, see {@link ActivityPolicy}.
+     */
+    private boolean dormant;
 
     /**
      * Constructs a new Enemy object.
      *
-     * @param world         The Box2D world to which the enemy's hitbox will be added.
+     * @param physics       The physics simulation to which the enemy's hitbox will be added.
      * @param x             The starting x-coordinate of the enemy in world units.
      * @param y             The starting y-coordinate of the enemy in world units.
      * @param map           The game map that the enemy is part of.
      * @param canFindPlayer {@code true} if the enemy can detect and pathfind to players, {@code false} otherwise.
      * @param canPlaceBombs {@code true} if the enemy is capable of placing bombs, {@code false} otherwise.
      */
-    public Enemy(World world, float x, float y, GameMap map, boolean canFindPlayer, boolean canPlaceBombs) {
-        super(world, x, y, 1, 0.45f);
+    public Enemy(PhysicsBackend physics, float x, float y, GameMap map, boolean canFindPlayer, boolean canPlaceBombs) {
+        this(physics, x, y, map, AlienArchetype.of(canFindPlayer, canPlaceBombs));
+    }
+
+    /**
+     * Constructs a new Enemy object of a given archetype.
+     *
+     * @param physics   The physics simulation to which the enemy's hitbox will be added.
+     * @param x         The starting x-coordinate of the enemy in world units.
+     * @param y         The starting y-coordinate of the enemy in world units.
+     * @param map       The game map that the enemy is part of.
+     * @param archetype The {@link AlienArchetype} whose behaviour tree controls the enemy.
+     */
+    public Enemy(PhysicsBackend physics, float x, float y, GameMap map, AlienArchetype archetype) {
+        super(physics, map.nextMobileId(), x, y, SPEED, 0.45f);
         this.map = map;
         reachedCell = true;
         trapped = false;
-        this.pathToPlayer = null;
+        cornered = false;
+        this.path = null;
+        this.fleeing = false;
         this.pathIndex = 0;
         previousX = x;
         previousY = y;
-        this.canFindPlayer = canFindPlayer;
-        this.canPlaceBombs = canPlaceBombs;
+        this.archetype = archetype;
     }
 
     /**
      * Updates the enemy's state every frame.
-     * This includes movement logic, pathfinding if the player is within detection radius,
-     * and handling death animation and status.
-     * The enemy will either try to move towards a player if detected and pathfinding is enabled,
-     * or move randomly in free directions. If the enemy gets stuck, it will attempt to change direction.
+     * This keeps the enemy aligned to the grid, detects when it is stuck, handles death animation and status,
+     * and then lets the behaviour tree of its {@link AlienArchetype} decide how to move.
      *
      * @param frameTime The time elapsed since the last frame in seconds.
      */
@@ -116,6 +152,7 @@ public Enemy(World world, float x, float y, GameMap map, boolean canFindPlayer,
     public void tick(float frameTime) {
         increaseElapsedTime(frameTime);
         if (isAlive()) {
+            if (dormant) return; // Sleeping enemies keep their place until a player or a bomb comes near
             nothingChangedTime += frameTime;
             // Check if the enemy has moved since the last tick
             if (Math.abs(getX() - previousX) > reachedCellThreshold || Math.abs(getY() - previousY) > reachedCellThreshold) {
@@ -127,90 +164,208 @@ public void tick(float frameTime) {
             if (nothingChangedTime >= 0.2f) {
                 nothingChangedTime = 0;
                 reachedCell = true;
-                pathToPlayer = null; // Invalidate path to recalculate or choose new direction
+                path = null; // Invalidate path to recalculate or choose new direction
             }
             // If target cell or current cell becomes blocked, invalidate path and recalculate direction
             if (!map.isCellFree(targetX, targetY) || !map.isCellFree(getCellX(), getCellY())) {
-                pathToPlayer = null;
+                path = null;
                 reachedCell = true;
             }
             // If enemy is far from target cell even after some time, force recalculation
             if (Math.abs(getX() - targetX) > 1f - reachedCellThreshold && Math.abs(getY() - targetY) > 1f - reachedCellThreshold && nothingChangedTime > 0.3) {
                 reachedCell = true;
-                pathToPlayer = null;
+                path = null;
             }
 
             // Snap enemy to grid cell if close enough to target cell to ensure grid alignment
             if (Math.abs(getX() - targetX) < reachedCellThreshold && Math.abs(getY() - targetY) < reachedCellThreshold) {
                 reachedCell = true;
-                getHitbox().setTransform(getCellX(), getCellY(), getHitbox().getAngle());
+                getHitbox().setPosition(getCellX(), getCellY());
             }
 
-            // Calculate distances to player 1 and player 2 (if exists)
-            float distanceToPlayer1 = Vector2.dst(getX(), getY(), map.getPlayer1().getX(), map.getPlayer1().getY());
-            float distanceToPlayer2 = (map.getPlayer2() != null) ? Vector2.dst(getX(), getY(), map.getPlayer2().getX(), map.getPlayer2().getY()) : -1;
-
-            // Check if any player is within detection radius and if enemy can pathfind
-            if ((distanceToPlayer1 < DETECTION_RADIUS || (distanceToPlayer2 < DETECTION_RADIUS && distanceToPlayer2 >= 0)) && canFindPlayer) {
-                if (reachedCell) { // Only recalculate path or choose new direction if reached the cell
-                    if (pathToPlayer == null || pathToPlayer.isEmpty()) {
-                        if (distanceToPlayer1 < DETECTION_RADIUS)
-                            findPathToPlayer(map.getPlayer1()); // Pathfind to player 1 if closer or player 2 doesn't exist
-                        else findPathToPlayer(map.getPlayer2()); // Otherwise pathfind to player 2
-                    }
-                    if (pathToPlayer != null && !pathToPlayer.isEmpty()) {
-                        followPath(); // Follow the calculated path to the player
-                    } else {
-                        // If no path found, fall back to random movement
-                        setDirection(selectFreeDirection());
-                        if (!trapped) {
-                            reachedCell = false; // Allow movement in the new random direction
-                        }
-                    }
-                }
-                moveInDirection(); // Move in the determined direction (path following or random)
-            } else {
-                pathToPlayer = null; // Player is out of range, clear any existing path
-                // Player is out of range, resume random movement
-                if (reachedCell) {
-                    setDirection(selectFreeDirection()); // Choose a new random direction
-                    if (!trapped) {
-                        reachedCell = false; // Allow movement in the new random direction
-                    }
-                }
-                moveInDirection(); // Move in the randomly chosen direction
-            }
+            archetype.step(this); // Let the shared behaviour tree decide what to do
         } else if (!isAlive() && getElapsedTime() >= 1.05f && !isDead()) setDead(); // Handle death animation completion
     }
 
     /**
-     * Finds and sets the path to the specified player using the {@link Pathfinder}.
+     * Puts the enemy to sleep or wakes it up.
+     * A dormant enemy stops, its body leaves the physics simulation and its behaviour tree is not stepped.
+     * On waking up, its old path is dropped, so it plans again from where it stands.
+     *
+     * @param dormant {@code true} to put the enemy to sleep, {@code false} to wake it up.
+     */
+    public void setDormant(boolean dormant) {
+        if (this.dormant == dormant) return;
+        this.dormant = dormant;
+        if (dormant) {
+            setDirection(DirectionType.NONE);
+            getHitbox().setLinearVelocity(0, 0);
+            getHitbox().setActive(false);
+        } else {
+            getHitbox().setActive(true);
+            path = null; // The world changed while sleeping
+            reachedCell = true;
+            nothingChangedTime = 0;
+            previousX = getX();
+            previousY = getY();
+        }
+    }
+
+    /**
+     * Checks if the enemy is dormant.
+     *
+     * @return {@code true} if the enemy is asleep, {@code false} if it is simulated.
+     */
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * Checks if the enemy detects a player.
+     * The nearest player is looked up in the shared {@link PlayerDistanceField} of the map. Within the detection range,
+     * the player is detected if it is within the hearing range or if no wall lies between the enemy and the player.
+     * An enemy that is already following a path to a player keeps tracking it until the path is used up,
+     * so it does not give up as soon as the player turns around a corner.
+     *
+     * @return {@code true} if a player is detected, {@code false} otherwise.
+     */
+    public boolean isPlayerDetected() {
+        PlayerDistanceField field = map.getPlayerDistanceField();
+        Player nearest = field.getNearestPlayer(getCellX(), getCellY());
+        if (nearest == null) return false; // No player within the detection range
+        if (path != null && !fleeing && !path.isEmpty()) return true; // Still tracking the player
+        if (field.getDistance(getCellX(), getCellY()) <= HEARING_RANGE) return true; // Close enough to hear the player
+        return map.canSee(getCellX(), getCellY(), nearest.getCellX(), nearest.getCellY());
+    }
+
+    /**
+     * Moves the enemy along its path to the nearest player for this tick.
+     * Once the enemy has reached a cell, a new path is looked up if the old one is used up or invalid.
+     *
+     * @return {@code true} if the enemy is following a path to a player, {@code false} if no path exists.
+     */
+    public boolean chasePlayer() {
+        if (fleeing) { // Out of danger, the escape path is no longer needed
+            path = null;
+            fleeing = false;
+        }
+        if (reachedCell) { // Only recalculate path if reached the cell
+            if (path == null || path.isEmpty()) {
+                findPathToNearestPlayer(); // Pathfind to whichever player is closest
+            }
+            if (path == null || path.isEmpty()) {
+                return false; // No path found, let the tree fall back to another behaviour
+            }
+            followPath(); // Follow the calculated path to the player
+        } else if (path == null) {
+            return false; // Currently on a random move, keep wandering until the cell is reached
+        }
+        moveInDirection(); // Move in the determined direction
+        return true;
+    }
+
+    /**
+     * Moves the enemy in random free directions for this tick.
+     * Once the enemy has reached a cell, a new random free direction is chosen.
+     */
+    public void wander() {
+        path = null; // Not chasing, clear any existing path
+        fleeing = false;
+        cornered = false;
+        if (reachedCell) {
+            setDirection(selectFreeDirection()); // Choose a new random direction
+            if (!trapped) {
+                reachedCell = false; // Allow movement in the new random direction
+            }
+        }
+        moveInDirection(); // Move in the randomly chosen direction
+    }
+
+    /**
+     * Checks if the enemy stands in a cell that is burning or will be covered by flames from the bombs on the map.
      *
-     * @param player The player to find a path to.
+     * @return {@code true} if the enemy is in danger, {@code false} otherwise.
      */
-    private void findPathToPlayer(Player player) {
-        Tile startTile = new Tile(getCellX(), getCellY()); // Enemy's current tile
-        Tile targetTile = new Tile(player.getCellX(), player.getCellY()); // Player's current tile
-        this.pathToPlayer = Pathfinder.findPath(startTile, targetTile, map); // Calculate path
+    public boolean isInDanger() {
+        return map.getDangerMap().isDangerous(getCellX(), getCellY());
+    }
+
+    /**
+     * Moves the enemy along a path out of the reach of flames for this tick.
+     * Once the enemy has reached a cell, a new escape path is searched in the map's {@link DangerMap} if the old one is used up or invalid.
+     *
+     * @return {@code true} if the enemy is following a path out of danger, {@code false} if no safe cell can be reached in time.
+     */
+    public boolean fleeDanger() {
+        if (!fleeing) path = null; // Getting out of danger comes before chasing a player
+        if (reachedCell) {
+            if (path == null || path.isEmpty()) {
+                path = map.getDangerMap().findEscapePath(getCellX(), getCellY(), 1f / getSpeed(), ESCAPE_RANGE);
+                pathIndex = 1; // The first tile is the current cell, which may hold the enemy's own bomb
+                fleeing = path != null;
+            }
+            if (path == null) {
+                return false; // No way out, let the tree fall back to another behaviour
+            }
+            followPath(); // Follow the escape path
+        } else if (path == null) {
+            return false; // Currently on another move, keep it up until the cell is reached
+        }
+        moveInDirection(); // Move in the determined direction
+        return true;
+    }
+
+    /**
+     * Checks if the enemy got cornered in its last direction choice, meaning it had to turn back.
+     *
+     * @return {@code true} if the enemy is cornered, {@code false} otherwise.
+     */
+    public boolean isCornered() {
+        return cornered;
+    }
+
+    /**
+     * Places a bomb on the enemy's current cell, if possible.
+     */
+    public void placeBomb() {
+        map.placeBomb(this);
+    }
+
+    /**
+     * Finds and sets the path to the nearest player.
+     * The path is planned around the paths of other enemies by the map's {@link CooperativePathfinder}, so that enemies
+     * chasing the same player spread out. If that fails, the path is read from the map's {@link PlayerDistanceField}.
+     */
+    private void findPathToNearestPlayer() {
+        this.path = map.getCooperativePathfinder().findPath(this, getCellX(), getCellY()); // Plan around other enemies
+        if (this.path == null) {
+            this.path = map.getPlayerDistanceField().pathToNearestPlayer(getCellX(), getCellY()); // No path around the others within the budget, read path from the field
+        }
         this.pathIndex = 0; // Reset path index for new path
     }
 
     /**
      * Moves the enemy along the calculated path to the player.
-     * Follows the {@code pathToPlayer} list, moving towards each tile in sequence.
+     * Follows the {@code path} list, moving towards each tile in sequence.
      * If the path is blocked or completed, it resets the path.
      */
     private void followPath() {
-        if (pathToPlayer != null && pathIndex < pathToPlayer.size()) {
-            Tile nextTile = pathToPlayer.get(pathIndex); // Get the next tile in the path
+        if (path != null && pathIndex < path.size()) {
+            Tile nextTile = path.get(pathIndex); // Get the next tile in the path
             int nextTargetX = nextTile.x();
             int nextTargetY = nextTile.y();
 
             // Check if the next tile in the path is now blocked (e.g., by a bomb)
             if (!map.isCellFree(nextTargetX, nextTargetY)) {
-                pathToPlayer = null; // Invalidate the current path if blocked
+                path = null; // Invalidate the current path if blocked
                 return; // Recalculate the path in the next tick
             }
+            // Wait for the flames to pass instead of walking into them
+            if (reachedCell && !isSafeToEnter(nextTargetX, nextTargetY)) {
+                path = null;
+                setDirection(DirectionType.NONE);
+                return;
+            }
 
             if (reachedCell) {
                 DirectionType nextDirection = getDirectionToTarget(nextTargetX, nextTargetY); // Determine direction to next tile
@@ -226,13 +381,13 @@ private void followPath() {
 
             // Check if the current target cell for this step is reached
             if (Math.abs(getX() - targetX) < reachedCellThreshold && Math.abs(getY() - targetY) < reachedCellThreshold) {
-                getHitbox().setTransform(getCellX(), getCellY(), getHitbox().getAngle()); // Snap to grid for alignment
+                getHitbox().setPosition(getCellX(), getCellY()); // Snap to grid for alignment
                 reachedCell = true;
                 pathIndex++; // Move to the next step in the path
             }
 
         } else {
-            pathToPlayer = null; // Path completed or invalid, reset path
+            path = null; // Path completed or invalid, reset path
         }
     }
 
@@ -264,7 +419,7 @@ private DirectionType getDirectionToTarget(int targetCellX, int targetCellY) {
      * Selects a random free direction for the enemy to move in.
      * Prioritizes directions that are not the immediate opposite of the current direction to avoid oscillating movement.
      * If no free direction is found, the enemy may be considered trapped.
-     * If the enemy isn't trapped and can place bombs, it might place a bomb in its current location.
+     * If the enemy has to turn back without having been trapped before, it is marked as cornered.
      *
      * @return The selected {@link DirectionType}, or the current direction if no free direction is found.
      */
@@ -294,13 +449,13 @@ private DirectionType selectFreeDirection() {
         if (isDirectionFree(fallbackDirection)) {
             updateTargetCell(fallbackDirection); // Update target cell for fallback direction
             setDirection(fallbackDirection); // Set direction to fallback
-            if (!trapped && canPlaceBombs) map.placeBomb(this); // If not trapped and can place bombs, place one
+            cornered = !trapped; // Turning back in a dead end, bombers may place a bomb here
             trapped = false; // Moving, so not trapped anymore
             return fallbackDirection;
         }
 
         trapped = true; // No free directions found, enemy is trapped
-        return getDirection(); // Stay in the current direction (which is likely NONE if stuck)
+        return DirectionType.NONE; // Stay in place until a direction becomes free
     }
 
     /**
@@ -333,7 +488,22 @@ private void updateTargetCellFromCoords(int x, int y) {
      */
     private boolean isDirectionFree(DirectionType direction) {
         int[] targetCellCoords = coordsPossibleTargetCell(direction); // Get potential target cell coords
-        return map.isCellFree(targetCellCoords[0], targetCellCoords[1]); // Check if the cell is free on the map
+        return map.isCellFree(targetCellCoords[0], targetCellCoords[1]) // Check if the cell is free on the map
+                && isSafeToEnter(targetCellCoords[0], targetCellCoords[1]);
+    }
+
+    /**
+     * Checks if the enemy may enter a cell without walking into flames.
+     * Only archetypes that avoid danger care about flames, and an enemy that is already in danger may walk anywhere.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell may be entered, {@code false} if it will be covered by flames.
+     */
+    private boolean isSafeToEnter(int x, int y) {
+        if (!archetype.avoidsDanger()) return true;
+        DangerMap dangerMap = map.getDangerMap();
+        return !dangerMap.isDangerous(x, y) || dangerMap.isDangerous(getCellX(), getCellY());
     }
 
     /**
@@ -383,4 +553,14 @@ public TextureRegion getCurrentAppearance() {
         }
         return Animations.ENEMY_DEATH.getKeyFrame(getElapsedTime(), false); // Death animation
     }
+
+    /**
+     * Gets the flat color representing the enemy in zoomed-out views.
+     *
+     * @return {@link Color#RED}.
+     */
+    @Override
+    public Color getMapColor() {
+        return Color.RED;
+    }
 }
\ No newline at end of file
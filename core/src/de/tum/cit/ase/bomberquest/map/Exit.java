@@ -1,7 +1,7 @@
 package de.tum.cit.ase.bomberquest.map;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.texture.Animations;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 
@@ -25,12 +25,12 @@ public class Exit extends StationaryObject implements Drawable {
     /**
      * Constructs a new Exit object.
      *
-     * @param world The Box2D world (not used for Exit as it has no Body, but included for consistent object creation).
-     * @param x     The x-coordinate of the exit in game units.
-     * @param y     The y-coordinate of the exit in game units.
+     * @param physics The physics simulation (not used for Exit as it has no Body, but included for consistent object creation).
+     * @param x       The x-coordinate of the exit in game units.
+     * @param y       The y-coordinate of the exit in game units.
      */
-    public Exit(World world, int x, int y) {
-        super(world, x, y, false);
+    public Exit(PhysicsBackend physics, int x, int y) {
+        super(physics, x, y, false);
         open = false; // Initially, the exit is closed
     }
 
@@ -75,4 +75,14 @@ public TextureRegion getCurrentAppearance() {
         if (open) return Animations.EXIT_OPENED.getKeyFrame(elapsedTime, true); // Open exit animation
         return Animations.EXIT_CLOSED.getKeyFrame(elapsedTime, true); // Closed exit animation
     }
+
+    /**
+     * Gets the flat color representing the exit in zoomed-out views.
+     *
+     * @return {@link Color#LIME} when the exit is open, {@link Color#FOREST} when it is closed.
+     */
+    @Override
+    public Color getMapColor() {
+        return open ? Color.LIME : Color.FOREST;
+    }
 }
\ No newline at end of file
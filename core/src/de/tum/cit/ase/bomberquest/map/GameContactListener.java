@@ -7,10 +7,10 @@
 
 /**
  * Implements the Box2D {@link ContactListener} interface to handle collision events in the game world.
- * This class is responsible for detecting and resolving collisions between different game objects,
- * such as players, enemies, bombs, and walls. It determines the type of objects involved in a collision
- * and applies specific game logic to handle the interaction, like preventing collisions under certain conditions
- * (e.g., bomb immunity), handling player death on enemy contact, and queueing bodies for destruction.
+ * Most contacts are already filtered by the category and mask bits set by the {@link Box2DPhysicsBackend},
+ * so mobile objects never touch each other, and walls or bombs never touch players with wallpass or bombpass.
+ * This class handles the remaining cases with the shared {@link CollisionRules}: tracking the occupants of bombs through
+ * their sensors, letting occupants walk off their bomb, and queueing bodies for destruction.
  */
 public class GameContactListener implements ContactListener {
 
@@ -21,82 +21,77 @@ public class GameContactListener implements ContactListener {
      */
     private final List<Body> bodiesToDestroy = new ArrayList<>();
     /**
-     * Reference to the game map, allowing the contact listener to access game state and perform actions
-     * based on the game map, such as setting game over conditions.
+     * The game rules deciding which contacts block movement.
      */
-    private final GameMap map;
+    private final CollisionRules rules;
 
     /**
      * Constructs a new {@code GameContactListener}.
      *
-     * @param map The {@link GameMap} instance associated with this contact listener.
-     *            This map is used to access game elements and control game state based on collision events.
+     * @param rules The {@link CollisionRules} applied to the contacts.
      */
-    public GameContactListener(GameMap map) {
-        this.map = map;
+    public GameContactListener(CollisionRules rules) {
+        this.rules = rules;
     }
 
     /**
      * Called when two fixtures begin to touch.
-     * This method is part of the {@link ContactListener} interface but is not used in this implementation.
-     * Subclasses can override this method to implement specific logic for the start of a contact.
+     * Objects touching the sensor of a bomb that is not armed yet were standing on it when it was placed,
+     * so they become its occupants.
      *
      * @param contact The contact fixture.
      */
     @Override
     public void beginContact(Contact contact) {
-        // Not needed for this use case
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        if (fixtureA.isSensor() || fixtureB.isSensor()) {
+            Body bombBody = fixtureA.isSensor() ? fixtureA.getBody() : fixtureB.getBody();
+            Body otherBody = fixtureA.isSensor() ? fixtureB.getBody() : fixtureA.getBody();
+            if (bombBody.getUserData() instanceof Bomb bomb && otherBody.getUserData() instanceof MobileObject mobileObject
+                && !bomb.isArmed()) {
+                bomb.addOccupant(mobileObject); // Standing on the bomb since it was placed
+            }
+        }
     }
 
     /**
      * Called when two fixtures cease to touch.
-     * This method is part of the {@link ContactListener} interface but is not used in this implementation.
-     * Subclasses can override this method to implement specific logic for the end of a contact.
+     * An object leaving the sensor of a bomb is no longer its occupant, so the bomb blocks it from now on.
      *
      * @param contact The contact fixture.
      */
     @Override
     public void endContact(Contact contact) {
-        // Not needed for this use case
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        if (fixtureA.isSensor() || fixtureB.isSensor()) {
+            Body bombBody = fixtureA.isSensor() ? fixtureA.getBody() : fixtureB.getBody();
+            Body otherBody = fixtureA.isSensor() ? fixtureB.getBody() : fixtureA.getBody();
+            if (bombBody.getUserData() instanceof Bomb bomb && otherBody.getUserData() instanceof MobileObject mobileObject) {
+                bomb.removeOccupant(mobileObject); // Left the bomb
+            }
+        }
     }
 
 
     /**
      * Called before processing contact physics.
-     * This method is invoked just before the collision response is calculated. It allows for modifying
-     * the contact to disable the collision response based on game logic. This implementation checks for
-     * specific pairs of colliding bodies (e.g., MobileObject and Bomb, Player and Wall, Player and Enemy)
-     * and handles them accordingly to implement game rules like bomb immunity, wall passing, and player-enemy interactions.
+     * This method is invoked just before the collision response is calculated. It only disables the contacts between
+     * mobile objects and the bombs they may still walk off, as this is the only rule that changes per bomb and
+     * cannot be expressed with filter bits.
      *
      * @param contact     The contact fixture.
      * @param oldManifold The manifold at the last time step.
      */
     @Override
     public void preSolve(Contact contact, Manifold oldManifold) {
-        // Get the fixtures and bodies involved in the contact
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-        Body bodyA = fixtureA.getBody();
-        Body bodyB = fixtureB.getBody();
-
-        // Handle collisions based on the types of bodies involved
-
-        if (isMobileObject(bodyA) && isBomb(bodyB)) {
+        Body bodyA = contact.getFixtureA().getBody();
+        Body bodyB = contact.getFixtureB().getBody();
+        if (isBomb(bodyB) && isMobileObject(bodyA)) {
             handleBombCollision(contact, bodyA, bodyB); // Handle MobileObject colliding with a Bomb
-        } else if (isMobileObject(bodyB) && isBomb(bodyA)) {
+        } else if (isBomb(bodyA) && isMobileObject(bodyB)) {
             handleBombCollision(contact, bodyB, bodyA); // Handle MobileObject colliding with a Bomb (order reversed)
-        } else if (isPlayer(bodyA) && isWall(bodyB)) {
-            handleWallPlayerCollision(contact, bodyA, bodyB); // Handle Player colliding with a Wall
-        } else if (isPlayer(bodyB) && isWall(bodyA)) {
-            handleWallPlayerCollision(contact, bodyB, bodyA); // Handle Player colliding with a Wall (order reversed)
-        } else if (isPlayer(bodyA) && isEnemy(bodyB)) {
-            handlePlayerEnemyCollision(bodyA); // Handle Player colliding with an Enemy
-        } else if (isPlayer(bodyB) && isEnemy(bodyA)) {
-            handlePlayerEnemyCollision(bodyB); // Handle Player colliding with an Enemy (order reversed)
-        } else if (isEnemy(bodyA) && isEnemy(bodyB)) {
-            contact.setEnabled(false); // Prevent Enemies from colliding with each other
-        } else if (isPlayer(bodyB) && isPlayer(bodyA)) {
-            contact.setEnabled(false); // Prevent Players from colliding with each other
         }
     }
 
@@ -123,26 +118,6 @@ private boolean isMobileObject(Body body) {
         return body.getUserData() instanceof MobileObject;
     }
 
-    /**
-     * Checks if a Box2D body's user data is an instance of {@link Player}.
-     *
-     * @param body The Box2D body to check.
-     * @return {@code true} if the body's user data is a {@link Player}, {@code false} otherwise.
-     */
-    private boolean isPlayer(Body body) {
-        return body.getUserData() instanceof Player; // Checks if the body belongs to a Player
-    }
-
-    /**
-     * Checks if a Box2D body's user data is an instance of {@link Enemy}.
-     *
-     * @param body The Box2D body to check.
-     * @return {@code true} if the body's user data is an {@link Enemy}, {@code false} otherwise.
-     */
-    private boolean isEnemy(Body body) {
-        return body.getUserData() instanceof Enemy; // Checks if the body belongs to an Enemy
-    }
-
     /**
      * Checks if a Box2D body's user data is an instance of {@link Bomb}.
      *
@@ -153,20 +128,10 @@ private boolean isBomb(Body body) {
         return body.getUserData() instanceof Bomb; // Checks if the body belongs to a Bomb
     }
 
-    /**
-     * Checks if a Box2D body's user data is an instance of either {@link IndestructibleWall} or {@link DestructibleWall}.
-     *
-     * @param body The Box2D body to check.
-     * @return {@code true} if the body's user data is a wall type, {@code false} otherwise.
-     */
-    private boolean isWall(Body body) {
-        return body.getUserData() instanceof IndestructibleWall || body.getUserData() instanceof DestructibleWall;
-    }
-
     /**
      * Handles the collision between a {@link MobileObject} and a {@link Bomb}.
-     * This method checks if the mobile object is currently ignoring the bomb or if the player has 'bombpass' power-up.
-     * If either condition is true, the collision is disabled, allowing the mobile object to pass through the bomb.
+     * If the {@link CollisionRules} say the bomb does not block the mobile object (e.g. it still stands on the bomb or has the
+     * 'bombpass' power-up), the collision is disabled, allowing the mobile object to pass through the bomb.
      *
      * @param contact          The contact fixture.
      * @param mobileObjectBody The Box2D body of the {@link MobileObject}.
@@ -174,42 +139,8 @@ private boolean isWall(Body body) {
      */
     private void handleBombCollision(Contact contact, Body mobileObjectBody, Body bomb) {
         MobileObject mobileObject = (MobileObject) mobileObjectBody.getUserData();
-        if (mobileObject.getIgnoredBombs().contains(bomb)) {
-            // Disable collision if the mobile object is set to ignore this specific bomb
-            contact.setEnabled(false);
-        } else {
-            if (mobileObject instanceof Player player && player.isBombpass()) {
-                contact.setEnabled(false); // Disable collision if player has bombpass power-up
-            }
-        }
-    }
-
-    /**
-     * Handles the collision between a {@link Player} and a Wall (either {@link IndestructibleWall} or {@link DestructibleWall}).
-     * If the player has the 'wallpass' power-up, the collision is disabled, allowing the player to pass through walls.
-     *
-     * @param contact    The contact fixture.
-     * @param playerBody The Box2D body of the {@link Player}.
-     * @param wallBody   The Box2D body of the Wall.
-     */
-    private void handleWallPlayerCollision(Contact contact, Body playerBody, Body wallBody) {
-        if (playerBody.getUserData() instanceof Player player && player.isWallpass()) {
-            contact.setEnabled(false); // Disable collision if player has wallpass power-up
-        }
-    }
-
-    /**
-     * Handles the collision between a {@link Player} and an {@link Enemy}.
-     * If the player is alive, this method marks the player for death, triggers game over logic,
-     * and sets a game over message indicating the player's demise.
-     *
-     * @param playerBody The Box2D body of the {@link Player}.
-     */
-    private void handlePlayerEnemyCollision(Body playerBody) {
-        Player player = (Player) playerBody.getUserData();
-        if (player.isAlive()) {
-            player.markForDeath(playerBody.getWorld(), this); // Mark player for death
-            map.setGameOverMessage("Too close for comfort! " + player.getName() + " got squished by the Alien."); // Set game over message
+        if (!rules.isBlockedByBomb(mobileObject, (Bomb) bomb.getUserData())) {
+            contact.setEnabled(false); // Disable collision if the mobile object may pass this bomb
         }
     }
 
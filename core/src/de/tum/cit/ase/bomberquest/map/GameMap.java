@@ -3,14 +3,11 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.Box2D;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.BomberQuestGame;
 import de.tum.cit.ase.bomberquest.audio.SoundEffects;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Represents the game map, which is the central component of the game world.
@@ -23,30 +20,19 @@
 public class GameMap {
 
     /**
-     * The fixed time step used for the Box2D physics simulation.
-     * This ensures consistent physics behavior across different frame rates.
-     * It is derived from the monitor's refresh rate to synchronize physics updates with rendering.
+     * The maximum number of cell reservations enemies can hold at the same time.
+     * Each chasing enemy reserves at most one cell per time slot of the window.
      */
-    private static final float TIME_STEP = 1f / Gdx.graphics.getDisplayMode().refreshRate;
-
+    private static final int RESERVATION_CAPACITY = 1024;
     /**
-     * The number of velocity iterations performed per physics step in Box2D.
-     * More iterations increase accuracy but also increase computational cost.
-     * This value is set to balance performance and simulation quality.
+     * The number of time slots ahead that enemies reserve cells for.
      */
-    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int RESERVATION_WINDOW = 8;
     /**
-     * The number of position iterations performed per physics step in Box2D.
-     * Similar to velocity iterations, more position iterations improve stability and accuracy,
-     * especially for stacked bodies, at the cost of performance.
+     * The maximum number of search states all enemies together may expand per frame when planning paths.
+     * Enemies that exceed it fall back to the shared distance field for this frame.
      */
-    private static final int POSITION_ITERATIONS = 2;
-
-    // A static block is executed once when the class is loaded.
-    static {
-        // Initialize the Box2D physics engine when the GameMap class is first loaded.
-        Box2D.init();
-    }
+    private static final int PATH_SEARCH_BUDGET = 256;
 
     /**
      * Reference to the main game class, providing access to game-level functionalities and resources.
@@ -54,15 +40,10 @@ public class GameMap {
      */
     private final BomberQuestGame game;
     /**
-     * The Box2D world that manages the physics simulation for all entities in the game map.
-     * It handles collisions, physics interactions, and movement of dynamic bodies within the game world.
-     */
-    private final World world;
-    /**
-     * The contact listener responsible for handling collision events within the Box2D world.
-     * It detects when bodies begin or end contact and allows for custom collision response logic to be implemented.
+     * The physics simulation for all entities in the game map, selected in the {@link Settings}.
+     * It handles collisions, physics interactions, and movement of mobile objects within the game world.
      */
-    private final GameContactListener contactListener;
+    private final PhysicsBackend physics;
     // Game objects
     /**
      * The first player entity in the game.
@@ -72,6 +53,59 @@ public class GameMap {
      * The second player entity in the game, can be null for single-player mode.
      */
     private final Player player2;
+    /**
+     * A list of all players in the game (one or two), used wherever every player has to be visited.
+     */
+    private final List<Player> players;
+    /**
+     * The shared distance field to the nearest living player, rebuilt once per tick and read by all enemies.
+     */
+    private final PlayerDistanceField playerDistanceField;
+    /**
+     * Flat grid mirroring the walls, used for fast per-cell checks such as raycasts.
+     */
+    private final OccupancyGrid occupancyGrid;
+    /**
+     * Line of sight checks between cells, used by enemies to detect players only when no wall is in the way.
+     */
+    private final LineOfSight lineOfSight;
+    /**
+     * Prediction of the cells that will be covered by flames from the current bombs, used by enemies to avoid them.
+     */
+    private final DangerMap dangerMap;
+    /**
+     * Puts enemies far from every player to sleep, so they cost neither AI nor physics time.
+     */
+    private final ActivityPolicy activityPolicy;
+    /**
+     * Index of the enemies by cell, rebuilt every tick. It finds enemies touching a player without physics contacts
+     * and lets the {@link GameSimulation} capture only the enemies in the renderer's view.
+     */
+    private final MobileObjectIndex enemyIndex;
+    /**
+     * The bombs by chunk, kept in step with {@link #bombs}.
+     */
+    private final ChunkIndex<Bomb> bombIndex;
+    /**
+     * The blasts by chunk, kept in step with {@link #blasts}.
+     */
+    private final ChunkIndex<Blast> blastIndex;
+    /**
+     * The uncovered power-ups by chunk, kept in step with {@link #powerUps}.
+     */
+    private final ChunkIndex<PowerUp> powerUpIndex;
+    /**
+     * The plus points effects by chunk, kept in step with {@link #plusPoints}.
+     */
+    private final ChunkIndex<PlusPoints> plusPointsIndex;
+    /**
+     * Reservations of the cells enemies plan to walk through, so that chasing enemies spread out.
+     */
+    private final ReservationTable reservationTable;
+    /**
+     * Plans the enemies' paths to the players around each other's reservations.
+     */
+    private final CooperativePathfinder cooperativePathfinder;
     /**
      * A list of all enemy entities currently active in the game map.
      */
@@ -81,6 +115,10 @@ public class GameMap {
      * This allows for quick lookup and management of bombs based on their location.
      */
     private final Map<String, Bomb> bombs;
+    /**
+     * A read-only view of the bombs, handed out instead of copying them.
+     */
+    private final Collection<Bomb> bombView;
     /**
      * A list of active blast effects currently on the map.
      * Blasts are visual effects created by bomb explosions, managed separately for rendering and game logic.
@@ -103,6 +141,11 @@ public class GameMap {
      * A list of cell coordinates (x,y string) where power-ups are located or will be spawned.
      */
     private final List<String> powerUps;
+    /**
+     * The walls destroyed by blasts and not yet taken by the renderer, which caches the walls in a static layer.
+     * Filled by the simulation thread and drained by the render thread.
+     */
+    private final Queue<StationaryObject> destroyedWalls = new ConcurrentLinkedQueue<>();
     /**
      * A list of visual point effects displayed when enemies are defeated.
      */
@@ -141,10 +184,28 @@ public class GameMap {
      * Accumulated time for physics simulation, used to maintain a fixed time step.
      */
     private float physicsTime = 0;
+    /**
+     * The keys sampled for the current tick, set by the {@link GameSimulation} before each tick.
+     */
+    private InputFrame input = InputFrame.NONE;
+    /**
+     * The fixed time step of the game logic and the physics simulation, in seconds.
+     * It is taken from the tick rate in the {@link Settings}, so the cost of the simulation does not depend on
+     * the monitor's refresh rate; the renderer interpolates between ticks.
+     */
+    private final float timeStep;
+    /**
+     * The maximum number of ticks the {@link GameSimulation} runs in a row to catch up after a stall.
+     */
+    private final int maxSubSteps;
+    /**
+     * The id given to the next mobile object of this map, so the ids of every map start at zero.
+     */
+    private int nextMobileId = 0;
 
     /**
      * Constructs a new {@code GameMap}.
-     * Initializes the game map, loads map data from a file, sets up the Box2D world,
+     * Initializes the game map, loads map data from a file, sets up the physics simulation,
      * creates players and enemies based on the map configuration, and initializes game settings.
      *
      * @param game     The main game class instance.
@@ -153,11 +214,12 @@ public class GameMap {
      */
     public GameMap(BomberQuestGame game, String mapFile, Settings settings) {
         this.game = game;
-        this.world = new World(Vector2.Zero, true); // Initialize Box2D world with no gravity
-        this.contactListener = new GameContactListener(this); // Initialize contact listener for collision handling
-        this.world.setContactListener(contactListener); // Set the contact listener for the Box2D world
+        this.timeStep = 1f / settings.getTickRate(); // Fixed tick, independent of the monitor
+        this.maxSubSteps = settings.getMaxSubSteps();
+        this.physics = settings.getPhysicsBackend().create(new CollisionRules()); // Initialize the selected physics backend
         this.walls = new HashMap<>(); // Initialize map to store walls
         this.bombs = new HashMap<>(); // Initialize map to store bombs
+        this.bombView = Collections.unmodifiableCollection(bombs.values());
         this.blasts = new ArrayList<>(); // Initialize list to store blasts
         this.enemies = new ArrayList<>(); // Initialize list to store enemies
         this.gameOver = false; // Game is not over initially
@@ -172,12 +234,29 @@ public GameMap(BomberQuestGame game, String mapFile, Settings settings) {
         this.MAX_X = temp[0]; // Set max X extent from loaded map data
         this.MAX_Y = temp[1]; // Set max Y extent from loaded map data
         if (temp[4] == -1) {
-            this.player1 = new Player(world, temp[2], temp[3]); // Create player 1 at entrance 1
+            this.player1 = new Player(physics, nextMobileId(), temp[2], temp[3]); // Create player 1 at entrance 1
             this.player2 = null; // No player 2 in single player mode
         } else {
-            this.player1 = new Player(world, temp[2], temp[3], true); // Create player 1 at entrance 1
-            this.player2 = new Player(world, temp[4], temp[5], false); // Create player 2 at entrance 2 in multiplayer mode
+            this.player1 = new Player(physics, nextMobileId(), temp[2], temp[3], true); // Create player 1 at entrance 1
+            this.player2 = new Player(physics, nextMobileId(), temp[4], temp[5], false); // Create player 2 at entrance 2 in multiplayer mode
         }
+        this.players = new ArrayList<>();
+        players.add(player1);
+        if (player2 != null) players.add(player2);
+        this.playerDistanceField = new PlayerDistanceField(this, Enemy.DETECTION_RANGE); // Distances up to the enemies' detection range
+        this.occupancyGrid = new OccupancyGrid(walls, MAX_X, MAX_Y); // Mirror the loaded walls in a flat grid
+        this.lineOfSight = new LineOfSight(occupancyGrid);
+        physics.buildWalls(occupancyGrid, walls); // Build the static collision geometry of the walls
+        this.dangerMap = new DangerMap(this);
+        this.activityPolicy = new ActivityPolicy(dangerMap, settings.getActivityRadius());
+        this.enemyIndex = new MobileObjectIndex(occupancyGrid.getWidth(), occupancyGrid.getHeight());
+        enemyIndex.rebuild(enemies); // The first snapshot is captured before the first tick
+        this.bombIndex = new ChunkIndex<>(occupancyGrid.getWidth(), occupancyGrid.getHeight());
+        this.blastIndex = new ChunkIndex<>(occupancyGrid.getWidth(), occupancyGrid.getHeight());
+        this.powerUpIndex = new ChunkIndex<>(occupancyGrid.getWidth(), occupancyGrid.getHeight());
+        this.plusPointsIndex = new ChunkIndex<>(occupancyGrid.getWidth(), occupancyGrid.getHeight());
+        this.reservationTable = new ReservationTable(RESERVATION_CAPACITY, RESERVATION_WINDOW, 1f / Enemy.SPEED); // One slot per cell walked
+        this.cooperativePathfinder = new CooperativePathfinder(this, reservationTable, PATH_SEARCH_BUDGET);
 
         numberOfEnemies = enemies.size(); // Count initial number of enemies
         if (numberOfEnemies == 0) {
@@ -235,10 +314,10 @@ public int[] loadMap(String filename, Settings settings) {
 
                 switch (type) {
                     case 0: // indestructibleWall
-                        walls.put(x + "," + y, new IndestructibleWall(world, x, y)); // Create indestructible wall and add to map
+                        walls.put(x + "," + y, new IndestructibleWall(physics, x, y)); // Create indestructible wall and add to map
                         break;
                     case 1: // destructibleWall
-                        walls.put(x + "," + y, new DestructibleWall(world, x, y)); // Create destructible wall and add to map
+                        walls.put(x + "," + y, new DestructibleWall(physics, x, y)); // Create destructible wall and add to map
                         freeDestructibleWalls.add(x + "," + y); // Add to list of free destructible walls
                         break;
                     case 2: // entrance
@@ -254,37 +333,37 @@ public int[] loadMap(String filename, Settings settings) {
                         }
                         break;
                     case 3: // enemy
-                        enemies.add(new Enemy(world, x, y, this, settings.isAliensSmart(), settings.isAliensBombs())); // Create enemy and add to list
+                        enemies.add(new Enemy(physics, x, y, this, settings.isAliensSmart(), settings.isAliensBombs())); // Create enemy and add to list
                         break;
                     case 4: // exit
                         if (!existsExit) {
-                            walls.put(x + "," + y, new DestructibleWall(world, x, y, WallContentType.EXIT)); // Create destructible wall with exit content
+                            walls.put(x + "," + y, new DestructibleWall(physics, x, y, WallContentType.EXIT)); // Create destructible wall with exit content
                             existsExit = true; // Mark exit as existing
                         }
                         break;
                     case 5: // powerUp: bombs
                         powerUpsWritten = true; // Mark power-ups as written in map file
-                        walls.put(x + "," + y, new DestructibleWall(world, x, y, WallContentType.BOMBS_POWER_UP)); // Create destructible wall with bombs power-up
+                        walls.put(x + "," + y, new DestructibleWall(physics, x, y, WallContentType.BOMBS_POWER_UP)); // Create destructible wall with bombs power-up
                         break;
                     case 6: // powerUp: flames
                         powerUpsWritten = true; // Mark power-ups as written in map file
-                        walls.put(x + "," + y, new DestructibleWall(world, x, y, WallContentType.FLAMES_POWER_UP)); // Create destructible wall with flames power-up
+                        walls.put(x + "," + y, new DestructibleWall(physics, x, y, WallContentType.FLAMES_POWER_UP)); // Create destructible wall with flames power-up
                         break;
                     case 7: // powerUp: speed
                         powerUpsWritten = true; // Mark power-ups as written in map file
-                        walls.put(x + "," + y, new DestructibleWall(world, x, y, WallContentType.SPEED_POWER_UP)); // Create destructible wall with speed power-up
+                        walls.put(x + "," + y, new DestructibleWall(physics, x, y, WallContentType.SPEED_POWER_UP)); // Create destructible wall with speed power-up
                         break;
                     case 8: // powerUp: wallpass
                         powerUpsWritten = true; // Mark power-ups as written in map file
-                        walls.put(x + "," + y, new DestructibleWall(world, x, y, WallContentType.WALLPASS_POWER_UP)); // Create destructible wall with wallpass power-up
+                        walls.put(x + "," + y, new DestructibleWall(physics, x, y, WallContentType.WALLPASS_POWER_UP)); // Create destructible wall with wallpass power-up
                         break;
                     case 9: // powerUp: bombpass
                         powerUpsWritten = true; // Mark power-ups as written in map file
-                        walls.put(x + "," + y, new DestructibleWall(world, x, y, WallContentType.BOMBPASS_POWER_UP)); // Create destructible wall with bombpass power-up
+                        walls.put(x + "," + y, new DestructibleWall(physics, x, y, WallContentType.BOMBPASS_POWER_UP)); // Create destructible wall with bombpass power-up
                         break;
                     case 10: // powerUp: flamepass
                         powerUpsWritten = true; // Mark power-ups as written in map file
-                        walls.put(x + "," + y, new DestructibleWall(world, x, y, WallContentType.FLAMEPASS_POWER_UP)); // Create destructible wall with flamepass power-up
+                        walls.put(x + "," + y, new DestructibleWall(physics, x, y, WallContentType.FLAMEPASS_POWER_UP)); // Create destructible wall with flamepass power-up
                         break;
                 }
 
@@ -303,8 +382,9 @@ public int[] loadMap(String filename, Settings settings) {
                     String[] randomCoords = freeDestructibleWalls.get(randomIndex).split(","); // Get coordinates of random wall
                     int randomX = Integer.parseInt(randomCoords[0]); // Parse x coordinate
                     int randomY = Integer.parseInt(randomCoords[1]); // Parse y coordinate
-                    walls.get(randomX + "," + randomY).destroy(world); // Destroy the wall to place exit
-                    walls.replace(randomX + "," + randomY, new DestructibleWall(world, randomX, randomY, WallContentType.EXIT)); // Replace with exit wall
+                    if (walls.get(randomX + "," + randomY) instanceof DestructibleWall wall) {
+                        wall.setWallContentType(WallContentType.EXIT); // Hide the exit in the existing wall
+                    }
                     System.out.println("Random exit coords: " + randomX + "," + randomY); // Log exit coordinates
                     freeDestructibleWalls.remove(randomX + "," + randomY); // Remove from free walls list
                 }
@@ -314,17 +394,14 @@ public int[] loadMap(String filename, Settings settings) {
                 for (String key : freeDestructibleWalls) {
                     Random random = new Random();
                     if (random.nextInt(100) < settings.getPowerUpChance()) { // 20% default chance power-up drop
-                        String[] wallCoords = key.split(","); // Get coordinates of destructible wall
-                        int wallX = Integer.parseInt(wallCoords[0]); // Parse x coordinate
-                        int wallY = Integer.parseInt(wallCoords[1]); // Parse y coordinate
                         int randomNum = random.nextInt(100); // Generate random number for power-up type
-                        walls.get(wallX + "," + wallY).destroy(world); // Destroy the wall to place power-up
+                        if (!(walls.get(key) instanceof DestructibleWall wall)) continue; // The wall hiding the power-up
                         if (randomNum < 10)
-                            walls.replace(key, new DestructibleWall(world, wallX, wallY, WallContentType.SPEED_POWER_UP)); // 10% speed power-up
+                            wall.setWallContentType(WallContentType.SPEED_POWER_UP); // 10% speed power-up
                         else if (randomNum < 55 && randomNum > 10)
-                            walls.replace(key, new DestructibleWall(world, wallX, wallY, WallContentType.BOMBS_POWER_UP));// 45% bombs
+                            wall.setWallContentType(WallContentType.BOMBS_POWER_UP);// 45% bombs
                         else
-                            walls.replace(key, new DestructibleWall(world, wallX, wallY, WallContentType.FLAMES_POWER_UP)); // 45% flames
+                            wall.setWallContentType(WallContentType.FLAMES_POWER_UP); // 45% flames
 
                     }
                 }
@@ -338,7 +415,7 @@ else if (randomNum < 55 && randomNum > 10)
 
     /**
      * Updates the game state for each frame.
-     * This method is called in the game loop and is responsible for handling player input,
+     * This method is called by the {@link GameSimulation} once per fixed time step and is responsible for handling player input,
      * updating entities (players, enemies, bombs, blasts), processing game logic (collisions, explosions, power-ups),
      * and advancing the physics simulation.
      *
@@ -365,19 +442,25 @@ public void tick(float frameTime) {
 
             checkExit(); // Check if player 1 reached exit
             // place bomb if space is pressed and limit of bombs isn't reached
-            if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+            if (input.isJustPressed(Input.Keys.SPACE)) {
                 placeBomb(player1); // Place bomb for player 1 on space key press
             }
         }
         if (player2 != null && player2.isAlive()) {
             collectPowerUp(player2); // Check and collect power-ups for player 2
             // place bomb if enter is pressed and limit of bombs isn't reached
-            if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
+            if (input.isJustPressed(Input.Keys.ENTER)) {
                 placeBomb(player2); // Place bomb for player 2 on enter key press
             }
         }
 
         //enemies ticks
+        playerDistanceField.update(players); // Rebuild the distances to the nearest player once for all enemies
+        lineOfSight.nextTick(); // Players may have moved, forget the sight lines of the last tick
+        dangerMap.update(bombs.values(), blasts, elapsedTime); // Only rebuilt if bombs or blasts changed
+        reservationTable.advance(elapsedTime); // Drop the reservations of past time slots
+        cooperativePathfinder.newFrame(); // Refill the path search budget
+        activityPolicy.update(enemies, players); // Wake enemies near players or flames, put distant ones to sleep
         Iterator<Enemy> iteratorEnemy = enemies.iterator(); // Iterate through enemies
         while (iteratorEnemy.hasNext()) {
             Enemy enemy = iteratorEnemy.next();
@@ -387,16 +470,12 @@ public void tick(float frameTime) {
             }
         }
 
-        // bomb ticks and handling bomb collisions
+        // bomb ticks and explosions, bomb overlaps are tracked by the physics backend
         Iterator<Map.Entry<String, Bomb>> iteratorBombs = bombs.entrySet().iterator(); // Iterate through bombs
         while (iteratorBombs.hasNext()) {
             Map.Entry<String, Bomb> entry = iteratorBombs.next();
             Bomb bomb = entry.getValue();
             bomb.tick(frameTime); // Update bomb state
-            handleBombsOverlapping(player1, bomb); // Handle bomb overlapping with player 1
-            if (player2 != null)
-                handleBombsOverlapping(player2, bomb); // Handle bomb overlapping with player 2 if exists
-            for (Enemy enemy : enemies) handleBombsOverlapping(enemy, bomb); // Handle bomb overlapping with each enemy
             if (bomb.isExploded()) {
                 SoundEffects.BOMB_EXPLOSION.play(); // Play bomb explosion sound effect
                 int bombX = bomb.getCellX(); // Get bomb cell X coordinate
@@ -405,9 +484,11 @@ public void tick(float frameTime) {
                 releaseBlast(bombX, bombY, 0, -1, bomb); // Down blast
                 releaseBlast(bombX, bombY, 1, 0, bomb);  // Right blast
                 releaseBlast(bombX, bombY, -1, 0, bomb); // Left blast
-                blasts.add(new Blast(world, bombX, bombY, BlastType.CENTER, bomb.getOwner())); // Create center blast effect
-                bomb.destroy(world); // Destroy bomb body from world
+                addBlast(new Blast(physics, bombX, bombY, BlastType.CENTER, bomb.getOwner())); // Create center blast effect
+                bomb.destroy(physics); // Destroy bomb body from world
                 iteratorBombs.remove();
+                bombIndex.remove(bomb);
+                dangerMap.markDirty(); // The bomb is gone and its flames are burning now
                 // Safely remove the current entry
             }
         }
@@ -419,8 +500,10 @@ public void tick(float frameTime) {
             blast.tick(frameTime); // Update blast state
             if (blast.isFinished()) {
                 iteratorBlasts.remove(); // Safe removal of finished blasts
+                blastIndex.remove(blast);
+                dangerMap.markDirty(); // The cell is no longer burning
                 if (blast.getType() == BlastType.WALL) {
-                    blast.destroy(world); // Destroy wall blast body from world
+                    blast.destroy(physics); // Destroy wall blast body from world
                 }
                 continue; // No need to process further if removed
             }
@@ -437,10 +520,12 @@ public void tick(float frameTime) {
                 if (isBlasted(enemy, blast)) {
                     if (blast.getOwner() instanceof Player player) {
                         player.increasePoints(); // Increase player points for enemy kill
-                        plusPoints.add(new PlusPoints(enemy.getX(), enemy.getY() + 1f, player.isPlayer1())); // Add plus points visual effect
+                        PlusPoints plusPoint = new PlusPoints(enemy.getX(), enemy.getY() + 1f, player.isPlayer1());
+                        plusPoints.add(plusPoint); // Add plus points visual effect
+                        plusPointsIndex.add(plusPoint);
                         timer += 20; // Increase game timer for enemy kill
                     }
-                    enemy.death(world); // Kill enemy
+                    enemy.death(physics); // Kill enemy
                     SoundEffects.ENEMY_DEATH.play(); // Play enemy death sound effect
                     numberOfEnemies--; // Decrease number of enemies alive
 
@@ -472,15 +557,30 @@ public void tick(float frameTime) {
             plusPoint.tick(frameTime); // Update plus points effect state
             if (plusPoint.isFinished()) {
                 iteratorPoints.remove(); // Safe removal of finished plus points effects
+                plusPointsIndex.remove(plusPoint);
             }
         }
 
 
-        contactListener.processQueuedDestruction(); // Process bodies queued for destruction from contact listener
         doPhysicsStep(frameTime); // Advance physics simulation by frame time
+        checkEnemyContacts(); // Players touching an enemy after the step die
 
     }
 
+    /**
+     * Kills every player whose hitbox overlaps the hitbox of an enemy.
+     * The enemies are looked up in the {@link MobileObjectIndex}, so only the enemies in the cells around each player are tested.
+     */
+    private void checkEnemyContacts() {
+        enemyIndex.rebuild(enemies);
+        for (Player player : players) {
+            if (player.isAlive() && enemyIndex.findTouching(player) != null) {
+                player.death(physics); // Kill player on contact with an enemy
+                setGameOverMessage("Too close for comfort! " + player.getName() + " got squished by the Alien."); // Set game over message
+            }
+        }
+    }
+
     /**
      * Checks if a player is caught in a blast and handles player death if necessary.
      *
@@ -490,7 +590,7 @@ public void tick(float frameTime) {
      */
     private void playerBlasted(Blast blast, Player player, Player playerOther) {
         if (isBlasted(player, blast) && !player.isFlamepass()) {
-            player.death(world); // Kill player if hit by blast and no flamepass power-up
+            player.death(physics); // Kill player if hit by blast and no flamepass power-up
             if (blast.getOwner() instanceof Enemy)
                 setGameOverMessage("BOOM! " + player.getName() + " got caught in Alien's blast!"); // Set game over message for enemy blast
             else if (blast.getOwner().equals(player))
@@ -501,7 +601,7 @@ else if (blast.getOwner().equals(player))
     }
 
     /**
-     * Advances the Box2D physics simulation by a fixed time step.
+     * Advances the physics simulation by a fixed time step.
      * This method ensures that the physics simulation runs at a consistent rate,
      * independent of the frame rate of the game.
      *
@@ -509,15 +609,15 @@ else if (blast.getOwner().equals(player))
      */
     private void doPhysicsStep(float frameTime) {
         this.physicsTime += frameTime; // Accumulate frame time for physics step
-        while (this.physicsTime >= TIME_STEP) {
-            this.world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS); // Perform physics step with fixed time step
-            this.physicsTime -= TIME_STEP; // Reduce accumulated time by time step
+        while (this.physicsTime >= timeStep) {
+            this.physics.step(timeStep); // Perform physics step with fixed time step
+            this.physicsTime -= timeStep; // Reduce accumulated time by time step
         }
     }
 
     /**
      * Handles player input for movement.
-     * Checks for key presses for each player and updates their intended movement direction accordingly.
+     * Checks the keys of the current {@link InputFrame} for each player and updates their intended movement direction accordingly.
      * Supports input for single and dual player scenarios, potentially mapping player 1 controls to both WASD and Arrows in single-player mode.
      */
     private void handleInput() {
@@ -546,25 +646,25 @@ private void handleInput() {
      */
     private void handlePlayerInput(Player player, int upKey, int downKey, int leftKey, int rightKey) {
         // Check and add keys if pressed
-        if (Gdx.input.isKeyPressed(upKey)) {
+        if (input.isPressed(upKey)) {
             player.addKeys(upKey); // Add up key to player input queue
         } else {
             player.removeKeys(upKey); // Remove up key from player input queue if not pressed
         }
 
-        if (Gdx.input.isKeyPressed(downKey)) {
+        if (input.isPressed(downKey)) {
             player.addKeys(downKey); // Add down key to player input queue
         } else {
             player.removeKeys(downKey); // Remove down key from player input queue if not pressed
         }
 
-        if (Gdx.input.isKeyPressed(leftKey)) {
+        if (input.isPressed(leftKey)) {
             player.addKeys(leftKey); // Add left key to player input queue
         } else {
             player.removeKeys(leftKey); // Remove left key from player input queue if not pressed
         }
 
-        if (Gdx.input.isKeyPressed(rightKey)) {
+        if (input.isPressed(rightKey)) {
             player.addKeys(rightKey); // Add right key to player input queue
         } else {
             player.removeKeys(rightKey); // Remove right key from player input queue if not pressed
@@ -605,8 +705,11 @@ public void placeBomb(MobileObject mobileObject) {
             int cellX = mobileObject.getCellX(); // Get mobile object cell X coordinate
             int cellY = mobileObject.getCellY(); // Get mobile object cell Y coordinate
             if (isCellFree(cellX, cellY)) {
-                bombs.put(cellX + "," + cellY, new Bomb(world, cellX, cellY, mobileObject)); // Create and place bomb at mobile object's location
+                Bomb bomb = new Bomb(physics, cellX, cellY, mobileObject);
+                bombs.put(cellX + "," + cellY, bomb); // Create and place bomb at mobile object's location
+                bombIndex.add(bomb);
                 mobileObject.placedBomb(); // Decrease mobile object's bomb count
+                dangerMap.markDirty(); // The new bomb's flames have to be predicted
                 if (mobileObject instanceof Player)
                     SoundEffects.PLACE_BOMB.play(); // Play bomb placement sound for players
             }
@@ -639,9 +742,11 @@ private void collectPowerUp(Player player) {
                         break;
                     case WALLPASS_POWER_UP:
                         player.gotWallpass(); // Grant player wallpass ability
+                        physics.updateCollisionFilter(player); // Let the player's body pass through walls
                         break;
                     case BOMBPASS_POWER_UP:
                         player.gotBombpass(); // Grant player bombpass ability
+                        physics.updateCollisionFilter(player); // Let the player's body pass through bombs
                         break;
                     case FLAMEPASS_POWER_UP:
                         player.gotFlamepass(); // Grant player flamepass ability
@@ -649,11 +754,22 @@ private void collectPowerUp(Player player) {
                 }
                 walls.remove(playerCellX + "," + playerCellY); // Remove power-up from map
                 powerUps.remove(playerCellX + "," + playerCellY); // Remove power-up location from list
+                powerUpIndex.remove(powerUp);
             }
         }
     }
 
 
+    /**
+     * Adds a blast to the map and to the blast index.
+     *
+     * @param blast The new blast.
+     */
+    private void addBlast(Blast blast) {
+        blasts.add(blast);
+        blastIndex.add(blast);
+    }
+
     /**
      * Checks if a mobile object is within the blast radius of a blast effect.
      *
@@ -665,43 +781,6 @@ private boolean isBlasted(MobileObject obj, Blast blast) {
         return obj.getCellX() == blast.getX() && obj.getCellY() == blast.getY(); // Check if object cell matches blast cell
     }
 
-    /**
-     * Checks if a mobile object is overlapping with a bomb.
-     *
-     * @param mobileObject The mobile object (Player or Enemy) to check.
-     * @param bomb         The bomb to check for overlap.
-     * @return {@code true} if the mobile object's hitbox is overlapping with the bomb's hitbox, {@code false} otherwise.
-     */
-    private boolean isOverlapping(MobileObject mobileObject, Bomb bomb) {
-        Body bodyA = mobileObject.getHitbox(); // Get mobile object hitbox
-        Body bodyB = bomb.getHitbox(); // Get bomb hitbox
-        if (mobileObject instanceof Player)
-            return bodyA.getPosition().dst(bodyB.getPosition()) < 0.77f; // Player overlap threshold
-        return bodyA.getPosition().dst(bodyB.getPosition()) < 0.94f; // Adjust threshold as needed for enemies
-    }
-
-    /**
-     * Handles the overlapping state between a mobile object and a bomb.
-     * Adds the bomb to the mobile object's ignored bombs list if they are overlapping to prevent immediate self-explosion.
-     * Removes the bomb from the ignored list when they are no longer overlapping, allowing for collision detection again.
-     *
-     * @param mobileObject The mobile object (Player or Enemy) to handle bomb overlap for.
-     * @param bomb         The bomb to check for overlap.
-     */
-    private void handleBombsOverlapping(MobileObject mobileObject, Bomb bomb) {
-        if (mobileObject.isAlive()) {
-            if (isOverlapping(mobileObject, bomb)) {
-                if (!(mobileObject.getIgnoredBombs().contains(bomb.getHitbox()))) {
-                    mobileObject.addIgnoredBomb(bomb.getHitbox()); // Add bomb to ignored list if overlapping and not already ignored
-                }
-            } else {
-                if (mobileObject.getIgnoredBombs().contains(bomb.getHitbox())) {
-                    mobileObject.removeIgnoredBomb(bomb.getHitbox()); // Remove bomb from ignored list if no longer overlapping
-                }
-            }
-        }
-    }
-
     /**
      * Releases a blast effect in a specified direction from a bomb's explosion center.
      * Creates blast segments outwards from the center, stopping at indestructible walls or destructible walls (destroying them).
@@ -722,16 +801,20 @@ private void releaseBlast(int x, int y, int dx, int dy, Bomb bomb) {
                 StationaryObject obj = walls.get(currentX + "," + currentY);
                 if (obj instanceof DestructibleWall wall) {
                     WallContentType type = wall.getWallContentType(); // Get destructible wall content type
-                    wall.destroy(world); // Destroy destructible wall
+                    wall.destroy(physics); // Destroy destructible wall
                     walls.remove(currentX + "," + currentY); // Remove wall from map
+                    destroyedWalls.offer(wall); // Let the renderer remove it from the cached static layer
+                    occupancyGrid.set(currentX, currentY, OccupancyGrid.EMPTY); // The cell no longer blocks the sight
                     if (type != WallContentType.EMPTY && type != WallContentType.EXIT) {
-                        walls.put(currentX + "," + currentY, new PowerUp(world, currentX, currentY, type)); // Place power-up at destroyed wall location
+                        PowerUp powerUp = new PowerUp(physics, currentX, currentY, type);
+                        walls.put(currentX + "," + currentY, powerUp); // Place power-up at destroyed wall location
                         powerUps.add(currentX + "," + currentY); // Add power-up location to list
+                        powerUpIndex.add(powerUp);
                     } else if (type == WallContentType.EXIT) {
-                        exit = new Exit(world, currentX, currentY); // Place exit at destroyed wall location
+                        exit = new Exit(physics, currentX, currentY); // Place exit at destroyed wall location
                         if (exitOpen) exit.open(); // Open exit if game condition is met
                     }
-                    blasts.add(new Blast(world, currentX, currentY, BlastType.WALL, owner)); // Add wall blast effect
+                    addBlast(new Blast(physics, currentX, currentY, BlastType.WALL, owner)); // Add wall blast effect
                     break; // Stop blast propagation in this direction after hitting a wall
                 }
                 if (!(obj instanceof PowerUp)) {
@@ -740,19 +823,19 @@ private void releaseBlast(int x, int y, int dx, int dy, Bomb bomb) {
             }
             if (i == bomb.getBlastRadius()) {
                 if (dx == 0 && dy < 0) {
-                    blasts.add(new Blast(world, currentX, currentY, BlastType.DOWN, owner)); // Add down blast end segment
+                    addBlast(new Blast(physics, currentX, currentY, BlastType.DOWN, owner)); // Add down blast end segment
                 } else if (dx == 0 && dy > 0) {
-                    blasts.add(new Blast(world, currentX, currentY, BlastType.UP, owner)); // Add up blast end segment
+                    addBlast(new Blast(physics, currentX, currentY, BlastType.UP, owner)); // Add up blast end segment
                 } else if (dy == 0 && dx > 0) {
-                    blasts.add(new Blast(world, currentX, currentY, BlastType.RIGHT, owner)); // Add right blast end segment
+                    addBlast(new Blast(physics, currentX, currentY, BlastType.RIGHT, owner)); // Add right blast end segment
                 } else {
-                    blasts.add(new Blast(world, currentX, currentY, BlastType.LEFT, owner)); // Add left blast end segment
+                    addBlast(new Blast(physics, currentX, currentY, BlastType.LEFT, owner)); // Add left blast end segment
                 }
             } else {
                 if (dx == 0) {
-                    blasts.add(new Blast(world, currentX, currentY, BlastType.VERTICAL, owner)); // Add vertical blast segment
+                    addBlast(new Blast(physics, currentX, currentY, BlastType.VERTICAL, owner)); // Add vertical blast segment
                 } else {
-                    blasts.add(new Blast(world, currentX, currentY, BlastType.HORIZONTAL, owner)); // Add horizontal blast segment
+                    addBlast(new Blast(physics, currentX, currentY, BlastType.HORIZONTAL, owner)); // Add horizontal blast segment
                 }
             }
 
@@ -804,6 +887,66 @@ public Player getPlayer2() {
     }
 
 
+    /**
+     * Gets the shared distance field to the nearest living player.
+     *
+     * @return The {@link PlayerDistanceField} of this map, updated once per tick.
+     */
+    public PlayerDistanceField getPlayerDistanceField() {
+        return playerDistanceField;
+    }
+
+    /**
+     * Checks if there is a clear line of sight between two cells, i.e. no wall lies between them.
+     * Results are cached for the current tick.
+     *
+     * @param fromX The x-coordinate of the first cell.
+     * @param fromY The y-coordinate of the first cell.
+     * @param toX   The x-coordinate of the second cell.
+     * @param toY   The y-coordinate of the second cell.
+     * @return {@code true} if the cells can see each other, {@code false} otherwise.
+     */
+    public boolean canSee(int fromX, int fromY, int toX, int toY) {
+        return lineOfSight.canSee(fromX, fromY, toX, toY);
+    }
+
+    /**
+     * Gets the pathfinder that plans the enemies' paths around each other.
+     *
+     * @return The {@link CooperativePathfinder} of this map.
+     */
+    public CooperativePathfinder getCooperativePathfinder() {
+        return cooperativePathfinder;
+    }
+
+    /**
+     * Gets the prediction of the cells that will be covered by flames.
+     *
+     * @return The {@link DangerMap} of this map, updated once per tick.
+     */
+    public DangerMap getDangerMap() {
+        return dangerMap;
+    }
+
+    /**
+     * Gets the grid mirroring the walls of the map.
+     *
+     * @return The {@link OccupancyGrid} of this map.
+     */
+    public OccupancyGrid getOccupancyGrid() {
+        return occupancyGrid;
+    }
+
+    /**
+     * Hands out the id of a new mobile object of this map.
+     * The ids are counted per map, so the occupant masks of bombs stay as small as the number of objects on the map.
+     *
+     * @return The id, unique within this map.
+     */
+    int nextMobileId() {
+        return nextMobileId++;
+    }
+
     /**
      * Gets the map of walls in the game.
      *
@@ -813,6 +956,24 @@ public Map<String, StationaryObject> getWalls() {
         return walls;
     }
 
+    /**
+     * Gets the cell coordinates of the power-ups lying on the map.
+     *
+     * @return A {@link List} of the power-up cells (x,y string), the power-ups themselves are in {@link #getWalls()}.
+     */
+    public List<String> getPowerUps() {
+        return powerUps;
+    }
+
+    /**
+     * Takes the next wall destroyed since the last call, for the render thread.
+     *
+     * @return The destroyed wall, or {@code null} if no other wall was destroyed.
+     */
+    public StationaryObject pollDestroyedWall() {
+        return destroyedWalls.poll();
+    }
+
     /**
      * Gets the list of plus points visual effects.
      *
@@ -841,12 +1002,12 @@ public Exit getExit() {
     }
 
     /**
-     * Gets a list of all bombs currently active in the game.
+     * Gets all bombs currently active in the game.
      *
-     * @return A {@link List} of {@link Bomb} objects.
+     * @return A read-only view of the {@link Bomb} objects, which reflects later changes.
      */
-    public List<Bomb> getBombs() {
-        return bombs.values().stream().toList();
+    public Collection<Bomb> getBombs() {
+        return bombView;
     }
 
     /**
@@ -858,6 +1019,51 @@ public List<Blast> getBlasts() {
         return blasts;
     }
 
+    /**
+     * Gets the index of the enemies by cell, as of the end of the latest tick.
+     *
+     * @return The {@link MobileObjectIndex} of the enemies, including dying ones.
+     */
+    public MobileObjectIndex getEnemyIndex() {
+        return enemyIndex;
+    }
+
+    /**
+     * Gets the index of the bombs by chunk.
+     *
+     * @return The {@link ChunkIndex} of the bombs.
+     */
+    public ChunkIndex<Bomb> getBombIndex() {
+        return bombIndex;
+    }
+
+    /**
+     * Gets the index of the blasts by chunk.
+     *
+     * @return The {@link ChunkIndex} of the blasts.
+     */
+    public ChunkIndex<Blast> getBlastIndex() {
+        return blastIndex;
+    }
+
+    /**
+     * Gets the index of the uncovered power-ups by chunk.
+     *
+     * @return The {@link ChunkIndex} of the power-ups.
+     */
+    public ChunkIndex<PowerUp> getPowerUpIndex() {
+        return powerUpIndex;
+    }
+
+    /**
+     * Gets the index of the plus points effects by chunk.
+     *
+     * @return The {@link ChunkIndex} of the plus points effects.
+     */
+    public ChunkIndex<PlusPoints> getPlusPointsIndex() {
+        return plusPointsIndex;
+    }
+
 
     /**
      * Checks if the exit is currently open.
@@ -886,6 +1092,33 @@ public int getMAX_Y() {
         return MAX_Y;
     }
 
+    /**
+     * Gets the fixed time step of the game logic and the physics simulation.
+     *
+     * @return The time step in seconds.
+     */
+    public float getTimeStep() {
+        return timeStep;
+    }
+
+    /**
+     * Gets the maximum number of ticks run in a row to catch up after a stall.
+     *
+     * @return The maximum number of ticks.
+     */
+    public int getMaxSubSteps() {
+        return maxSubSteps;
+    }
+
+    /**
+     * Sets the keys sampled for the next tick.
+     *
+     * @param input The {@link InputFrame} handled by the next tick.
+     */
+    public void setInput(InputFrame input) {
+        this.input = input;
+    }
+
     /**
      * Checks if the game is currently in a game over state.
      *
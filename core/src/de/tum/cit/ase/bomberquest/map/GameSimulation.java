@@ -0,0 +1,355 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import de.tum.cit.ase.bomberquest.texture.Drawable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the simulation of a {@link GameMap} on its own thread at the fixed rate of {@link GameMap#getTimeStep()},
+ * independent of the frame rate of the render thread and the monitor's refresh rate.
+ * <p>
+ * The threads only share three things: the render thread offers sampled {@link InputFrame}s to a lock-free queue,
+ * the simulation publishes a {@link RenderSnapshot} after every tick (rotating three reused snapshots), and the map queues the walls
+ * destroyed for the renderer's cached static layer (see {@link GameMap#pollDestroyedWall()}). The renderer interpolates
+ * the positions of the latest snapshot, so movement stays smooth when the two rates differ.
+ * The simulation stops by itself once the game is over.
+ */
+public class GameSimulation implements Runnable {
+    /**
+     * Number of cells around the camera's view in which objects are still captured. It covers sprites taller than
+     * a cell and the camera moving on before the renderer reports its next view.
+     */
+    private static final int VIEW_MARGIN = 2;
+
+    /**
+     * The game map being simulated.
+     */
+    private final GameMap map;
+    /**
+     * The input frames sampled by the render thread and not yet handed to the map.
+     */
+    private final Queue<InputFrame> inputs = new ConcurrentLinkedQueue<>();
+    /**
+     * The latest published snapshot, exchanged between the two threads.
+     */
+    private final AtomicReference<RenderSnapshot> published = new AtomicReference<>(new RenderSnapshot());
+    /**
+     * The snapshot filled by the simulation thread.
+     */
+    private RenderSnapshot back = new RenderSnapshot();
+    /**
+     * The snapshot read by the render thread.
+     */
+    private RenderSnapshot front = new RenderSnapshot();
+    /**
+     * The number of published snapshots.
+     */
+    private long sequence;
+    /**
+     * The last input frame offered by the render thread.
+     */
+    private InputFrame lastSubmitted;
+    /**
+     * The input of the last tick, reused while no new frames arrive.
+     */
+    private InputFrame input = InputFrame.NONE;
+    /**
+     * The drawing order and the previous positions of the mobile objects, kept from tick to tick.
+     */
+    private final RenderQueue renderQueue = new RenderQueue();
+    /**
+     * The cells whose bomb or blast marking changed, taken by the minimap on the render thread.
+     */
+    private final MinimapChanges minimapChanges;
+    /**
+     * The drawables found around the view in the current layer, reused from tick to tick.
+     */
+    private final List<Drawable> nearby = new ArrayList<>();
+    /**
+     * The mobile objects found around the view in the current tick, reused from tick to tick.
+     */
+    private final List<MobileObject> nearbyObjects = new ArrayList<>();
+    /**
+     * Whether the snapshots carry the minimap markers of the whole map and the minimap changes are tracked.
+     * Only set if the renderer shows a minimap, as it is the only thing that walks over all objects of the map.
+     */
+    private volatile boolean minimapWanted;
+    /**
+     * The cells visible to the renderer's camera as {@code {minX, minY, maxX, maxY}}, or {@code null} to capture everything.
+     * The render thread replaces the array as a whole and never changes it afterwards.
+     */
+    private volatile int[] view;
+    /**
+     * The thread running the simulation, {@code null} while stopped.
+     */
+    private Thread thread;
+    /**
+     * Whether the simulation thread should keep running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructs a new simulation and publishes the initial snapshot of the map.
+     *
+     * @param map The game map to simulate.
+     */
+    public GameSimulation(GameMap map) {
+        this.map = map;
+        this.minimapChanges = new MinimapChanges(map.getMAX_X() + 1, map.getMAX_Y() + 1);
+        publishSnapshot();
+    }
+
+    /**
+     * Starts the simulation thread if it is not running and the game is not over.
+     */
+    public void start() {
+        if (thread != null || map.isGameOver()) return;
+        running = true;
+        thread = new Thread(this, "game-simulation");
+        thread.setDaemon(true); // Never keep the application alive
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits until the current tick is finished,
+     * so the map can safely be read afterwards.
+     */
+    public void stop() {
+        running = false;
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    /**
+     * Hands an input frame sampled on the render thread to the simulation.
+     * Frames that only repeat the held keys of the previous one are dropped.
+     *
+     * @param frame The sampled input frame.
+     */
+    public void submitInput(InputFrame frame) {
+        if (frame == lastSubmitted && !frame.hasKeyPresses()) return; // The simulation keeps holding the same keys
+        lastSubmitted = frame;
+        inputs.offer(frame);
+    }
+
+    /**
+     * Sets whether the renderer shows a minimap, which needs the markers of all players and enemies and the changed
+     * bomb and blast cells of the whole map.
+     *
+     * @param minimapWanted {@code true} if a minimap is shown, {@code false} otherwise.
+     */
+    public void setMinimapWanted(boolean minimapWanted) {
+        this.minimapWanted = minimapWanted;
+    }
+
+    /**
+     * Sets the cells visible to the renderer's camera. Later snapshots only hold the objects in and around this area,
+     * so the work of the renderer depends on the size of the screen instead of the size of the map.
+     *
+     * @param minX The lowest visible x-coordinate in cells.
+     * @param minY The lowest visible y-coordinate in cells.
+     * @param maxX The highest visible x-coordinate in cells.
+     * @param maxY The highest visible y-coordinate in cells.
+     */
+    public void setView(int minX, int minY, int maxX, int maxY) {
+        int[] current = view;
+        if (current != null && current[0] == minX && current[1] == minY && current[2] == maxX && current[3] == maxY) return;
+        view = new int[]{minX, minY, maxX, maxY};
+    }
+
+    /**
+     * Gets the cells whose bomb or blast marking changed, for the minimap on the render thread.
+     *
+     * @return The {@link MinimapChanges} of the simulated map.
+     */
+    public MinimapChanges getMinimapChanges() {
+        return minimapChanges;
+    }
+
+    /**
+     * Gets the latest published snapshot. Must only be called on the render thread:
+     * the snapshot returned before is handed back to the simulation if a newer one was published.
+     *
+     * @return The latest {@link RenderSnapshot}.
+     */
+    public RenderSnapshot getSnapshot() {
+        if (published.get().getSequence() > front.getSequence()) {
+            front = published.getAndSet(front); // Only the simulation replaces it, always with a newer one
+        }
+        return front;
+    }
+
+    /**
+     * The simulation loop: runs the ticks that are due, then sleeps until the next one.
+     */
+    @Override
+    public void run() {
+        long tickNanos = (long) (map.getTimeStep() * 1_000_000_000L);
+        int maxSubSteps = map.getMaxSubSteps();
+        long nextTick = System.nanoTime();
+        while (running && !map.isGameOver()) {
+            int ticks = 0;
+            while (System.nanoTime() - nextTick >= 0 && ticks < maxSubSteps && !map.isGameOver()) {
+                tick();
+                nextTick += tickNanos;
+                ticks++;
+            }
+            if (ticks == maxSubSteps && System.nanoTime() - nextTick >= 0) {
+                nextTick = System.nanoTime(); // Still behind after the last tick: drop the backlog instead of spiralling
+            }
+            long sleep = nextTick - System.nanoTime();
+            if (sleep > 0) LockSupport.parkNanos(this, sleep);
+        }
+    }
+
+    /**
+     * Runs one tick of the map with the latest input and publishes the resulting snapshot.
+     */
+    private void tick() {
+        InputFrame merged = null;
+        InputFrame frame;
+        while ((frame = inputs.poll()) != null) {
+            merged = merged == null ? frame : merged.followedBy(frame); // Keep every key press of the frames
+        }
+        input = merged != null ? merged : input.held();
+        map.setInput(input);
+        map.tick(map.getTimeStep());
+        publishSnapshot();
+    }
+
+    /**
+     * Captures the drawable state of the map into the back snapshot and publishes it, one {@link SpriteLayer} after
+     * the other: exit, power-ups and bombs, then blasts, then players and enemies (from top to bottom), then plus points.
+     * The other walls never change their appearance, so the renderer caches them and they are left out.
+     * Only the objects in and around the renderer's view are captured: they are taken from the chunk indices of the map
+     * and its enemy index, so objects far off screen are never visited. Player 1 is always captured for the camera.
+     * If a minimap is shown, it gets the markers of all players and enemies and the changed bomb and blast cells
+     * of the whole map, the only walk over all objects.
+     * The live collections of the map are read in place and the snapshots are reused, so no garbage is produced.
+     */
+    private void publishSnapshot() {
+        int[] bounds = view;
+        int minX = bounds == null ? 0 : bounds[0] - VIEW_MARGIN;
+        int minY = bounds == null ? 0 : bounds[1] - VIEW_MARGIN;
+        int maxX = bounds == null ? map.getMAX_X() : bounds[2] + VIEW_MARGIN;
+        int maxY = bounds == null ? map.getMAX_Y() : bounds[3] + VIEW_MARGIN;
+        RenderSnapshot snapshot = back;
+        snapshot.clear();
+        snapshot.beginLayer(SpriteLayer.ITEMS);
+        if (map.getExit() != null) capture(snapshot, bounds, map.getExit());
+        nearby.clear();
+        map.getPowerUpIndex().collect(minX, minY, maxX, maxY, nearby);
+        map.getBombIndex().collect(minX, minY, maxX, maxY, nearby);
+        captureNearby(snapshot, bounds);
+        snapshot.endLayer(SpriteLayer.ITEMS);
+        snapshot.beginLayer(SpriteLayer.BLASTS);
+        map.getBlastIndex().collect(minX, minY, maxX, maxY, nearby);
+        captureNearby(snapshot, bounds);
+        snapshot.endLayer(SpriteLayer.BLASTS);
+
+        renderQueue.beginTick();
+        nearbyObjects.clear();
+        map.getEnemyIndex().collect(minX, minY, maxX, maxY, nearbyObjects);
+        for (int i = 0; i < nearbyObjects.size(); i++) {
+            if (isVisible(bounds, nearbyObjects.get(i))) renderQueue.update(nearbyObjects.get(i));
+        }
+        renderQueue.update(map.getPlayer1());
+        if (map.getPlayer2() != null) renderQueue.update(map.getPlayer2());
+        renderQueue.endTick();
+        snapshot.beginLayer(SpriteLayer.ENTITIES);
+        for (int i = 0; i < renderQueue.size(); i++) {
+            MobileObject object = renderQueue.getObject(i);
+            if (isVisible(bounds, object)) {
+                snapshot.add(object.getCurrentAppearance(), object.getMapColor().toFloatBits(),
+                    renderQueue.getPreviousX(i), renderQueue.getPreviousY(i), object.getX(), object.getY());
+            }
+        }
+        snapshot.endLayer(SpriteLayer.ENTITIES);
+        Player player1 = map.getPlayer1();
+        snapshot.setPlayer1(renderQueue.getPreviousX(player1), renderQueue.getPreviousY(player1), player1.getX(), player1.getY());
+
+        snapshot.beginLayer(SpriteLayer.EFFECTS);
+        map.getPlusPointsIndex().collect(minX, minY, maxX, maxY, nearby);
+        captureNearby(snapshot, bounds);
+        snapshot.endLayer(SpriteLayer.EFFECTS);
+        if (minimapWanted) captureMinimap(snapshot);
+        snapshot.setState(map.getPlayer1(), map.getPlayer2(), map.getTimer(), map.getNumberOfEnemies(), map.isExitOpen(), map.isGameOver(), System.nanoTime(), ++sequence);
+        back = published.getAndSet(snapshot); // The renderer hands back the snapshot it no longer reads
+    }
+
+    /**
+     * Adds the markers of all players and enemies to the snapshot and queues the changed bomb and blast cells
+     * for the minimap. Both cover the whole map, so this is only done if a minimap is shown.
+     *
+     * @param snapshot The snapshot being filled.
+     */
+    private void captureMinimap(RenderSnapshot snapshot) {
+        List<Enemy> enemies = map.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            addMarker(snapshot, enemies.get(i));
+        }
+        addMarker(snapshot, map.getPlayer1());
+        if (map.getPlayer2() != null) addMarker(snapshot, map.getPlayer2());
+        minimapChanges.update(map.getBombs(), map.getBlasts()); // Queued for the render thread right away, independent of the snapshot
+    }
+
+    /**
+     * Adds the minimap marker of a mobile object to the snapshot.
+     *
+     * @param snapshot The snapshot being filled.
+     * @param object   The mobile object.
+     */
+    private static void addMarker(RenderSnapshot snapshot, MobileObject object) {
+        snapshot.addMarker(object.getX(), object.getY(), object.getMapColor().toFloatBits());
+    }
+
+    /**
+     * Adds the visible drawables found by the indices of the map to the snapshot and clears the list of found drawables.
+     *
+     * @param snapshot The snapshot being filled.
+     * @param bounds   The visible cells as {@code {minX, minY, maxX, maxY}}, or {@code null} if everything is visible.
+     */
+    private void captureNearby(RenderSnapshot snapshot, int[] bounds) {
+        for (int i = 0; i < nearby.size(); i++) {
+            capture(snapshot, bounds, nearby.get(i)); // The indices return whole chunks, so the view is tested again
+        }
+        nearby.clear();
+    }
+
+    /**
+     * Adds a drawable that did not move since the previous snapshot, if it lies in or around the renderer's view.
+     *
+     * @param snapshot The snapshot being filled.
+     * @param bounds   The visible cells as {@code {minX, minY, maxX, maxY}}, or {@code null} if everything is visible.
+     * @param drawable The drawable object.
+     */
+    private static void capture(RenderSnapshot snapshot, int[] bounds, Drawable drawable) {
+        if (isVisible(bounds, drawable)) {
+            snapshot.add(drawable.getCurrentAppearance(), drawable.getMapColor().toFloatBits(), drawable.getX(), drawable.getY(), drawable.getX(), drawable.getY());
+        }
+    }
+
+    /**
+     * Checks if a drawable lies in or around the renderer's view.
+     *
+     * @param bounds   The visible cells as {@code {minX, minY, maxX, maxY}}, or {@code null} if everything is visible.
+     * @param drawable The drawable object.
+     * @return {@code true} if the object has to be captured, {@code false} otherwise.
+     */
+    private static boolean isVisible(int[] bounds, Drawable drawable) {
+        return bounds == null
+            || drawable.getX() >= bounds[0] - VIEW_MARGIN && drawable.getX() <= bounds[2] + VIEW_MARGIN
+            && drawable.getY() >= bounds[1] - VIEW_MARGIN && drawable.getY() <= bounds[3] + VIEW_MARGIN;
+    }
+}
@@ -0,0 +1,49 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * Enumeration of the ways the game screen can draw the ground and the walls of the map,
+ * which almost never change and are therefore drawn separately from the other sprites.
+ */
+public enum GroundLayerType {
+    /**
+     * Chooses by map size: a single shaded quad for large maps, chunked sprite caches otherwise. Used by default.
+     */
+    AUTOMATIC("Automatic"),
+    /**
+     * Chunks of sprites cached on the graphics card, one draw call per visible chunk.
+     */
+    SPRITE_CACHE("Sprite Cache"),
+    /**
+     * Chunks baked once into frame buffer textures, one textured quad per visible chunk.
+     * Falls back to {@link #SPRITE_CACHE} if frame buffers are not supported.
+     */
+    FRAME_BUFFER("Frame Buffer"),
+    /**
+     * A single quad drawn by a shader that looks up the wall of every cell in a small texture.
+     * Falls back to {@link #SPRITE_CACHE} if the shader is not supported.
+     */
+    TILE_SHADER("Tile Shader");
+
+    /**
+     * The name shown in the settings dialog.
+     */
+    private final String displayName;
+
+    /**
+     * Constructs a ground layer type.
+     *
+     * @param displayName The name shown in the settings dialog.
+     */
+    GroundLayerType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the name shown in the settings dialog.
+     *
+     * @return The display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -1,7 +1,7 @@
 package de.tum.cit.ase.bomberquest.map;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 import de.tum.cit.ase.bomberquest.texture.Textures;
 
@@ -9,19 +9,20 @@
  * Represents indestructible wall tiles in the game map.
  * Indestructible walls are a type of {@link StationaryObject} that cannot be destroyed by explosions or any other game mechanic.
  * They serve as permanent obstacles within the game environment, defining level boundaries and creating strategic pathways.
- * These walls have a hitbox, meaning they will block movement and trigger collision events.
+ * These walls block movement and trigger collision events through the merged edges of the {@link WallCollisionMesh}
+ * instead of a hitbox of their own.
  */
 public class IndestructibleWall extends StationaryObject implements Drawable {
 
     /**
      * Constructs a new IndestructibleWall object.
      *
-     * @param world The Box2D world where the wall's hitbox will be created.
-     * @param x     The x-coordinate of the wall in game units.
-     * @param y     The y-coordinate of the wall in game units.
+     * @param physics The physics simulation the wall belongs to.
+     * @param x       The x-coordinate of the wall in game units.
+     * @param y       The y-coordinate of the wall in game units.
      */
-    public IndestructibleWall(World world, int x, int y) {
-        super(world, x, y, true);
+    public IndestructibleWall(PhysicsBackend physics, int x, int y) {
+        super(physics, x, y, false); // Collisions are handled by the wall geometry of the physics backend
     }
 
     /**
@@ -34,4 +35,14 @@ public IndestructibleWall(World world, int x, int y) {
     public TextureRegion getCurrentAppearance() {
         return Textures.INDESTRUCTIBLE_WALL;
     }
+
+    /**
+     * Gets the flat color representing the indestructible wall in zoomed-out views.
+     *
+     * @return {@link Color#LIGHT_GRAY}.
+     */
+    @Override
+    public Color getMapColor() {
+        return Color.LIGHT_GRAY;
+    }
 }
\ No newline at end of file
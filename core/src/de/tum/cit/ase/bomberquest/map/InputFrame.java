@@ -0,0 +1,153 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * An immutable sample of the game keys, taken on the render thread and handed to the {@link GameSimulation}.
+ * It records which movement keys are held and which bomb keys were just pressed, so the simulation never
+ * has to read {@link Gdx#input} from its own thread.
+ */
+public class InputFrame {
+    /**
+     * A frame without any pressed keys.
+     */
+    public static final InputFrame NONE = new InputFrame(0, 0);
+
+    /**
+     * The keys recorded in a frame; the index of a key is its bit in the masks.
+     */
+    private static final int[] KEYS = {
+        Input.Keys.W, Input.Keys.S, Input.Keys.A, Input.Keys.D,
+        Input.Keys.UP, Input.Keys.DOWN, Input.Keys.LEFT, Input.Keys.RIGHT,
+        Input.Keys.SPACE, Input.Keys.ENTER
+    };
+
+    /**
+     * Bit mask of the keys that are held down.
+     */
+    private final int pressed;
+    /**
+     * Bit mask of the keys that were pressed since the previous frame.
+     */
+    private final int justPressed;
+
+    /**
+     * The frames without just pressed keys, indexed by their mask of held keys.
+     * Sampling returns these shared frames while no key is pressed anew, so polling the keys produces no garbage.
+     */
+    private static final InputFrame[] HELD_FRAMES = createHeldFrames();
+
+    /**
+     * Constructs a new input frame from its key masks.
+     *
+     * @param pressed     Bit mask of the keys that are held down.
+     * @param justPressed Bit mask of the keys that were pressed since the previous frame.
+     */
+    private InputFrame(int pressed, int justPressed) {
+        this.pressed = pressed;
+        this.justPressed = justPressed;
+    }
+
+    /**
+     * Samples the current state of the game keys. Must be called on the render thread.
+     *
+     * @return The sampled input frame.
+     */
+    public static InputFrame sample() {
+        int pressed = 0;
+        int justPressed = 0;
+        for (int i = 0; i < KEYS.length; i++) {
+            if (Gdx.input.isKeyPressed(KEYS[i])) pressed |= 1 << i;
+            if (Gdx.input.isKeyJustPressed(KEYS[i])) justPressed |= 1 << i;
+        }
+        return of(pressed, justPressed);
+    }
+
+    /**
+     * Combines this frame with a later one, so no key press is lost if several frames arrive during one tick.
+     *
+     * @param later The later input frame.
+     * @return A frame with the held keys of the later frame and the just pressed keys of both frames.
+     */
+    public InputFrame followedBy(InputFrame later) {
+        return of(later.pressed, justPressed | later.justPressed);
+    }
+
+    /**
+     * Gets the frame to use for the following ticks if no new input arrives.
+     * The keys stay held, but key presses are only reported once.
+     *
+     * @return A frame with the same held keys and no just pressed keys.
+     */
+    public InputFrame held() {
+        return justPressed == 0 ? this : HELD_FRAMES[pressed];
+    }
+
+    /**
+     * Checks if any key was pressed since the previous frame.
+     *
+     * @return {@code true} if the frame reports a key press, {@code false} if it only holds keys.
+     */
+    public boolean hasKeyPresses() {
+        return justPressed != 0;
+    }
+
+    /**
+     * Checks if a key is held down.
+     *
+     * @param keycode The key code, see {@link Input.Keys}.
+     * @return {@code true} if the key is held down, {@code false} otherwise or if the key is not recorded.
+     */
+    public boolean isPressed(int keycode) {
+        return (pressed & getBit(keycode)) != 0;
+    }
+
+    /**
+     * Checks if a key was pressed since the previous frame.
+     *
+     * @param keycode The key code, see {@link Input.Keys}.
+     * @return {@code true} if the key was just pressed, {@code false} otherwise or if the key is not recorded.
+     */
+    public boolean isJustPressed(int keycode) {
+        return (justPressed & getBit(keycode)) != 0;
+    }
+
+    /**
+     * Gets the bit of a key in the masks.
+     *
+     * @param keycode The key code.
+     * @return The bit of the key, or {@code 0} if the key is not recorded.
+     */
+    private static int getBit(int keycode) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (KEYS[i] == keycode) return 1 << i;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets a frame with the given key masks, reusing the shared frame if no key was just pressed.
+     *
+     * @param pressed     Bit mask of the keys that are held down.
+     * @param justPressed Bit mask of the keys that were pressed since the previous frame.
+     * @return The input frame.
+     */
+    private static InputFrame of(int pressed, int justPressed) {
+        return justPressed == 0 ? HELD_FRAMES[pressed] : new InputFrame(pressed, justPressed);
+    }
+
+    /**
+     * Creates the shared frames for every combination of held keys.
+     *
+     * @return The frames, indexed by their mask of held keys.
+     */
+    private static InputFrame[] createHeldFrames() {
+        InputFrame[] frames = new InputFrame[1 << KEYS.length];
+        frames[0] = NONE;
+        for (int pressed = 1; pressed < frames.length; pressed++) {
+            frames[pressed] = new InputFrame(pressed, 0);
+        }
+        return frames;
+    }
+}
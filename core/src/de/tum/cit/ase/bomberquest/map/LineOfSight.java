@@ -0,0 +1,123 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * Answers whether two cells of the game map can see each other, i.e. whether no wall lies between them.
+ * Sight lines are traced with Bresenham's line algorithm over the {@link OccupancyGrid}.
+ * Results are cached per pair of cells for the current tick, so many enemies standing on the same cell
+ * and looking at the same player only trace the line once.
+ */
+public class LineOfSight {
+    /**
+     * Number of entries of the cache, must be a power of two.
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * The grid of walls that block the sight.
+     */
+    private final OccupancyGrid grid;
+    /**
+     * The pair of cells stored in each cache entry, packed into one long.
+     */
+    private final long[] cachedPairs = new long[CACHE_SIZE];
+    /**
+     * The cached result of each cache entry.
+     */
+    private final boolean[] cachedResults = new boolean[CACHE_SIZE];
+    /**
+     * The tick in which each cache entry was written, entries of older ticks are invalid.
+     */
+    private final int[] cachedTicks = new int[CACHE_SIZE];
+    /**
+     * The current tick, starting at 1 so that the empty cache entries are invalid.
+     */
+    private int tick = 1;
+
+    /**
+     * Constructs a new {@code LineOfSight} over the given grid.
+     *
+     * @param grid The {@link OccupancyGrid} of the map.
+     */
+    public LineOfSight(OccupancyGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Starts a new tick, invalidating all cached results since players and walls may have changed.
+     */
+    public void nextTick() {
+        tick++;
+    }
+
+    /**
+     * Checks if there is a clear line of sight between two cells.
+     * The start and end cells themselves never block the sight.
+     *
+     * @param fromX The x-coordinate of the first cell.
+     * @param fromY The y-coordinate of the first cell.
+     * @param toX   The x-coordinate of the second cell.
+     * @param toY   The y-coordinate of the second cell.
+     * @return {@code true} if no wall lies between the two cells, {@code false} otherwise.
+     */
+    public boolean canSee(int fromX, int fromY, int toX, int toY) {
+        // Order the cells so that both directions share one cache entry and trace the same line
+        if (fromX > toX || (fromX == toX && fromY > toY)) {
+            int swapX = fromX;
+            int swapY = fromY;
+            fromX = toX;
+            fromY = toY;
+            toX = swapX;
+            toY = swapY;
+        }
+        long pair = ((long) (fromX & 0xFFFF) << 48) | ((long) (fromY & 0xFFFF) << 32) | ((long) (toX & 0xFFFF) << 16) | (toY & 0xFFFF);
+        int slot = (int) (pair ^ (pair >>> 29) ^ (pair >>> 47)) & (CACHE_SIZE - 1);
+        if (cachedTicks[slot] == tick && cachedPairs[slot] == pair) {
+            return cachedResults[slot];
+        }
+        boolean result = trace(fromX, fromY, toX, toY);
+        cachedTicks[slot] = tick;
+        cachedPairs[slot] = pair;
+        cachedResults[slot] = result;
+        return result;
+    }
+
+    /**
+     * Traces the line between two cells with Bresenham's line algorithm and checks every cell in between for walls.
+     * On a diagonal step, the sight is blocked if both cells next to the corner are walls.
+     *
+     * @param x0 The x-coordinate of the start cell.
+     * @param y0 The y-coordinate of the start cell.
+     * @param x1 The x-coordinate of the end cell.
+     * @param y1 The y-coordinate of the end cell.
+     * @return {@code true} if no wall lies between the two cells, {@code false} otherwise.
+     */
+    private boolean trace(int x0, int y0, int x1, int y1) {
+        int dx = Math.abs(x1 - x0);
+        int dy = -Math.abs(y1 - y0);
+        int stepX = x0 < x1 ? 1 : -1;
+        int stepY = y0 < y1 ? 1 : -1;
+        int error = dx + dy;
+        int x = x0;
+        int y = y0;
+        while (x != x1 || y != y1) {
+            int doubleError = 2 * error;
+            boolean moveX = doubleError >= dy;
+            boolean moveY = doubleError <= dx;
+            if (moveX && moveY && grid.isWall(x + stepX, y) && grid.isWall(x, y + stepY)) {
+                return false; // Squeezing diagonally between two walls
+            }
+            if (moveX) {
+                error += dy;
+                x += stepX;
+            }
+            if (moveY) {
+                error += dx;
+                y += stepY;
+            }
+            if ((x != x1 || y != y1) && grid.isWall(x, y)) {
+                return false; // A wall between the two cells blocks the sight
+            }
+        }
+        return true;
+    }
+}
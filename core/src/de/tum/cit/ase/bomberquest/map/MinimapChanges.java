@@ -0,0 +1,159 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The cells of the map whose minimap marking changed, handed from the simulation thread to the render thread.
+ * After every tick the {@link GameSimulation} marks the cells of all bombs and blasts; only the cells whose marking
+ * differs from the previous tick are queued, so a minimap stays up to date by repainting a handful of pixels per frame
+ * instead of the whole map. Each change is packed into one int, see {@link #getCell(int)} and {@link #getMark(int)}.
+ * <p>
+ * Walls are only ever destroyed by blasts and bombs never lie on walls, so a cell whose marking is removed shows the ground.
+ */
+public class MinimapChanges {
+    /**
+     * The marking of a cell without bomb or blast.
+     */
+    public static final int NONE = 0;
+    /**
+     * The marking of a cell with a bomb.
+     */
+    public static final int BOMB = 1;
+    /**
+     * The marking of a cell with a blast, which takes precedence over a bomb.
+     */
+    public static final int BLAST = 2;
+
+    /**
+     * Width of the map in cells.
+     */
+    private final int width;
+    /**
+     * Height of the map in cells.
+     */
+    private final int height;
+    /**
+     * The marking of every cell queued last, indexed by {@code x + y * width}.
+     */
+    private final byte[] queued;
+    /**
+     * The marking of every cell in the current tick, all {@link #NONE} between two updates.
+     */
+    private final byte[] next;
+    /**
+     * The cells marked in the previous tick.
+     */
+    private IntArray previous = new IntArray();
+    /**
+     * The cells marked in the current tick.
+     */
+    private IntArray current = new IntArray();
+    /**
+     * The changes not yet taken by the render thread. Guarded by {@code this}.
+     */
+    private final IntArray pending = new IntArray();
+
+    /**
+     * Constructs the changes of a map without any marked cells.
+     *
+     * @param width  Width of the map in cells.
+     * @param height Height of the map in cells.
+     */
+    public MinimapChanges(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.queued = new byte[width * height];
+        this.next = new byte[width * height];
+    }
+
+    /**
+     * Marks the cells of the bombs and blasts of this tick and queues the cells whose marking changed.
+     * Must only be called on the simulation thread; the work depends on the number of bombs and blasts, not on the map.
+     *
+     * @param bombs  The bombs on the map.
+     * @param blasts The blasts on the map.
+     */
+    void update(Collection<Bomb> bombs, List<Blast> blasts) {
+        for (Bomb bomb : bombs) {
+            mark(bomb.getCellX(), bomb.getCellY(), BOMB);
+        }
+        for (int i = 0; i < blasts.size(); i++) {
+            mark(blasts.get(i).getCellX(), blasts.get(i).getCellY(), BLAST);
+        }
+        synchronized (this) {
+            for (int i = 0; i < current.size; i++) {
+                int cell = current.get(i);
+                if (queued[cell] != next[cell]) queue(cell, next[cell]);
+            }
+            for (int i = 0; i < previous.size; i++) {
+                int cell = previous.get(i);
+                if (next[cell] == NONE && queued[cell] != NONE) queue(cell, NONE); // The bomb or blast is gone
+            }
+        }
+        for (int i = 0; i < current.size; i++) {
+            next[current.get(i)] = NONE;
+        }
+        IntArray swap = previous;
+        previous = current;
+        current = swap;
+        current.clear();
+    }
+
+    /**
+     * Marks a cell in the current tick, keeping the stronger marking if it is marked twice.
+     *
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @param mark The marking.
+     */
+    private void mark(int x, int y, int mark) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return;
+        int cell = x + y * width;
+        if (next[cell] == NONE) current.add(cell);
+        if (mark > next[cell]) next[cell] = (byte) mark;
+    }
+
+    /**
+     * Queues the new marking of a cell. Must be called while holding the lock.
+     *
+     * @param cell The index of the cell.
+     * @param mark The new marking.
+     */
+    private void queue(int cell, int mark) {
+        queued[cell] = (byte) mark;
+        pending.add(cell << 2 | mark);
+    }
+
+    /**
+     * Moves all queued changes to an array, in the order they happened. Must only be called on the render thread.
+     *
+     * @param changes The array the changes are appended to.
+     */
+    public synchronized void drainTo(IntArray changes) {
+        changes.addAll(pending);
+        pending.clear();
+    }
+
+    /**
+     * Gets the cell of a change.
+     *
+     * @param change The packed change.
+     * @return The index of the cell, {@code x + y * width}.
+     */
+    public static int getCell(int change) {
+        return change >>> 2;
+    }
+
+    /**
+     * Gets the new marking of a change.
+     *
+     * @param change The packed change.
+     * @return {@link #NONE}, {@link #BOMB} or {@link #BLAST}.
+     */
+    public static int getMark(int change) {
+        return change & 3;
+    }
+}
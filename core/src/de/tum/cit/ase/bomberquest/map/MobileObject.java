@@ -1,12 +1,8 @@
 package de.tum.cit.ase.bomberquest.map;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.*;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Represents all Mobile Objects.
  * Abstract superclass for players and enemies.
@@ -14,16 +10,20 @@
  */
 public abstract class MobileObject implements Drawable {
     /**
-     * Set of Box2D bodies representing bombs that this object is currently ignoring collisions with.
-     * This is used to prevent immediate self-destruction when placing a bomb.
+     * The id of this object, unique within its map and handed out by {@link GameMap#nextMobileId()},
+     * used as its bit in the occupant masks of bombs.
+     */
+    private final int id;
+    /**
+     * The circular hitbox of the mobile object, used for position, movement and collision detection.
      */
-    private final Set<Body> ignoredBombs;
+    private PhysicsBody hitbox;
     /**
-     * The Box2D hitbox of the mobile object, used for position, movement and collision detection.
+     * The radius of the circular hitbox in world units.
      */
-    private Body hitbox;
+    private final float radius;
     /**
-     * Movement speed of the object in Box2D units per second.
+     * Movement speed of the object in world units per second.
      */
     private int speed;
     /**
@@ -74,16 +74,19 @@ public abstract class MobileObject implements Drawable {
 
     /**
      * Constructor for a MobileObject.
-     * Initializes the mobile object with a Box2D body, speed, and initial stats.
+     * Initializes the mobile object with a circular hitbox, speed, and initial stats.
      *
-     * @param world  The Box2D world to which the hitbox will be added.
+     * @param physics The physics simulation to which the hitbox will be added.
+     * @param id     The id of the object, unique within its map, see {@link GameMap#nextMobileId()}.
      * @param x      The starting x-coordinate of the object in world units.
      * @param y      The starting y-coordinate of the object in world units.
      * @param speed  The movement speed of the object.
      * @param radius The radius of the object's hitbox.
      */
-    public MobileObject(World world, float x, float y, int speed, float radius) {
-        this.hitbox = createHitbox(world, x, y, radius);
+    public MobileObject(PhysicsBackend physics, int id, float x, float y, int speed, float radius) {
+        this.id = id;
+        this.radius = radius;
+        this.hitbox = physics.createCircle(this, x, y, radius);
         this.speed = speed;
         direction = DirectionType.NONE;
         alive = true;
@@ -91,42 +94,6 @@ public MobileObject(World world, float x, float y, int speed, float radius) {
         concurrentBombs = 1;
         blastRadius = 1;
         bombsNow = 1;
-        ignoredBombs = new HashSet<>();
-    }
-
-    /**
-     * Creates a Box2D body for the mobile object.
-     * This body is used by the physics engine for movement and collision detection.
-     *
-     * @param world  The Box2D world to add the body to.
-     * @param startX The initial X position of the body.
-     * @param startY The initial Y position of the body.
-     * @param radius The radius of the circular hitbox.
-     * @return The created Box2D body.
-     */
-    private Body createHitbox(World world, float startX, float startY, float radius) {
-        // BodyDef is like a blueprint for the movement properties of the body.
-        BodyDef bodyDef = new BodyDef();
-        // Dynamic bodies are affected by forces and collisions.
-        bodyDef.type = BodyDef.BodyType.DynamicBody;
-        // Set the initial position of the body.
-        bodyDef.position.set(startX, startY);
-        // Create the body in the world using the body definition.
-        Body body = world.createBody(bodyDef);
-        // Now we need to give the body a shape so the physics engine knows how to collide with it.
-        // We'll use a circle shape for the player.
-        CircleShape circle = new CircleShape();
-        // Give the circle a radius.
-        circle.setRadius(radius);
-        // Attach the shape to the body as a fixture.
-        // Bodies can have multiple fixtures, but we only need one for the player or the enemy.
-        Fixture fixture = body.createFixture(circle, 1.0f);
-        fixture.setFilterData(new Filter());
-        // We're done with the shape, so we should dispose of it to free up memory.
-        circle.dispose();
-        // Set the object as the user data of the body, so we can look up the object from the body later.
-        body.setUserData(this);
-        return body;
     }
 
     /**
@@ -176,36 +143,35 @@ public void increaseElapsedTime(float frameTime) {
      * Handles the death of the object.
      * Sets the object to not alive, saves death coordinates, destroys the hitbox immediately and resets elapsed time.
      *
-     * @param world The Box2D world where the hitbox is stored.
+     * @param physics The physics simulation where the hitbox is stored.
      */
-    public void death(World world) {
+    public void death(PhysicsBackend physics) {
         deathX = getX();
         deathY = getY();
         alive = false;
-        destroy(world);
+        destroy(physics);
         setElapsedTime(0);
     }
 
     /**
-     * Destroys the Box2D hitbox of the object immediately.
+     * Destroys the hitbox of the object immediately.
      *
-     * @param world The Box2D world where the hitbox is stored.
+     * @param physics The physics simulation where the hitbox is stored.
      */
-    private void destroy(World world) {
+    private void destroy(PhysicsBackend physics) {
         if (hitbox != null) {
-            world.destroyBody(hitbox);
+            physics.destroyBody(hitbox);
             hitbox = null; // Set the body to null
         }
     }
 
     /**
-     * Marks the object for death, queuing the hitbox for destruction by the {@link GameContactListener}.
-     * This is used for handling destruction during collision events to avoid Box2D lockstep issues.
+     * Marks the object for death, queuing the hitbox for destruction before the next physics step.
+     * This is used for handling destruction during collision events while a physics step is running.
      *
-     * @param world           The Box2D world where the hitbox is stored.
-     * @param contactListener The GameContactListener responsible for handling contact events and body destruction.
+     * @param physics The physics simulation where the hitbox is stored.
      */
-    public void markForDeath(World world, GameContactListener contactListener) {
+    public void markForDeath(PhysicsBackend physics) {
         deathX = getX();
         deathY = getY();
         alive = false;
@@ -213,7 +179,7 @@ public void markForDeath(World world, GameContactListener contactListener) {
 
         // Queue the hitbox for destruction
         if (hitbox != null) {
-            contactListener.queueBodyForDestruction(hitbox);
+            physics.destroyBodyLater(hitbox);
             hitbox = null; // Set to null to prevent further interactions
         }
 
@@ -321,30 +287,21 @@ public int getBombsNow() {
     }
 
     /**
-     * Gets the set of Box2D bodies representing bombs this object is ignoring collisions with.
-     *
-     * @return The set of ignored bomb bodies.
-     */
-    public Set<Body> getIgnoredBombs() {
-        return ignoredBombs;
-    }
-
-    /**
-     * Adds a Box2D body of a bomb to the set of ignored bombs.
+     * Gets the radius of the circular hitbox.
      *
-     * @param body The Box2D body of the bomb to ignore.
+     * @return The radius in world units.
      */
-    public void addIgnoredBomb(Body body) {
-        ignoredBombs.add(body);
+    public float getRadius() {
+        return radius;
     }
 
     /**
-     * Removes a Box2D body of a bomb from the set of ignored bombs.
+     * Gets the id of this object, unique within its map.
      *
-     * @param body The Box2D body of the bomb to stop ignoring.
+     * @return The id, used as the object's bit in the occupant masks of bombs.
      */
-    public void removeIgnoredBomb(Body body) {
-        ignoredBombs.remove(body);
+    public int getId() {
+        return id;
     }
 
     /**
@@ -366,11 +323,11 @@ public void setElapsedTime(float elapsedTime) {
     }
 
     /**
-     * Gets the Box2D hitbox of the object.
+     * Gets the hitbox of the object.
      *
-     * @return The Box2D hitbox, or {@code null} if the object is not alive or hitbox is destroyed.
+     * @return The {@link PhysicsBody} of the object, or {@code null} if the object is not alive or hitbox is destroyed.
      */
-    public Body getHitbox() {
+    public PhysicsBody getHitbox() {
         if (!alive) {
             System.out.println("hitbox doesn't exist");
             return null;
@@ -451,7 +408,7 @@ public int getCellY() {
     public float getX() {
         // The x-coordinate of the player is the x-coordinate of the hitbox (this can change every frame).
         if (alive) {
-            return hitbox.getPosition().x;
+            return hitbox.getX();
         }
         return deathX;
     }
@@ -466,7 +423,7 @@ public float getX() {
     public float getY() {
         // The y-coordinate of the player is the y-coordinate of the hitbox (this can change every frame).
         if (alive) {
-            return hitbox.getPosition().y;
+            return hitbox.getY();
         }
         return deathY;
     }
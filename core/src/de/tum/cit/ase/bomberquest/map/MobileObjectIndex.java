@@ -0,0 +1,172 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.List;
+
+/**
+ * A spatial index of mobile objects by the grid cell they are in.
+ * Every cell holds a singly linked list of the objects in it, stored in flat arrays, so rebuilding the index
+ * once per tick is linear in the number of objects and a proximity query only visits the objects of the
+ * surrounding cells. The cell lists are invalidated with a stamp instead of being cleared.
+ */
+public class MobileObjectIndex {
+    /**
+     * Marks the end of a cell list.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Width of the grid in cells.
+     */
+    private final int width;
+    /**
+     * Height of the grid in cells.
+     */
+    private final int height;
+    /**
+     * The index of the first object of each cell's list, valid only if the cell's stamp is current.
+     */
+    private final int[] heads;
+    /**
+     * The stamp of the rebuild that last wrote each cell's list.
+     */
+    private final int[] stamps;
+    /**
+     * The stamp of the current rebuild.
+     */
+    private int currentStamp;
+    /**
+     * The indexed objects.
+     */
+    private MobileObject[] objects = new MobileObject[16];
+    /**
+     * The index of the next object in the same cell, or {@link #NONE}.
+     */
+    private int[] next = new int[16];
+    /**
+     * The number of indexed objects.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty index for a grid.
+     *
+     * @param width  Width of the grid in cells.
+     * @param height Height of the grid in cells.
+     */
+    public MobileObjectIndex(int width, int height) {
+        this.width = Math.max(width, 1);
+        this.height = Math.max(height, 1);
+        this.heads = new int[this.width * this.height];
+        this.stamps = new int[this.width * this.height];
+    }
+
+    /**
+     * Replaces the contents of the index with the objects of a list, including dying ones, which still have to be drawn.
+     *
+     * @param mobileObjects The objects to index.
+     */
+    public void rebuild(List<? extends MobileObject> mobileObjects) {
+        currentStamp++;
+        size = 0;
+        if (objects.length < mobileObjects.size()) {
+            objects = new MobileObject[mobileObjects.size() * 2];
+            next = new int[mobileObjects.size() * 2];
+        }
+        for (MobileObject object : mobileObjects) {
+            int cell = getCell(object.getCellX(), object.getCellY());
+            objects[size] = object;
+            next[size] = stamps[cell] == currentStamp ? heads[cell] : NONE; // Prepend to the cell's list
+            heads[cell] = size;
+            stamps[cell] = currentStamp;
+            size++;
+        }
+    }
+
+    /**
+     * Finds an indexed object whose circle overlaps the circle of another object.
+     * Circles are at most one cell wide, so only the objects of the surrounding cells are tested.
+     * Dying objects have no body anymore and are skipped.
+     *
+     * @param target The object to test against.
+     * @return An overlapping indexed object, or {@code null} if there is none.
+     */
+    public MobileObject findTouching(MobileObject target) {
+        int cellX = target.getCellX();
+        int cellY = target.getCellY();
+        for (int x = cellX - 1; x <= cellX + 1; x++) {
+            for (int y = cellY - 1; y <= cellY + 1; y++) {
+                if (x < 0 || y < 0 || x >= width || y >= height) continue;
+                int cell = x + y * width;
+                if (stamps[cell] != currentStamp) continue; // Nothing indexed in this cell
+                for (int i = heads[cell]; i != NONE; i = next[i]) {
+                    if (objects[i] != target && objects[i].isAlive() && isTouching(target, objects[i])) return objects[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Appends the indexed objects whose cell lies in an area to a list.
+     * The cells of the area are visited, unless the area has more cells than there are objects; then the objects are
+     * tested directly, so a view covering most of the map costs no more than the number of objects.
+     *
+     * @param minX   The lowest x-coordinate of the area (inclusive).
+     * @param minY   The lowest y-coordinate of the area (inclusive).
+     * @param maxX   The highest x-coordinate of the area (inclusive).
+     * @param maxY   The highest y-coordinate of the area (inclusive).
+     * @param result The list the objects are appended to.
+     */
+    public void collect(int minX, int minY, int maxX, int maxY, List<? super MobileObject> result) {
+        minX = Math.max(minX, 0);
+        minY = Math.max(minY, 0);
+        maxX = Math.min(maxX, width - 1);
+        maxY = Math.min(maxY, height - 1);
+        if (minX > maxX || minY > maxY) return;
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > size) {
+            for (int i = 0; i < size; i++) {
+                int cell = getCell(objects[i].getCellX(), objects[i].getCellY());
+                int x = cell % width;
+                int y = cell / width;
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY) result.add(objects[i]);
+            }
+            return;
+        }
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                int cell = x + y * width;
+                if (stamps[cell] != currentStamp) continue; // Nothing indexed in this cell
+                for (int i = heads[cell]; i != NONE; i = next[i]) {
+                    result.add(objects[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the circles of two objects overlap.
+     *
+     * @param first  The first object.
+     * @param second The second object.
+     * @return {@code true} if the circles overlap, {@code false} otherwise.
+     */
+    private static boolean isTouching(MobileObject first, MobileObject second) {
+        float dx = first.getX() - second.getX();
+        float dy = first.getY() - second.getY();
+        float radii = first.getRadius() + second.getRadius();
+        return dx * dx + dy * dy < radii * radii;
+    }
+
+    /**
+     * Gets the index of a cell, clamping cells outside of the grid to its border.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The index of the cell in the arrays.
+     */
+    private int getCell(int x, int y) {
+        x = Math.max(0, Math.min(x, width - 1));
+        y = Math.max(0, Math.min(y, height - 1));
+        return x + y * width;
+    }
+}
@@ -0,0 +1,117 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Map;
+
+/**
+ * A compact grid storing which cells of the game map are occupied by walls.
+ * The {@link GameMap} keeps its walls in a map indexed by "x,y" strings, which is convenient but slow
+ * for algorithms that look at many cells in a row. This grid mirrors the walls in a flat array,
+ * so checks like raycasts can run without building strings or hashing.
+ * It is built once after the map is loaded and updated whenever a wall is destroyed.
+ */
+public class OccupancyGrid {
+    /**
+     * Marker for a cell without a wall.
+     */
+    public static final byte EMPTY = 0;
+    /**
+     * Marker for a cell with a {@link DestructibleWall}.
+     */
+    public static final byte DESTRUCTIBLE = 1;
+    /**
+     * Marker for a cell with an {@link IndestructibleWall}.
+     */
+    public static final byte INDESTRUCTIBLE = 2;
+
+    /**
+     * Width of the grid in cells.
+     */
+    private final int width;
+    /**
+     * Height of the grid in cells.
+     */
+    private final int height;
+    /**
+     * The wall marker of every cell, indexed by {@code x + y * width}.
+     */
+    private final byte[] cells;
+
+    /**
+     * Constructs a new {@code OccupancyGrid} from the walls of a map.
+     *
+     * @param walls The walls of the map, indexed by their cell coordinates (x,y string).
+     * @param maxX  The maximum x-coordinate of the map.
+     * @param maxY  The maximum y-coordinate of the map.
+     */
+    public OccupancyGrid(Map<String, StationaryObject> walls, int maxX, int maxY) {
+        this.width = Math.max(maxX + 1, 0);
+        this.height = Math.max(maxY + 1, 0);
+        this.cells = new byte[width * height];
+        for (StationaryObject wall : walls.values()) {
+            if (wall instanceof IndestructibleWall) set(wall.getCellX(), wall.getCellY(), INDESTRUCTIBLE);
+            else if (wall instanceof DestructibleWall) set(wall.getCellX(), wall.getCellY(), DESTRUCTIBLE);
+        }
+    }
+
+    /**
+     * Sets the wall marker of a cell. Cells outside the grid are ignored.
+     *
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @param type One of {@link #EMPTY}, {@link #DESTRUCTIBLE} or {@link #INDESTRUCTIBLE}.
+     */
+    public void set(int x, int y, byte type) {
+        if (isInside(x, y)) cells[x + y * width] = type;
+    }
+
+    /**
+     * Gets the wall marker of a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return One of {@link #EMPTY}, {@link #DESTRUCTIBLE} or {@link #INDESTRUCTIBLE}. Cells outside the grid are {@link #EMPTY}.
+     */
+    public byte get(int x, int y) {
+        return isInside(x, y) ? cells[x + y * width] : EMPTY;
+    }
+
+    /**
+     * Checks if a cell contains a wall of any kind.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell contains a wall, {@code false} otherwise.
+     */
+    public boolean isWall(int x, int y) {
+        return get(x, y) != EMPTY;
+    }
+
+    /**
+     * Checks if a cell lies within the grid.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell is inside the grid, {@code false} otherwise.
+     */
+    public boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Gets the width of the grid.
+     *
+     * @return The width in cells.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the grid.
+     *
+     * @return The height in cells.
+     */
+    public int getHeight() {
+        return height;
+    }
+}
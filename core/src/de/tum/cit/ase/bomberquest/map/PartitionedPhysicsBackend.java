@@ -0,0 +1,460 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link PhysicsBackend} for very large maps that splits the map into square regions of {@link #REGION_SIZE} cells,
+ * each simulated by its own {@link Box2DPhysicsBackend} with a separate Box2D world.
+ * <p>
+ * Every world only holds the walls of its region plus a border of {@link #BORDER} cells, so its broad-phase stays small
+ * no matter how big the map is. Mobile objects never collide with each other, so the regions share nothing during a step:
+ * the regions that contain an active mobile object are stepped in parallel on a shared worker pool, and regions without
+ * one are skipped. After the step, a mobile object that left the border area of its region is handed over to the region
+ * it is in now, keeping its position and velocity. Boxes of stationary objects are created in every region whose border
+ * area covers them, so objects on both sides of a region border collide with them.
+ * <p>
+ * The {@link GameMap} only sees the {@link PartitionedPhysicsBody} of an object, which stays the same across hand-overs.
+ * Maps smaller than the partitioning threshold given to the constructor are simulated as a single region, so the same
+ * backend serves small maps like the {@link Box2DPhysicsBackend} and splits large ones without the map knowing.
+ */
+public class PartitionedPhysicsBackend implements PhysicsBackend {
+    /**
+     * Side length (in cells) of the regions the map is split into.
+     */
+    public static final int REGION_SIZE = 64;
+    /**
+     * The number of cells from which {@link PhysicsBackendType#AUTOMATIC} splits a map into regions.
+     */
+    public static final int MIN_CELLS = 128 * 128;
+    /**
+     * Number of cells around a region whose walls are also part of its world.
+     * It must cover the hand-over margin plus the largest radius of a mobile object.
+     */
+    private static final int BORDER = 2;
+    /**
+     * Number of cells a mobile object may move beyond the edge of its region before it is handed over,
+     * so an object walking along a region border does not change its world on every step.
+     */
+    private static final int HANDOVER_MARGIN = 1;
+
+    /**
+     * The worker threads stepping the regions, shared by all maps and created on first use.
+     */
+    private static ExecutorService workers;
+
+    /**
+     * The game rules deciding which contacts block movement.
+     */
+    private final CollisionRules rules;
+    /**
+     * The number of cells from which the map is split into regions; smaller maps get a single region.
+     */
+    private final int minCells;
+    /**
+     * The bodies of all mobile objects, in the order they were created.
+     */
+    private final List<PartitionedPhysicsBody> mobileBodies = new ArrayList<>();
+    /**
+     * The boxes created before the regions exist, attached once the walls are built.
+     */
+    private final List<PartitionedPhysicsBody> pendingBoxes = new ArrayList<>();
+    /**
+     * The backend of every region, indexed by {@code regionX + regionY * regionsX}, {@code null} until the walls are built.
+     */
+    private Box2DPhysicsBackend[] regions;
+    /**
+     * The task stepping each region, indexed like {@link #regions}.
+     */
+    private List<Callable<Void>> regionSteps;
+    /**
+     * Whether each region contains an active mobile object in the current step.
+     */
+    private boolean[] busy;
+    /**
+     * The tasks of the regions stepped in the current step, reused between steps.
+     */
+    private final List<Callable<Void>> stepTasks = new ArrayList<>();
+    /**
+     * Side length (in cells) of the regions of the loaded map, {@link #REGION_SIZE} unless the map is a single region.
+     */
+    private int regionSize = REGION_SIZE;
+    /**
+     * Number of regions in x-direction.
+     */
+    private int regionsX;
+    /**
+     * Number of regions in y-direction.
+     */
+    private int regionsY;
+    /**
+     * The length of the current step, read by the region tasks.
+     */
+    private float timeStep;
+
+    /**
+     * Constructs a new {@code PartitionedPhysicsBackend}. The regions are created once the size of the map is known,
+     * when {@link #buildWalls} is called.
+     *
+     * @param rules    The {@link CollisionRules} applied to the contacts.
+     * @param minCells The number of cells from which the map is split into regions, {@code 0} to always split it.
+     */
+    public PartitionedPhysicsBackend(CollisionRules rules, int minCells) {
+        this.rules = rules;
+        this.minCells = minCells;
+    }
+
+    /**
+     * Creates the circle of a mobile object in the region it is in.
+     *
+     * @param owner  The mobile object the body belongs to.
+     * @param x      The starting x-coordinate in world units.
+     * @param y      The starting y-coordinate in world units.
+     * @param radius The radius of the circle.
+     * @return The created {@link PhysicsBody}.
+     */
+    @Override
+    public PhysicsBody createCircle(MobileObject owner, float x, float y, float radius) {
+        PartitionedPhysicsBody body = new PartitionedPhysicsBody(owner, x, y, radius);
+        mobileBodies.add(body);
+        if (regions != null) attachCircle(body, getRegion(Math.round(x), Math.round(y)));
+        return body;
+    }
+
+    /**
+     * Creates the box of a stationary object in every region whose border area covers the cell.
+     *
+     * @param owner The stationary object the body belongs to.
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     * @return The created {@link PhysicsBody}.
+     */
+    @Override
+    public PhysicsBody createBox(StationaryObject owner, int x, int y) {
+        PartitionedPhysicsBody body = new PartitionedPhysicsBody(owner, x, y);
+        if (regions != null) {
+            attachBox(body, x, y);
+        } else {
+            pendingBoxes.add(body);
+        }
+        return body;
+    }
+
+    /**
+     * Recomputes the collision filter of the part of a mobile object's body.
+     *
+     * @param owner The mobile object whose rules changed.
+     */
+    @Override
+    public void updateCollisionFilter(MobileObject owner) {
+        PartitionedPhysicsBody body = (PartitionedPhysicsBody) owner.getHitbox();
+        if (body.getParts() == null) return; // The filter is set when the part is created
+        regions[body.getRegions()[0]].updateCollisionFilter(owner, body.getParts()[0]);
+    }
+
+    /**
+     * Splits the loaded map into regions if it is large enough, builds the walls of every region with its border,
+     * and attaches the bodies created while the map was loading.
+     *
+     * @param grid  The {@link OccupancyGrid} of the map.
+     * @param walls The walls of the map, indexed by their cell coordinates (x,y string).
+     */
+    @Override
+    public void buildWalls(OccupancyGrid grid, Map<String, StationaryObject> walls) {
+        if (grid.getWidth() * grid.getHeight() < minCells) {
+            regionSize = Math.max(Math.max(grid.getWidth(), grid.getHeight()), 1); // One region covering the whole map
+        }
+        regionsX = Math.max((grid.getWidth() + regionSize - 1) / regionSize, 1);
+        regionsY = Math.max((grid.getHeight() + regionSize - 1) / regionSize, 1);
+        regions = new Box2DPhysicsBackend[regionsX * regionsY];
+        regionSteps = new ArrayList<>(regions.length);
+        busy = new boolean[regions.length];
+        for (int i = 0; i < regions.length; i++) {
+            int minX = (i % regionsX) * regionSize;
+            int minY = (i / regionsX) * regionSize;
+            Box2DPhysicsBackend region = new Box2DPhysicsBackend(rules);
+            region.buildWalls(grid, walls, minX - BORDER, minY - BORDER, minX + regionSize + BORDER, minY + regionSize + BORDER);
+            regions[i] = region;
+            regionSteps.add(() -> {
+                region.stepWorld(timeStep);
+                return null;
+            });
+        }
+        for (PartitionedPhysicsBody body : mobileBodies) {
+            attachCircle(body, getRegion(Math.round(body.getX()), Math.round(body.getY())));
+        }
+        for (PartitionedPhysicsBody body : pendingBoxes) {
+            attachBox(body, Math.round(body.getX()), Math.round(body.getY()));
+        }
+        pendingBoxes.clear();
+    }
+
+    /**
+     * Removes the fixture of a destroyed destructible wall from every region whose border area covers the cell.
+     *
+     * @param x The x-coordinate of the wall.
+     * @param y The y-coordinate of the wall.
+     */
+    @Override
+    public void removeWall(int x, int y) {
+        if (regions == null) return;
+        for (int regionY = getFirstRegion(y, regionsY); regionY <= getLastRegion(y, regionsY); regionY++) {
+            for (int regionX = getFirstRegion(x, regionsX); regionX <= getLastRegion(x, regionsX); regionX++) {
+                regions[regionX + regionY * regionsX].removeWall(x, y);
+            }
+        }
+    }
+
+    /**
+     * Removes all parts of a body from their regions immediately.
+     *
+     * @param body The body to remove.
+     */
+    @Override
+    public void destroyBody(PhysicsBody body) {
+        PartitionedPhysicsBody partitionedBody = (PartitionedPhysicsBody) body;
+        forget(partitionedBody);
+        Box2DPhysicsBody[] parts = partitionedBody.getParts();
+        if (parts == null) return;
+        for (int i = 0; i < parts.length; i++) {
+            regions[partitionedBody.getRegions()[i]].destroyBody(parts[i]);
+        }
+    }
+
+    /**
+     * Queues all parts of a body for destruction before the next step of their regions.
+     * The body is no longer handed over between regions from now on.
+     * Must be called from the thread running the simulation, not from the contact callbacks of a region.
+     *
+     * @param body The body to remove.
+     */
+    @Override
+    public void destroyBodyLater(PhysicsBody body) {
+        PartitionedPhysicsBody partitionedBody = (PartitionedPhysicsBody) body;
+        forget(partitionedBody);
+        Box2DPhysicsBody[] parts = partitionedBody.getParts();
+        if (parts == null) return;
+        for (int i = 0; i < parts.length; i++) {
+            regions[partitionedBody.getRegions()[i]].destroyBodyLater(parts[i]);
+        }
+    }
+
+    /**
+     * Steps every region containing an active mobile object, in parallel if there are several of them.
+     * The queued bodies of all regions are destroyed before and the new bombs of all regions are armed after the step,
+     * so a bomb on a region border is armed only once every region has reported its occupants.
+     * Finally, mobile objects that left their region are handed over.
+     *
+     * @param timeStep The length of the step in seconds.
+     */
+    @Override
+    public void step(float timeStep) {
+        if (regions == null) return; // Nothing is simulated before the map is loaded
+        this.timeStep = timeStep;
+        Arrays.fill(busy, false);
+        for (PartitionedPhysicsBody body : mobileBodies) {
+            if (body.isActive()) busy[body.getRegions()[0]] = true;
+        }
+        stepTasks.clear();
+        for (int i = 0; i < regions.length; i++) {
+            regions[i].destroyQueuedBodies();
+            if (busy[i]) stepTasks.add(regionSteps.get(i));
+        }
+
+        if (stepTasks.size() == 1) {
+            regions[indexOfBusyRegion()].stepWorld(timeStep); // No need to wake up a worker for a single region
+        } else if (stepTasks.size() > 1) {
+            runInParallel(stepTasks);
+        }
+
+        for (Box2DPhysicsBackend region : regions) {
+            region.armNewBombs();
+        }
+        for (int i = 0; i < mobileBodies.size(); i++) {
+            handOver(mobileBodies.get(i));
+        }
+    }
+
+    /**
+     * Disposes the worlds of all regions. The shared worker pool keeps running for the next map.
+     */
+    @Override
+    public void dispose() {
+        if (regions == null) return;
+        for (Box2DPhysicsBackend region : regions) {
+            region.dispose();
+        }
+    }
+
+    /**
+     * Creates the part of a mobile object's body in a region.
+     *
+     * @param body   The body of the mobile object.
+     * @param region The index of the region.
+     */
+    private void attachCircle(PartitionedPhysicsBody body, int region) {
+        Box2DPhysicsBody part = (Box2DPhysicsBody) regions[region].createCircle(body.getMobileOwner(), body.getX(), body.getY(), body.getRadius());
+        body.attach(new Box2DPhysicsBody[]{part}, new int[]{region});
+    }
+
+    /**
+     * Creates the parts of a stationary object's box in every region whose border area covers its cell.
+     *
+     * @param body The body of the stationary object.
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     */
+    private void attachBox(PartitionedPhysicsBody body, int x, int y) {
+        int firstX = getFirstRegion(x, regionsX);
+        int firstY = getFirstRegion(y, regionsY);
+        int countX = getLastRegion(x, regionsX) - firstX + 1;
+        int countY = getLastRegion(y, regionsY) - firstY + 1;
+        Box2DPhysicsBody[] parts = new Box2DPhysicsBody[countX * countY];
+        int[] partRegions = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            int region = (firstX + i % countX) + (firstY + i / countX) * regionsX;
+            parts[i] = (Box2DPhysicsBody) regions[region].createBox(body.getStationaryOwner(), x, y);
+            partRegions[i] = region;
+        }
+        body.attach(parts, partRegions);
+    }
+
+    /**
+     * Moves the body of a mobile object to the region it is in if it left the hand-over area of its current region.
+     * The new part keeps the position and the velocity. Destroying the old part ends its contacts, so it is detached
+     * from the object first: otherwise the end of its contacts with bomb sensors would count as leaving the bombs, and the
+     * new part, which starts next to bombs that are already armed, could not become their occupant again.
+     *
+     * @param body The body of the mobile object.
+     */
+    private void handOver(PartitionedPhysicsBody body) {
+        int region = body.getRegions()[0];
+        int cellX = Math.round(body.getX());
+        int cellY = Math.round(body.getY());
+        int minX = (region % regionsX) * regionSize;
+        int minY = (region / regionsX) * regionSize;
+        if (cellX >= minX - HANDOVER_MARGIN && cellX < minX + regionSize + HANDOVER_MARGIN
+            && cellY >= minY - HANDOVER_MARGIN && cellY < minY + regionSize + HANDOVER_MARGIN) {
+            return; // Still inside the hand-over area
+        }
+        int target = getRegion(cellX, cellY);
+        if (target == region) return; // Outside of the map, no other region to go to
+        Box2DPhysicsBody old = body.getParts()[0];
+        attachCircle(body, target);
+        old.getBody().setUserData(null); // The object stays an occupant of the bombs it is standing on
+        regions[region].destroyBody(old);
+    }
+
+    /**
+     * Steps the worlds of several regions on the worker pool and waits until all of them are done.
+     *
+     * @param tasks The step tasks of the regions.
+     */
+    private static void runInParallel(List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> future : getWorkers().invokeAll(tasks)) {
+                future.get(); // Rethrows the failure of a region
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Physics step of a region failed", e.getCause());
+        }
+    }
+
+    /**
+     * Gets the shared worker pool, creating it on first use with one daemon thread per processor.
+     *
+     * @return The worker pool.
+     */
+    private static synchronized ExecutorService getWorkers() {
+        if (workers == null) {
+            workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "physics-region");
+                thread.setDaemon(true); // Never keep the application alive
+                return thread;
+            });
+        }
+        return workers;
+    }
+
+    /**
+     * Finds the only region stepped in the current step.
+     *
+     * @return The index of the region.
+     */
+    private int indexOfBusyRegion() {
+        for (int i = 0; i < busy.length; i++) {
+            if (busy[i]) return i;
+        }
+        return 0;
+    }
+
+    /**
+     * Removes a body from the mobile objects handed over between regions, or from the pending boxes.
+     *
+     * @param body The body being destroyed.
+     */
+    private void forget(PartitionedPhysicsBody body) {
+        if (body.getMobileOwner() != null) {
+            mobileBodies.remove(body);
+        } else {
+            pendingBoxes.remove(body);
+        }
+    }
+
+    /**
+     * Gets the region containing a cell, clamping cells outside of the map to the nearest region.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The index of the region.
+     */
+    private int getRegion(int x, int y) {
+        int regionX = clamp(Math.floorDiv(x, regionSize), regionsX);
+        int regionY = clamp(Math.floorDiv(y, regionSize), regionsY);
+        return regionX + regionY * regionsX;
+    }
+
+    /**
+     * Gets the first region along one axis whose border area covers a coordinate.
+     *
+     * @param coordinate The cell coordinate.
+     * @param count      The number of regions along the axis.
+     * @return The region coordinate.
+     */
+    private int getFirstRegion(int coordinate, int count) {
+        return clamp(Math.floorDiv(coordinate - BORDER, regionSize), count);
+    }
+
+    /**
+     * Gets the last region along one axis whose border area covers a coordinate.
+     *
+     * @param coordinate The cell coordinate.
+     * @param count      The number of regions along the axis.
+     * @return The region coordinate.
+     */
+    private int getLastRegion(int coordinate, int count) {
+        return clamp(Math.floorDiv(coordinate + BORDER, regionSize), count);
+    }
+
+    /**
+     * Clamps a region coordinate to the regions of the map.
+     *
+     * @param region The region coordinate.
+     * @param count  The number of regions along the axis.
+     * @return The clamped region coordinate.
+     */
+    private static int clamp(int region, int count) {
+        return Math.max(0, Math.min(region, count - 1));
+    }
+}
@@ -0,0 +1,221 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * A {@link PhysicsBody} of the {@link PartitionedPhysicsBackend}.
+ * It stays the same object for the whole life of its owner, while the Box2D bodies it consists of are replaced
+ * when the owner moves from one region to another:
+ * <ul>
+ *     <li>The circle of a mobile object has exactly one part, in the region the object is in.</li>
+ *     <li>The box of a stationary object has one part in every region whose border area covers its cell,
+ *     so mobile objects on both sides of a region border collide with it.</li>
+ * </ul>
+ * Bodies created before the regions exist keep their state until the backend attaches their parts.
+ */
+public class PartitionedPhysicsBody implements PhysicsBody {
+    /**
+     * The mobile object owning this body, {@code null} for boxes.
+     */
+    private final MobileObject mobileOwner;
+    /**
+     * The stationary object owning this body, {@code null} for circles.
+     */
+    private final StationaryObject stationaryOwner;
+    /**
+     * The radius of the circle, {@code 0} for boxes.
+     */
+    private final float radius;
+    /**
+     * The Box2D bodies of this body, {@code null} until the backend attaches them.
+     */
+    private Box2DPhysicsBody[] parts;
+    /**
+     * The index of the region of each part.
+     */
+    private int[] regions;
+    /**
+     * The x-coordinate of the body's center while it has no parts.
+     */
+    private float x;
+    /**
+     * The y-coordinate of the body's center while it has no parts.
+     */
+    private float y;
+    /**
+     * The velocity in x-direction last set by the owner, carried over when the body changes its region.
+     */
+    private float velocityX;
+    /**
+     * The velocity in y-direction last set by the owner, carried over when the body changes its region.
+     */
+    private float velocityY;
+    /**
+     * Whether the body takes part in the simulation.
+     */
+    private boolean active = true;
+
+    /**
+     * Constructs the circular body of a mobile object.
+     *
+     * @param owner  The mobile object the body belongs to.
+     * @param x      The x-coordinate of the circle's center.
+     * @param y      The y-coordinate of the circle's center.
+     * @param radius The radius of the circle.
+     */
+    public PartitionedPhysicsBody(MobileObject owner, float x, float y, float radius) {
+        this.mobileOwner = owner;
+        this.stationaryOwner = null;
+        this.radius = radius;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Constructs the box body of a stationary object, covering one cell.
+     *
+     * @param owner The stationary object the body belongs to.
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     */
+    public PartitionedPhysicsBody(StationaryObject owner, int x, int y) {
+        this.mobileOwner = null;
+        this.stationaryOwner = owner;
+        this.radius = 0;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Gets the x-coordinate of the body's center.
+     *
+     * @return The x-coordinate in world units.
+     */
+    @Override
+    public float getX() {
+        return parts == null ? x : parts[0].getX();
+    }
+
+    /**
+     * Gets the y-coordinate of the body's center.
+     *
+     * @return The y-coordinate in world units.
+     */
+    @Override
+    public float getY() {
+        return parts == null ? y : parts[0].getY();
+    }
+
+    /**
+     * Sets the velocity of the body and remembers it for a later change of region.
+     *
+     * @param velocityX The velocity in x-direction in world units per second.
+     * @param velocityY The velocity in y-direction in world units per second.
+     */
+    @Override
+    public void setLinearVelocity(float velocityX, float velocityY) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        if (parts == null) return;
+        for (Box2DPhysicsBody part : parts) {
+            part.setLinearVelocity(velocityX, velocityY);
+        }
+    }
+
+    /**
+     * Moves all parts of the body to a position. The backend moves the body to another region in its next step if needed.
+     *
+     * @param x The new x-coordinate in world units.
+     * @param y The new y-coordinate in world units.
+     */
+    @Override
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+        if (parts == null) return;
+        for (Box2DPhysicsBody part : parts) {
+            part.setPosition(x, y);
+        }
+    }
+
+    /**
+     * Activates or deactivates all parts of the body.
+     *
+     * @param active {@code true} to simulate the body, {@code false} to leave it out.
+     */
+    @Override
+    public void setActive(boolean active) {
+        this.active = active;
+        if (parts == null) return;
+        for (Box2DPhysicsBody part : parts) {
+            part.setActive(active);
+        }
+    }
+
+    /**
+     * Replaces the parts of the body and applies the remembered velocity and activity to them.
+     *
+     * @param parts   The Box2D bodies of this body.
+     * @param regions The index of the region of each part.
+     */
+    void attach(Box2DPhysicsBody[] parts, int[] regions) {
+        this.parts = parts;
+        this.regions = regions;
+        for (Box2DPhysicsBody part : parts) {
+            part.setLinearVelocity(velocityX, velocityY);
+            part.setActive(active);
+        }
+    }
+
+    /**
+     * Gets the Box2D bodies of this body.
+     *
+     * @return The parts, or {@code null} if none are attached yet.
+     */
+    Box2DPhysicsBody[] getParts() {
+        return parts;
+    }
+
+    /**
+     * Gets the regions of the parts of this body.
+     *
+     * @return The index of the region of each part, or {@code null} if no parts are attached yet.
+     */
+    int[] getRegions() {
+        return regions;
+    }
+
+    /**
+     * Gets the mobile object owning this body.
+     *
+     * @return The owner, or {@code null} if this is a box.
+     */
+    MobileObject getMobileOwner() {
+        return mobileOwner;
+    }
+
+    /**
+     * Gets the stationary object owning this body.
+     *
+     * @return The owner, or {@code null} if this is a circle.
+     */
+    StationaryObject getStationaryOwner() {
+        return stationaryOwner;
+    }
+
+    /**
+     * Gets the radius of the circle.
+     *
+     * @return The radius, {@code 0} for boxes.
+     */
+    float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Checks if the body takes part in the simulation.
+     *
+     * @return {@code true} if the body is active, {@code false} otherwise.
+     */
+    boolean isActive() {
+        return active;
+    }
+}
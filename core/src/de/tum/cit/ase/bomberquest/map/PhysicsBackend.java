@@ -0,0 +1,86 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Map;
+
+/**
+ * The physics simulation moving the mobile objects of the {@link GameMap} and resolving their collisions.
+ * Mobile objects are circles, stationary objects with a hitbox (bombs, blasts of destroyed walls) and walls are
+ * axis-aligned boxes of one cell. Which contacts block movement is decided by the shared {@link CollisionRules},
+ * so all implementations behave the same. The implementation is selected in the {@link Settings} via {@link PhysicsBackendType}.
+ */
+public interface PhysicsBackend {
+
+    /**
+     * Creates the circular body of a mobile object.
+     *
+     * @param owner  The mobile object the body belongs to.
+     * @param x      The starting x-coordinate in world units.
+     * @param y      The starting y-coordinate in world units.
+     * @param radius The radius of the circle.
+     * @return The created {@link PhysicsBody}.
+     */
+    PhysicsBody createCircle(MobileObject owner, float x, float y, float radius);
+
+    /**
+     * Creates the static box body of a stationary object, covering one cell.
+     *
+     * @param owner The stationary object the body belongs to.
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     * @return The created {@link PhysicsBody}.
+     */
+    PhysicsBody createBox(StationaryObject owner, int x, int y);
+
+    /**
+     * Applies changed {@link CollisionRules} of a mobile object to its body,
+     * e.g. after a player picked up the wallpass or bombpass power-up.
+     *
+     * @param owner The mobile object whose rules changed.
+     */
+    void updateCollisionFilter(MobileObject owner);
+
+    /**
+     * Builds the static collision geometry of all walls once the map is loaded.
+     *
+     * @param grid  The {@link OccupancyGrid} of the map, which the map keeps up to date when walls are destroyed.
+     * @param walls The walls of the map, indexed by their cell coordinates (x,y string).
+     */
+    void buildWalls(OccupancyGrid grid, Map<String, StationaryObject> walls);
+
+    /**
+     * Removes the collision geometry of a destroyed destructible wall.
+     * Walls removed before {@link #buildWalls} is called are ignored.
+     *
+     * @param x The x-coordinate of the wall.
+     * @param y The y-coordinate of the wall.
+     */
+    void removeWall(int x, int y);
+
+    /**
+     * Removes a body from the simulation immediately.
+     * Must not be called while a physics step is running.
+     *
+     * @param body The body to remove.
+     */
+    void destroyBody(PhysicsBody body);
+
+    /**
+     * Removes a body from the simulation before the next physics step.
+     * Safe to call from collision handling while a physics step is running.
+     *
+     * @param body The body to remove.
+     */
+    void destroyBodyLater(PhysicsBody body);
+
+    /**
+     * Advances the simulation by one fixed time step.
+     *
+     * @param timeStep The length of the step in seconds.
+     */
+    void step(float timeStep);
+
+    /**
+     * Releases all resources of the simulation.
+     */
+    void dispose();
+}
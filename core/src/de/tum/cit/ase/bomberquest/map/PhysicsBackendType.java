@@ -0,0 +1,39 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * Enumeration of the available {@link PhysicsBackend} implementations.
+ */
+public enum PhysicsBackendType {
+    /**
+     * Chooses by map size: Box2D with a single world for small maps, split into regions like {@link #PARTITIONED}
+     * from {@link PartitionedPhysicsBackend#MIN_CELLS} cells on. Used by default.
+     */
+    AUTOMATIC,
+    /**
+     * The Box2D physics engine with a single world.
+     */
+    BOX2D,
+    /**
+     * The pure-Java tile collision solver, which needs no native library and is much cheaper on large maps.
+     */
+    TILES,
+    /**
+     * Box2D with one world per region of the map, stepped in parallel, for very large maps.
+     */
+    PARTITIONED;
+
+    /**
+     * Creates a new backend of this type.
+     *
+     * @param rules The {@link CollisionRules} deciding which contacts block movement.
+     * @return The created {@link PhysicsBackend}.
+     */
+    public PhysicsBackend create(CollisionRules rules) {
+        return switch (this) {
+            case AUTOMATIC -> new PartitionedPhysicsBackend(rules, PartitionedPhysicsBackend.MIN_CELLS); // The size is only known once the walls are built
+            case BOX2D -> new Box2DPhysicsBackend(rules);
+            case TILES -> new TilePhysicsBackend(rules);
+            case PARTITIONED -> new PartitionedPhysicsBackend(rules, 0);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * A body of a {@link PhysicsBackend}, i.e. the hitbox of a game object in the physics simulation.
+ * Mobile objects move their body by setting its velocity, the backend then moves it and resolves collisions.
+ */
+public interface PhysicsBody {
+
+    /**
+     * Gets the x-coordinate of the body's center.
+     *
+     * @return The x-coordinate in world units.
+     */
+    float getX();
+
+    /**
+     * Gets the y-coordinate of the body's center.
+     *
+     * @return The y-coordinate in world units.
+     */
+    float getY();
+
+    /**
+     * Sets the velocity the body moves with in the following physics steps.
+     *
+     * @param velocityX The velocity in x-direction in world units per second.
+     * @param velocityY The velocity in y-direction in world units per second.
+     */
+    void setLinearVelocity(float velocityX, float velocityY);
+
+    /**
+     * Moves the body to a position immediately, without resolving collisions.
+     *
+     * @param x The new x-coordinate in world units.
+     * @param y The new y-coordinate in world units.
+     */
+    void setPosition(float x, float y);
+
+    /**
+     * Takes the body out of the simulation or puts it back in.
+     * An inactive body neither moves nor collides, and costs nothing in a physics step.
+     *
+     * @param active {@code true} to simulate the body, {@code false} to leave it out.
+     */
+    void setActive(boolean active);
+}
@@ -1,8 +1,8 @@
 package de.tum.cit.ase.bomberquest.map;
 
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.texture.Animations;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 import de.tum.cit.ase.bomberquest.texture.Textures;
@@ -14,7 +14,7 @@
  * Represents the player character in the game.
  * Players are mobile objects controlled by the user. They can move around the map, place bombs,
  * and collect power-ups. This class extends {@link MobileObject} to inherit basic mobile object
- * functionalities like movement and collision detection. Players are represented as dynamic bodies in the Box2D world.
+ * functionalities like movement and collision detection. Players are represented as dynamic bodies in the physics simulation.
  */
 public class Player extends MobileObject implements Drawable {
     /**
@@ -57,13 +57,14 @@ public class Player extends MobileObject implements Drawable {
     /**
      * Constructor for creating a new Player object, specifically for Player 1 or Player 2 differentiation.
      *
-     * @param world   The Box2D world to which the player's hitbox will be added.
+     * @param physics The physics simulation to which the player's hitbox will be added.
+     * @param id      The id of the player, unique within its map, see {@link GameMap#nextMobileId()}.
      * @param x       The starting x-coordinate of the player in world units.
      * @param y       The starting y-coordinate of the player in world units.
      * @param player1 Boolean flag to indicate if this is Player 1 (true) or Player 2 (false).
      */
-    public Player(World world, float x, float y, boolean player1) {
-        super(world, x, y, 2, 0.3f);
+    public Player(PhysicsBackend physics, int id, float x, float y, boolean player1) {
+        super(physics, id, x, y, 2, 0.3f);
         this.player1 = player1;
         points = 0;
         name = (player1) ? "Player 1" : "Player 2";
@@ -73,12 +74,13 @@ public Player(World world, float x, float y, boolean player1) {
      * Constructor for creating a new Player object, defaulting to Player 1.
      * This constructor is used when only one player is needed, and it defaults to creating Player 1.
      *
-     * @param world The Box2D world to which the player's hitbox will be added.
-     * @param x     The starting x-coordinate of the player in world units.
-     * @param y     The starting y-coordinate of the player in world units.
+     * @param physics The physics simulation to which the player's hitbox will be added.
+     * @param id      The id of the player, unique within its map, see {@link GameMap#nextMobileId()}.
+     * @param x       The starting x-coordinate of the player in world units.
+     * @param y       The starting y-coordinate of the player in world units.
      */
-    public Player(World world, float x, float y) {
-        super(world, x, y, 2, 0.3f);
+    public Player(PhysicsBackend physics, int id, float x, float y) {
+        super(physics, id, x, y, 2, 0.3f);
         this.player1 = true;
         points = 0;
         name = "Player 1";
@@ -240,6 +242,16 @@ yield switch (getLastDirection()) {
         return Animations.PLAYER_DEATH.getKeyFrame(getElapsedTime(), false); // Player death animation
     }
 
+    /**
+     * Gets the flat color representing the player in zoomed-out views.
+     *
+     * @return {@link Color#SKY} for player 1, {@link Color#ORANGE} for player 2.
+     */
+    @Override
+    public Color getMapColor() {
+        return player1 ? Color.SKY : Color.ORANGE;
+    }
+
     /**
      * Gets the name of the player.
      *
@@ -0,0 +1,210 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A shared distance field holding, for every cell of the {@link GameMap}, the walking distance to the nearest living player.
+ * The field is rebuilt once per tick with a multi-source Breadth-First Search (BFS) seeded from all living players,
+ * so enemies can find out both whether a player is within detection range and which player is the nearest
+ * with a single array read instead of computing distances to every player themselves.
+ * The search is bounded by a maximum distance, because enemies only care about players that are close to them.
+ */
+public class PlayerDistanceField {
+    /**
+     * Marker for cells that were not reached by the search in the current tick.
+     */
+    public static final int UNREACHED = Integer.MAX_VALUE;
+    /**
+     * Possible movement directions (up, down, right, left), in the same order as used by the {@link Pathfinder}.
+     */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+
+    /**
+     * Reference to the game map, used to check which cells are free.
+     */
+    private final GameMap map;
+    /**
+     * The maximum walking distance (in cells) the search expands to.
+     */
+    private final int maxDistance;
+    /**
+     * Width of the field in cells.
+     */
+    private final int width;
+    /**
+     * Height of the field in cells.
+     */
+    private final int height;
+    /**
+     * Walking distance from every cell to the nearest player, valid only where {@link #stamps} matches {@link #currentStamp}.
+     */
+    private final int[] distances;
+    /**
+     * Index (into {@link #players}) of the nearest player for every cell.
+     */
+    private final int[] nearestPlayer;
+    /**
+     * Stamp of the update in which each cell was last reached, so the arrays never have to be cleared.
+     */
+    private final int[] stamps;
+    /**
+     * Reusable BFS queue holding cell indices.
+     */
+    private final int[] queue;
+    /**
+     * The players that were used as sources in the latest update.
+     */
+    private final List<Player> players;
+    /**
+     * Stamp of the latest update.
+     */
+    private int currentStamp;
+
+    /**
+     * Constructs a new {@code PlayerDistanceField} covering the whole map.
+     *
+     * @param map         The {@link GameMap} the field is computed for.
+     * @param maxDistance The maximum walking distance in cells the search expands to.
+     */
+    public PlayerDistanceField(GameMap map, int maxDistance) {
+        this.map = map;
+        this.maxDistance = maxDistance;
+        this.width = map.getMAX_X() + 1;
+        this.height = map.getMAX_Y() + 1;
+        this.distances = new int[width * height];
+        this.nearestPlayer = new int[width * height];
+        this.stamps = new int[width * height];
+        this.queue = new int[width * height];
+        this.players = new ArrayList<>();
+        this.currentStamp = 0;
+    }
+
+    /**
+     * Rebuilds the field from the current positions of the given players.
+     * Dead players are skipped. Cells that are not free are given a distance but are not expanded,
+     * so an enemy standing on a bomb still knows how far away the players are.
+     *
+     * @param sources All players of the game, alive or not.
+     */
+    public void update(List<Player> sources) {
+        currentStamp++;
+        players.clear();
+        int head = 0;
+        int tail = 0;
+        for (Player player : sources) {
+            if (player == null || !player.isAlive()) continue;
+            int cellX = player.getCellX();
+            int cellY = player.getCellY();
+            if (!isInside(cellX, cellY)) continue;
+            int index = cellX + cellY * width;
+            players.add(player);
+            if (stamps[index] == currentStamp) continue; // Both players stand on the same cell
+            stamps[index] = currentStamp;
+            distances[index] = 0;
+            nearestPlayer[index] = players.size() - 1;
+            queue[tail++] = index;
+        }
+
+        while (head < tail) {
+            int index = queue[head++];
+            int distance = distances[index];
+            if (distance >= maxDistance) continue; // Do not search further than needed
+            int x = index % width;
+            int y = index / width;
+            if (distance > 0 && !map.isCellFree(x, y)) continue; // Blocked cells are reached but not expanded
+            for (int[] dir : DIRECTIONS) {
+                int newX = x + dir[0];
+                int newY = y + dir[1];
+                // Same bounds as the Pathfinder uses
+                if (newX < 0 || newX >= map.getMAX_X() || newY < 0 || newY >= map.getMAX_Y()) continue;
+                int neighbor = newX + newY * width;
+                if (stamps[neighbor] == currentStamp) continue;
+                stamps[neighbor] = currentStamp;
+                distances[neighbor] = distance + 1;
+                nearestPlayer[neighbor] = nearestPlayer[index];
+                queue[tail++] = neighbor;
+            }
+        }
+    }
+
+    /**
+     * Gets the walking distance from a cell to the nearest living player.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The distance in cells, or {@link #UNREACHED} if no player is within the maximum distance.
+     */
+    public int getDistance(int x, int y) {
+        if (!isInside(x, y)) return UNREACHED;
+        int index = x + y * width;
+        return stamps[index] == currentStamp ? distances[index] : UNREACHED;
+    }
+
+    /**
+     * Gets the player that is nearest (by walking distance) to a cell.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The nearest {@link Player}, or {@code null} if no player is within the maximum distance.
+     */
+    public Player getNearestPlayer(int x, int y) {
+        if (!isInside(x, y)) return null;
+        int index = x + y * width;
+        return stamps[index] == currentStamp ? players.get(nearestPlayer[index]) : null;
+    }
+
+    /**
+     * Builds the shortest path from a cell to the nearest player by walking down the distance field.
+     * No additional search is needed, because every reached cell was expanded from a free neighbor that is one step closer.
+     *
+     * @param x The x-coordinate of the start cell.
+     * @param y The y-coordinate of the start cell.
+     * @return A {@link List} of {@link Tile} objects from the start cell to the player's cell, inclusive of both,
+     * or {@code null} if no player is within the maximum distance.
+     */
+    public List<Tile> pathToNearestPlayer(int x, int y) {
+        int distance = getDistance(x, y);
+        if (distance == UNREACHED) return null;
+        List<Tile> path = new ArrayList<>(distance + 1);
+        path.add(new Tile(x, y));
+        while (distance > 0) {
+            boolean stepped = false;
+            for (int[] dir : DIRECTIONS) {
+                int newX = x + dir[0];
+                int newY = y + dir[1];
+                // Only step into cells the search expanded from, blocked cells may carry a distance too
+                if (getDistance(newX, newY) == distance - 1 && (distance == 1 || map.isCellFree(newX, newY))) {
+                    x = newX;
+                    y = newY;
+                    distance--;
+                    path.add(new Tile(x, y));
+                    stepped = true;
+                    break;
+                }
+            }
+            if (!stepped) return null; // Should not happen, the field is consistent
+        }
+        return path;
+    }
+
+    /**
+     * Gets the maximum walking distance the field is computed for.
+     *
+     * @return The maximum distance in cells.
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * Checks if a cell lies within the field.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell is inside the field, {@code false} otherwise.
+     */
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
@@ -1,7 +1,7 @@
 package de.tum.cit.ase.bomberquest.map;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.World;
 import de.tum.cit.ase.bomberquest.texture.Animations;
 import de.tum.cit.ase.bomberquest.texture.Drawable;
 
@@ -26,13 +26,13 @@ public class PowerUp extends StationaryObject implements Drawable {
     /**
      * Constructs a new PowerUp object.
      *
-     * @param world The Box2D world (not used for power-ups as they have no body, but included for consistent object creation).
-     * @param x     The x-coordinate of the power-up in game units.
-     * @param y     The y-coordinate of the power-up in game units.
-     * @param type  The {@link WallContentType} of this power-up, determining its effect.
+     * @param physics The physics simulation (not used for power-ups as they have no body, but included for consistent object creation).
+     * @param x       The x-coordinate of the power-up in game units.
+     * @param y       The y-coordinate of the power-up in game units.
+     * @param type    The {@link WallContentType} of this power-up, determining its effect.
      */
-    public PowerUp(World world, int x, int y, WallContentType type) {
-        super(world, x, y, false);
+    public PowerUp(PhysicsBackend physics, int x, int y, WallContentType type) {
+        super(physics, x, y, false);
         this.type = type;
         elapsedTime = 0;
     }
@@ -81,4 +81,14 @@ public TextureRegion getCurrentAppearance() {
             default -> null; // Returns null for unknown or unsupported power-up types
         };
     }
+
+    /**
+     * Gets the flat color representing the power-up in zoomed-out views.
+     *
+     * @return {@link Color#GOLD}.
+     */
+    @Override
+    public Color getMapColor() {
+        return Color.GOLD;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The persistent drawing order of the mobile objects, kept by the {@link GameSimulation} from tick to tick.
+ * Every mobile object has one entry holding its position in the previous and in the current tick and its sort key.
+ * Entries are only created for objects entering the view and dropped for removed or hidden ones, so an unchanged scene produces no garbage.
+ * Objects are drawn from top to bottom, so lower objects appear in front; as they barely move between two ticks,
+ * the entries stay nearly sorted and an insertion sort restores the order in linear time.
+ */
+public class RenderQueue {
+    /**
+     * The entries in drawing order, i.e. by descending y-coordinate.
+     */
+    private Entry[] entries = new Entry[16];
+    /**
+     * The number of entries.
+     */
+    private int size;
+    /**
+     * The entry of every mobile object in the queue.
+     */
+    private final Map<MobileObject, Entry> index = new IdentityHashMap<>();
+    /**
+     * The stamp of the current tick, entries not updated with it are dropped at the end of the tick.
+     */
+    private int currentStamp;
+
+    /**
+     * Starts a new tick. Every object that is still to be drawn must be {@link #update updated} afterwards.
+     */
+    public void beginTick() {
+        currentStamp++;
+    }
+
+    /**
+     * Records the current position of a mobile object, adding an entry for it if it is new.
+     * The position of the previous tick becomes the start of its interpolated movement.
+     *
+     * @param object The mobile object.
+     */
+    public void update(MobileObject object) {
+        Entry entry = index.get(object);
+        if (entry == null) {
+            entry = new Entry(object);
+            index.put(object, entry);
+            if (size == entries.length) {
+                Entry[] grown = new Entry[size * 2];
+                System.arraycopy(entries, 0, grown, 0, size);
+                entries = grown;
+            }
+            entries[size++] = entry;
+        }
+        entry.previousX = entry.stamp == 0 ? object.getX() : entry.x; // New objects start where they are
+        entry.previousY = entry.stamp == 0 ? object.getY() : entry.y;
+        entry.x = object.getX();
+        entry.y = object.getY();
+        entry.stamp = currentStamp;
+    }
+
+    /**
+     * Finishes the tick: drops the entries of the objects that were not updated and restores the drawing order.
+     */
+    public void endTick() {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries[i];
+            if (entry.stamp == currentStamp) {
+                entries[kept++] = entry;
+            } else {
+                index.remove(entry.object); // The object has left the map or the view
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            entries[i] = null;
+        }
+        size = kept;
+        // Insertion sort, linear on the nearly sorted entries of the previous tick
+        for (int i = 1; i < size; i++) {
+            Entry entry = entries[i];
+            int j = i - 1;
+            while (j >= 0 && entries[j].y < entry.y) {
+                entries[j + 1] = entries[j];
+                j--;
+            }
+            entries[j + 1] = entry;
+        }
+    }
+
+    /**
+     * Gets the number of objects in the queue.
+     *
+     * @return The number of objects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the object at a position of the drawing order.
+     *
+     * @param i The position, from {@code 0} (topmost object) to {@code size() - 1}.
+     * @return The mobile object.
+     */
+    public MobileObject getObject(int i) {
+        return entries[i].object;
+    }
+
+    /**
+     * Gets the x-coordinate of the object at a position of the drawing order in the previous tick.
+     *
+     * @param i The position in the drawing order.
+     * @return The previous x-coordinate in world units.
+     */
+    public float getPreviousX(int i) {
+        return entries[i].previousX;
+    }
+
+    /**
+     * Gets the y-coordinate of the object at a position of the drawing order in the previous tick.
+     *
+     * @param i The position in the drawing order.
+     * @return The previous y-coordinate in world units.
+     */
+    public float getPreviousY(int i) {
+        return entries[i].previousY;
+    }
+
+    /**
+     * Gets the x-coordinate of an object in the previous tick.
+     *
+     * @param object The mobile object.
+     * @return The previous x-coordinate, or the current one if the object is not in the queue.
+     */
+    public float getPreviousX(MobileObject object) {
+        Entry entry = index.get(object);
+        return entry == null ? object.getX() : entry.previousX;
+    }
+
+    /**
+     * Gets the y-coordinate of an object in the previous tick.
+     *
+     * @param object The mobile object.
+     * @return The previous y-coordinate, or the current one if the object is not in the queue.
+     */
+    public float getPreviousY(MobileObject object) {
+        Entry entry = index.get(object);
+        return entry == null ? object.getY() : entry.previousY;
+    }
+
+    /**
+     * The render state of one mobile object, reused for as long as the object is part of the map.
+     */
+    private static class Entry {
+        /**
+         * The mobile object.
+         */
+        private final MobileObject object;
+        /**
+         * The x-coordinate in the previous tick.
+         */
+        private float previousX;
+        /**
+         * The y-coordinate in the previous tick.
+         */
+        private float previousY;
+        /**
+         * The x-coordinate in the current tick.
+         */
+        private float x;
+        /**
+         * The y-coordinate in the current tick, which is also the sort key.
+         */
+        private float y;
+        /**
+         * The stamp of the last tick that updated the entry, {@code 0} if it was never updated.
+         */
+        private int stamp;
+
+        /**
+         * Constructs a new entry.
+         *
+         * @param object The mobile object.
+         */
+        private Entry(MobileObject object) {
+            this.object = object;
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+
+/**
+ * A picture of the game state after one simulation tick, published by the {@link GameSimulation} for the render thread.
+ * It holds everything the game screen draws, so the renderer never reads the collections of the {@link GameMap}
+ * while the simulation changes them.
+ * <p>
+ * Snapshots are reused: the simulation rotates three of them, so it always has one to fill while the renderer
+ * reads another. The sprites are stored in flat arrays that only grow, so filling a snapshot produces no garbage.
+ * A snapshot must not be changed after it was published until the renderer has handed it back.
+ */
+public class RenderSnapshot {
+    /**
+     * The textures of the sprites in drawing order, from the lowest layer to the highest.
+     */
+    private TextureRegion[] appearances = new TextureRegion[64];
+    /**
+     * The packed flat color of each sprite, drawn instead of the texture in zoomed-out views.
+     */
+    private float[] mapColors = new float[64];
+    /**
+     * The x-coordinate of each sprite in the previous snapshot.
+     */
+    private float[] previousX = new float[64];
+    /**
+     * The y-coordinate of each sprite in the previous snapshot.
+     */
+    private float[] previousY = new float[64];
+    /**
+     * The x-coordinate of each sprite in this snapshot.
+     */
+    private float[] x = new float[64];
+    /**
+     * The y-coordinate of each sprite in this snapshot.
+     */
+    private float[] y = new float[64];
+    /**
+     * The number of sprites.
+     */
+    private int size;
+    /**
+     * The x-coordinate of every player and enemy on the whole map, for the minimap.
+     */
+    private float[] markerX = new float[64];
+    /**
+     * The y-coordinate of every player and enemy on the whole map, for the minimap.
+     */
+    private float[] markerY = new float[64];
+    /**
+     * The packed flat color of every player and enemy on the whole map, for the minimap.
+     */
+    private float[] markerColors = new float[64];
+    /**
+     * The number of minimap markers.
+     */
+    private int markerCount;
+    /**
+     * The position of the first sprite of each {@link SpriteLayer} in the drawing order, indexed by its ordinal.
+     */
+    private final int[] layerStarts = new int[SpriteLayer.values().length];
+    /**
+     * The position after the last sprite of each {@link SpriteLayer} in the drawing order, indexed by its ordinal.
+     */
+    private final int[] layerEnds = new int[SpriteLayer.values().length];
+    /**
+     * The x-coordinate of player 1 in the previous snapshot, used by the camera to follow the player.
+     */
+    private float player1PreviousX;
+    /**
+     * The y-coordinate of player 1 in the previous snapshot.
+     */
+    private float player1PreviousY;
+    /**
+     * The x-coordinate of player 1 in this snapshot.
+     */
+    private float player1X;
+    /**
+     * The y-coordinate of player 1 in this snapshot.
+     */
+    private float player1Y;
+    /**
+     * The number of players, {@code 1} or {@code 2}.
+     */
+    private int playerCount;
+    /**
+     * The name of each player, player 1 first.
+     */
+    private final String[] playerNames = new String[2];
+    /**
+     * The points of each player.
+     */
+    private final int[] playerPoints = new int[2];
+    /**
+     * The blast radius of each player's bombs.
+     */
+    private final int[] playerBlastRadii = new int[2];
+    /**
+     * The number of bombs each player can place concurrently.
+     */
+    private final int[] playerConcurrentBombs = new int[2];
+    /**
+     * The remaining time in seconds.
+     */
+    private int timer;
+    /**
+     * The number of enemies left on the map.
+     */
+    private int numberOfEnemies;
+    /**
+     * Whether the exit is open.
+     */
+    private boolean exitOpen;
+    /**
+     * Whether the game is over.
+     */
+    private boolean gameOver;
+    /**
+     * The {@link System#nanoTime()} at which the snapshot was published.
+     */
+    private long publishTime;
+    /**
+     * The number of the tick the snapshot was taken after, {@code -1} if it was never filled.
+     */
+    private long sequence = -1;
+
+    /**
+     * Removes all sprites, before the snapshot is filled again.
+     */
+    void clear() {
+        size = 0;
+        markerCount = 0;
+        Arrays.fill(layerStarts, 0);
+        Arrays.fill(layerEnds, 0);
+    }
+
+    /**
+     * Starts a layer: the sprites added until {@link #endLayer} belong to it.
+     *
+     * @param layer The layer whose sprites follow.
+     */
+    void beginLayer(SpriteLayer layer) {
+        layerStarts[layer.ordinal()] = size;
+        layerEnds[layer.ordinal()] = size;
+    }
+
+    /**
+     * Finishes a layer started with {@link #beginLayer}.
+     *
+     * @param layer The layer whose sprites were added.
+     */
+    void endLayer(SpriteLayer layer) {
+        layerEnds[layer.ordinal()] = size;
+    }
+
+    /**
+     * Appends a sprite to the drawing order.
+     *
+     * @param appearance The texture of the object.
+     * @param mapColor   The packed flat color of the object, see {@link com.badlogic.gdx.graphics.Color#toFloatBits()}.
+     * @param previousX  The x-coordinate in the previous snapshot, in world units.
+     * @param previousY  The y-coordinate in the previous snapshot, in world units.
+     * @param x          The x-coordinate in this snapshot, in world units.
+     * @param y          The y-coordinate in this snapshot, in world units.
+     */
+    void add(TextureRegion appearance, float mapColor, float previousX, float previousY, float x, float y) {
+        if (size == appearances.length) grow();
+        this.appearances[size] = appearance;
+        this.mapColors[size] = mapColor;
+        this.previousX[size] = previousX;
+        this.previousY[size] = previousY;
+        this.x[size] = x;
+        this.y[size] = y;
+        size++;
+    }
+
+    /**
+     * Appends a player or enemy to the minimap markers. Unlike sprites, markers are captured on the whole map.
+     *
+     * @param x        The x-coordinate in this snapshot, in world units.
+     * @param y        The y-coordinate in this snapshot, in world units.
+     * @param mapColor The packed flat color of the object.
+     */
+    void addMarker(float x, float y, float mapColor) {
+        if (markerCount == markerX.length) {
+            int capacity = markerCount * 2;
+            markerX = grow(markerX, markerCount, capacity);
+            markerY = grow(markerY, markerCount, capacity);
+            markerColors = grow(markerColors, markerCount, capacity);
+        }
+        markerX[markerCount] = x;
+        markerY[markerCount] = y;
+        markerColors[markerCount] = mapColor;
+        markerCount++;
+    }
+
+    /**
+     * Sets the position of player 1 for the camera.
+     *
+     * @param previousX The x-coordinate in the previous snapshot, in world units.
+     * @param previousY The y-coordinate in the previous snapshot, in world units.
+     * @param x         The x-coordinate in this snapshot, in world units.
+     * @param y         The y-coordinate in this snapshot, in world units.
+     */
+    void setPlayer1(float previousX, float previousY, float x, float y) {
+        this.player1PreviousX = previousX;
+        this.player1PreviousY = previousY;
+        this.player1X = x;
+        this.player1Y = y;
+    }
+
+    /**
+     * Sets the game state shown by the HUD and the publishing information.
+     * The stats of the players are copied, so the HUD never reads the players while the simulation changes them.
+     *
+     * @param player1         Player 1.
+     * @param player2         Player 2, or {@code null} in single player mode.
+     * @param timer           The remaining time in seconds.
+     * @param numberOfEnemies The number of enemies left on the map.
+     * @param exitOpen        Whether the exit is open.
+     * @param gameOver        Whether the game is over.
+     * @param publishTime     The {@link System#nanoTime()} at which the snapshot is published.
+     * @param sequence        The number of the tick the snapshot was taken after.
+     */
+    void setState(Player player1, Player player2, int timer, int numberOfEnemies, boolean exitOpen, boolean gameOver,
+                  long publishTime, long sequence) {
+        playerCount = player2 == null ? 1 : 2;
+        setPlayerStats(0, player1);
+        if (player2 != null) setPlayerStats(1, player2);
+        this.timer = timer;
+        this.numberOfEnemies = numberOfEnemies;
+        this.exitOpen = exitOpen;
+        this.gameOver = gameOver;
+        this.publishTime = publishTime;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Copies the stats of a player shown by the HUD.
+     *
+     * @param index  The index of the player, {@code 0} for player 1 and {@code 1} for player 2.
+     * @param player The player.
+     */
+    private void setPlayerStats(int index, Player player) {
+        playerNames[index] = player.getName();
+        playerPoints[index] = player.getPoints();
+        playerBlastRadii[index] = player.getBlastRadius();
+        playerConcurrentBombs[index] = player.getConcurrentBombs();
+    }
+
+    /**
+     * Doubles the capacity of the sprite arrays.
+     */
+    private void grow() {
+        int capacity = appearances.length * 2;
+        TextureRegion[] grownAppearances = new TextureRegion[capacity];
+        System.arraycopy(appearances, 0, grownAppearances, 0, size);
+        appearances = grownAppearances;
+        mapColors = grow(mapColors, size, capacity);
+        previousX = grow(previousX, size, capacity);
+        previousY = grow(previousY, size, capacity);
+        x = grow(x, size, capacity);
+        y = grow(y, size, capacity);
+    }
+
+    /**
+     * Copies a coordinate or color array into a larger one.
+     *
+     * @param array    The array to copy.
+     * @param length   The number of used elements.
+     * @param capacity The new length.
+     * @return The larger array.
+     */
+    private static float[] grow(float[] array, int length, int capacity) {
+        float[] grown = new float[capacity];
+        System.arraycopy(array, 0, grown, 0, length);
+        return grown;
+    }
+
+    /**
+     * Gets the number of sprites.
+     *
+     * @return The number of sprites in drawing order.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the position of the first sprite of a layer.
+     *
+     * @param layer The layer.
+     * @return The position in the drawing order.
+     */
+    public int getLayerStart(SpriteLayer layer) {
+        return layerStarts[layer.ordinal()];
+    }
+
+    /**
+     * Gets the position after the last sprite of a layer.
+     *
+     * @param layer The layer.
+     * @return The position in the drawing order, equal to {@link #getLayerStart} if the layer is empty.
+     */
+    public int getLayerEnd(SpriteLayer layer) {
+        return layerEnds[layer.ordinal()];
+    }
+
+    /**
+     * Gets the texture of a sprite.
+     *
+     * @param i The position of the sprite in the drawing order.
+     * @return The texture region to draw.
+     */
+    public TextureRegion getAppearance(int i) {
+        return appearances[i];
+    }
+
+    /**
+     * Gets the flat color of a sprite for zoomed-out views.
+     *
+     * @param i The position of the sprite in the drawing order.
+     * @return The packed color, see {@link com.badlogic.gdx.graphics.g2d.Batch#setPackedColor(float)}.
+     */
+    public float getMapColor(int i) {
+        return mapColors[i];
+    }
+
+    /**
+     * Gets the interpolated x-coordinate of a sprite.
+     *
+     * @param i     The position of the sprite in the drawing order.
+     * @param alpha The interpolation factor, {@code 0} for the previous and {@code 1} for this snapshot.
+     * @return The x-coordinate in world units.
+     */
+    public float getX(int i, float alpha) {
+        return previousX[i] + (x[i] - previousX[i]) * alpha;
+    }
+
+    /**
+     * Gets the interpolated y-coordinate of a sprite.
+     *
+     * @param i     The position of the sprite in the drawing order.
+     * @param alpha The interpolation factor, {@code 0} for the previous and {@code 1} for this snapshot.
+     * @return The y-coordinate in world units.
+     */
+    public float getY(int i, float alpha) {
+        return previousY[i] + (y[i] - previousY[i]) * alpha;
+    }
+
+    /**
+     * Gets the number of minimap markers.
+     *
+     * @return The number of players and enemies on the whole map.
+     */
+    public int getMarkerCount() {
+        return markerCount;
+    }
+
+    /**
+     * Gets the x-coordinate of a minimap marker.
+     *
+     * @param i The index of the marker.
+     * @return The x-coordinate in world units.
+     */
+    public float getMarkerX(int i) {
+        return markerX[i];
+    }
+
+    /**
+     * Gets the y-coordinate of a minimap marker.
+     *
+     * @param i The index of the marker.
+     * @return The y-coordinate in world units.
+     */
+    public float getMarkerY(int i) {
+        return markerY[i];
+    }
+
+    /**
+     * Gets the flat color of a minimap marker.
+     *
+     * @param i The index of the marker.
+     * @return The packed color, see {@link com.badlogic.gdx.graphics.g2d.Batch#setPackedColor(float)}.
+     */
+    public float getMarkerColor(int i) {
+        return markerColors[i];
+    }
+
+    /**
+     * Gets the interpolated x-coordinate of player 1.
+     *
+     * @param alpha The interpolation factor, {@code 0} for the previous and {@code 1} for this snapshot.
+     * @return The x-coordinate in world units.
+     */
+    public float getPlayer1X(float alpha) {
+        return player1PreviousX + (player1X - player1PreviousX) * alpha;
+    }
+
+    /**
+     * Gets the interpolated y-coordinate of player 1.
+     *
+     * @param alpha The interpolation factor, {@code 0} for the previous and {@code 1} for this snapshot.
+     * @return The y-coordinate in world units.
+     */
+    public float getPlayer1Y(float alpha) {
+        return player1PreviousY + (player1Y - player1PreviousY) * alpha;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return {@code 1} in single player mode, {@code 2} in multiplayer mode.
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Gets the name of a player.
+     *
+     * @param index The index of the player, {@code 0} for player 1 and {@code 1} for player 2.
+     * @return The player's name.
+     */
+    public String getPlayerName(int index) {
+        return playerNames[index];
+    }
+
+    /**
+     * Gets the points of a player.
+     *
+     * @param index The index of the player, {@code 0} for player 1 and {@code 1} for player 2.
+     * @return The player's points.
+     */
+    public int getPlayerPoints(int index) {
+        return playerPoints[index];
+    }
+
+    /**
+     * Gets the blast radius of a player's bombs.
+     *
+     * @param index The index of the player, {@code 0} for player 1 and {@code 1} for player 2.
+     * @return The blast radius in cells.
+     */
+    public int getPlayerBlastRadius(int index) {
+        return playerBlastRadii[index];
+    }
+
+    /**
+     * Gets the number of bombs a player can place concurrently.
+     *
+     * @param index The index of the player, {@code 0} for player 1 and {@code 1} for player 2.
+     * @return The number of concurrent bombs.
+     */
+    public int getPlayerConcurrentBombs(int index) {
+        return playerConcurrentBombs[index];
+    }
+
+    /**
+     * Gets the remaining time.
+     *
+     * @return The remaining time in seconds.
+     */
+    public int getTimer() {
+        return timer;
+    }
+
+    /**
+     * Gets the number of enemies left on the map.
+     *
+     * @return The number of enemies.
+     */
+    public int getNumberOfEnemies() {
+        return numberOfEnemies;
+    }
+
+    /**
+     * Checks if the exit is open.
+     *
+     * @return {@code true} if the exit is open, {@code false} otherwise.
+     */
+    public boolean isExitOpen() {
+        return exitOpen;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return {@code true} if the game is over, {@code false} otherwise.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of the tick the snapshot was taken after.
+     *
+     * @return The sequence number, {@code -1} if the snapshot was never filled.
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the interpolation factor between the previous and this snapshot for the current time.
+     * Rendering runs one tick behind the simulation, reaching this snapshot when the next one is due.
+     *
+     * @param timeStep The length of a simulation tick in seconds.
+     * @return The interpolation factor between {@code 0} and {@code 1}.
+     */
+    public float getAlpha(float timeStep) {
+        float alpha = (System.nanoTime() - publishTime) / (timeStep * 1_000_000_000f);
+        return Math.max(0, Math.min(alpha, 1));
+    }
+}
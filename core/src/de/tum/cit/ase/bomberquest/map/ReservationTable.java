@@ -0,0 +1,236 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Arrays;
+
+/**
+ * A space-time reservation table recording which {@link MobileObject} plans to be in which cell at which time slot.
+ * Enemies reserve the cells of their paths, so other enemies can plan around them instead of following the same path.
+ * The table is an open addressing hash table of fixed capacity. Only the slots within a short window from the current
+ * slot are kept: whenever the current slot advances, the table is compacted and expired reservations are dropped,
+ * so its size never depends on the length of the game.
+ */
+public class ReservationTable {
+    /**
+     * Marker for an unused entry.
+     */
+    private static final long EMPTY = -1L;
+
+    /**
+     * Duration of one time slot in seconds.
+     */
+    private final float slotDuration;
+    /**
+     * Number of time slots from the current one that can be reserved.
+     */
+    private final int window;
+    /**
+     * Bit mask for mapping hashes to entry indices, the capacity minus one.
+     */
+    private final int mask;
+    /**
+     * The (slot, cell) key of each entry, or {@link #EMPTY}.
+     */
+    private long[] keys;
+    /**
+     * The owner of each entry, {@code null} if the reservation was released but the entry is still part of a probe chain.
+     */
+    private MobileObject[] owners;
+    /**
+     * Spare key array the live entries are moved into on compaction.
+     */
+    private long[] spareKeys;
+    /**
+     * Spare owner array the live entries are moved into on compaction.
+     */
+    private MobileObject[] spareOwners;
+    /**
+     * The current time slot, reservations of earlier slots are expired.
+     */
+    private int currentSlot;
+
+    /**
+     * Constructs a new, empty {@code ReservationTable}.
+     *
+     * @param capacity     The maximum number of reservations, rounded up to a power of two.
+     * @param window       The number of time slots from the current one that can be reserved.
+     * @param slotDuration The duration of one time slot in seconds.
+     */
+    public ReservationTable(int capacity, int window, float slotDuration) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.mask = size - 1;
+        this.window = window;
+        this.slotDuration = slotDuration;
+        this.keys = new long[size];
+        this.owners = new MobileObject[size];
+        this.spareKeys = new long[size];
+        this.spareOwners = new MobileObject[size];
+        Arrays.fill(keys, EMPTY);
+        this.currentSlot = 0;
+    }
+
+    /**
+     * Advances the table to the time slot of the given game time and drops expired reservations if the slot changed.
+     *
+     * @param time The current game time in seconds.
+     */
+    public void advance(float time) {
+        int slot = (int) (time / slotDuration);
+        if (slot == currentSlot) return;
+        currentSlot = slot;
+        // Move the live reservations into the spare arrays, dropping expired and released entries
+        Arrays.fill(spareKeys, EMPTY);
+        Arrays.fill(spareOwners, null);
+        long[] oldKeys = keys;
+        MobileObject[] oldOwners = owners;
+        keys = spareKeys;
+        owners = spareOwners;
+        spareKeys = oldKeys;
+        spareOwners = oldOwners;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldOwners[i] != null && isLive(slotOf(oldKeys[i]))) {
+                insert(oldKeys[i], oldOwners[i]);
+            }
+        }
+    }
+
+    /**
+     * Reserves a cell at a time slot for the given owner.
+     *
+     * @param owner The object making the reservation.
+     * @param cell  The index of the cell.
+     * @param slot  The absolute time slot.
+     * @return {@code true} if the reservation was made, {@code false} if the slot is outside the window, the cell
+     * is already reserved by another object, or the table is full.
+     */
+    public boolean reserve(MobileObject owner, int cell, int slot) {
+        if (!isLive(slot)) return false;
+        long key = keyOf(cell, slot);
+        int index = find(key);
+        if (index >= 0) {
+            if (owners[index] != null && owners[index] != owner) return false;
+            owners[index] = owner;
+            return true;
+        }
+        return insert(key, owner);
+    }
+
+    /**
+     * Gets the object that reserved a cell at a time slot.
+     *
+     * @param cell The index of the cell.
+     * @param slot The absolute time slot.
+     * @return The owner of the reservation, or {@code null} if the cell is not reserved at that slot.
+     */
+    public MobileObject getOwner(int cell, int slot) {
+        if (!isLive(slot)) return null;
+        int index = find(keyOf(cell, slot));
+        return index >= 0 ? owners[index] : null;
+    }
+
+    /**
+     * Releases all reservations of the given owner, e.g. before it plans a new path.
+     *
+     * @param owner The object whose reservations should be released.
+     */
+    public void releaseAll(MobileObject owner) {
+        for (int i = 0; i < owners.length; i++) {
+            if (owners[i] == owner) owners[i] = null; // Keep the key so that probe chains stay intact
+        }
+    }
+
+    /**
+     * Gets the current time slot.
+     *
+     * @return The current absolute time slot.
+     */
+    public int getCurrentSlot() {
+        return currentSlot;
+    }
+
+    /**
+     * Gets the number of time slots from the current one that can be reserved.
+     *
+     * @return The size of the window in slots.
+     */
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * Finds the entry holding a key by linear probing.
+     *
+     * @param key The (slot, cell) key.
+     * @return The index of the entry, or {@code -1} if the key is not in the table.
+     */
+    private int find(long key) {
+        int index = hash(key);
+        for (int probes = 0; probes <= mask; probes++) {
+            long current = keys[index];
+            if (current == EMPTY) return -1;
+            if (current == key) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a key that is not yet in the table, reusing the first expired or released entry of its probe chain.
+     *
+     * @param key   The (slot, cell) key.
+     * @param owner The owner of the reservation.
+     * @return {@code true} if the key was inserted, {@code false} if the table is full.
+     */
+    private boolean insert(long key, MobileObject owner) {
+        int index = hash(key);
+        for (int probes = 0; probes <= mask; probes++) {
+            if (keys[index] == EMPTY || owners[index] == null || !isLive(slotOf(keys[index]))) {
+                keys[index] = key;
+                owners[index] = owner;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a time slot lies within the window of the table.
+     *
+     * @param slot The absolute time slot.
+     * @return {@code true} if the slot can hold reservations, {@code false} otherwise.
+     */
+    private boolean isLive(int slot) {
+        return slot >= currentSlot && slot <= currentSlot + window;
+    }
+
+    /**
+     * Packs a cell and a time slot into one key.
+     *
+     * @param cell The index of the cell.
+     * @param slot The absolute time slot.
+     * @return The (slot, cell) key.
+     */
+    private static long keyOf(int cell, int slot) {
+        return ((long) slot << 32) | (cell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Extracts the time slot from a key.
+     *
+     * @param key The (slot, cell) key.
+     * @return The absolute time slot.
+     */
+    private static int slotOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Maps a key to its home entry index.
+     *
+     * @param key The (slot, cell) key.
+     * @return The index of the first entry to probe.
+     */
+    private int hash(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
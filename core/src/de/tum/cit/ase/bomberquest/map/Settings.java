@@ -4,7 +4,7 @@
  * Configuration class for game settings.
  * This class holds various settings that can be adjusted to modify gameplay,
  * such as enemy AI behavior, enemy bomb placement capability, game timer duration,
- * and the probability of power-ups appearing.
+ * the probability of power-ups appearing, the physics backend, the simulation rate, the enemy activity radius and how the ground is drawn.
  * It provides getters and setters for each setting, allowing for dynamic adjustment of game parameters.
  */
 public class Settings {
@@ -28,6 +28,32 @@ public class Settings {
      * A higher percentage increases the frequency of power-up appearances in the game.
      */
     private int powerUpChance;
+    /**
+     * The physics simulation used for movement and collisions.
+     * By default Box2D is used, split into regions stepped in parallel on large maps;
+     * the tile collision solver is a cheaper alternative.
+     */
+    private PhysicsBackendType physicsBackend;
+    /**
+     * The number of fixed simulation ticks per second, independent of the monitor's refresh rate.
+     * All game logic and physics advance by {@code 1 / tickRate} seconds per tick.
+     */
+    private int tickRate;
+    /**
+     * The maximum number of ticks run in a row to catch up after a stall.
+     * If the simulation falls further behind, the remaining time is dropped instead of spiralling.
+     */
+    private int maxSubSteps;
+    /**
+     * The distance in cells from the nearest player beyond which enemies are put to sleep, see {@link ActivityPolicy}.
+     * Values below 1 keep all enemies active.
+     */
+    private int activityRadius;
+    /**
+     * How the game screen draws the ground and the walls of the map.
+     * By default, large maps are drawn by a shader and smaller maps from cached sprites.
+     */
+    private GroundLayerType groundLayer;
 
     /**
      * Default constructor for {@code Settings}.
@@ -36,12 +62,22 @@ public class Settings {
      * - {@code aliensBombs} is set to {@code false} (enemies do not place bombs).
      * - {@code timer} is set to 350 seconds.
      * - {@code powerUpChance} is set to 20% (chance for power-ups to appear).
+     * - {@code physicsBackend} is set to {@link PhysicsBackendType#AUTOMATIC}.
+     * - {@code tickRate} is set to 60 ticks per second.
+     * - {@code maxSubSteps} is set to 5 ticks.
+     * - {@code activityRadius} is set to 16 cells.
+     * - {@code groundLayer} is set to {@link GroundLayerType#AUTOMATIC}.
      */
     public Settings() {
         aliensSmart = true;
         aliensBombs = false;
         timer = 350;
         powerUpChance = 20;
+        physicsBackend = PhysicsBackendType.AUTOMATIC;
+        tickRate = 60;
+        maxSubSteps = 5;
+        activityRadius = 16;
+        groundLayer = GroundLayerType.AUTOMATIC;
     }
 
     /**
@@ -115,4 +151,94 @@ public int getPowerUpChance() {
     public void setPowerUpChance(int powerUpChance) {
         this.powerUpChance = powerUpChance;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the physics backend used for movement and collisions.
+     *
+     * @return The selected {@link PhysicsBackendType}.
+     */
+    public PhysicsBackendType getPhysicsBackend() {
+        return physicsBackend;
+    }
+
+    /**
+     * Sets the physics backend used for movement and collisions.
+     *
+     * @param physicsBackend The {@link PhysicsBackendType} to use for the next game.
+     */
+    public void setPhysicsBackend(PhysicsBackendType physicsBackend) {
+        this.physicsBackend = physicsBackend;
+    }
+
+    /**
+     * Gets the number of fixed simulation ticks per second.
+     *
+     * @return The tick rate in ticks per second.
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Sets the number of fixed simulation ticks per second.
+     *
+     * @param tickRate The tick rate in ticks per second for the next game, at least 1.
+     */
+    public void setTickRate(int tickRate) {
+        this.tickRate = Math.max(tickRate, 1); // A tick rate of 0 would make the time step infinite
+    }
+
+    /**
+     * Gets the maximum number of ticks run in a row to catch up after a stall.
+     *
+     * @return The maximum number of ticks.
+     */
+    public int getMaxSubSteps() {
+        return maxSubSteps;
+    }
+
+    /**
+     * Sets the maximum number of ticks run in a row to catch up after a stall.
+     *
+     * @param maxSubSteps The maximum number of ticks for the next game, at least 1.
+     */
+    public void setMaxSubSteps(int maxSubSteps) {
+        this.maxSubSteps = Math.max(maxSubSteps, 1); // The simulation must advance by at least one tick
+    }
+
+    /**
+     * Gets the distance in cells from the nearest player beyond which enemies are put to sleep.
+     *
+     * @return The activity radius in cells.
+     */
+    public int getActivityRadius() {
+        return activityRadius;
+    }
+
+    /**
+     * Sets the distance in cells from the nearest player beyond which enemies are put to sleep.
+     *
+     * @param activityRadius The activity radius in cells for the next game, below 1 to keep all enemies active.
+     */
+    public void setActivityRadius(int activityRadius) {
+        this.activityRadius = activityRadius;
+    }
+
+    /**
+     * Gets how the game screen draws the ground and the walls of the map.
+     *
+     * @return The selected {@link GroundLayerType}.
+     */
+    public GroundLayerType getGroundLayer() {
+        return groundLayer;
+    }
+
+    /**
+     * Sets how the game screen draws the ground and the walls of the map.
+     *
+     * @param groundLayer The {@link GroundLayerType} to use for the next game.
+     */
+    public void setGroundLayer(GroundLayerType groundLayer) {
+        this.groundLayer = groundLayer;
+    }
+}
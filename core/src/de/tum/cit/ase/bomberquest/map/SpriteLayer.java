@@ -0,0 +1,24 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * Enumeration of the groups of sprites in a {@link RenderSnapshot}, in drawing order.
+ * The renderer draws every group with its own layer.
+ */
+public enum SpriteLayer {
+    /**
+     * Stationary objects lying on the ground: the exit, power-ups and bombs.
+     */
+    ITEMS,
+    /**
+     * The blasts of exploding bombs, left out of zoomed-out views.
+     */
+    BLASTS,
+    /**
+     * Players and enemies, from top to bottom.
+     */
+    ENTITIES,
+    /**
+     * Visual effects above everything else, like plus points, left out of zoomed-out views.
+     */
+    EFFECTS
+}
@@ -0,0 +1,345 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A lightweight {@link PhysicsBackend} specialized for the tile grid of the game.
+ * Mobile objects are circles, everything else is a box of exactly one cell, so collisions only have to be checked
+ * against the few cells a circle overlaps. Walls are read directly from the shared {@link OccupancyGrid},
+ * other boxes (bombs, blasts, the exit and power-ups) are stored in an array indexed by cell.
+ * <p>
+ * A step integrates each circle along x and then along y and pushes it out of every blocking cell it overlaps,
+ * using the closest point of the cell's box so circles slide around corners.
+ * The occupants of a new bomb are found once in the step after it was placed, and afterwards only bombs that still
+ * have occupants are checked for them leaving. No objects are allocated while stepping.
+ */
+public class TilePhysicsBackend implements PhysicsBackend {
+    /**
+     * Number of times the overlaps of a circle are resolved after each axis of movement.
+     * A second pass fixes overlaps caused by pushing the circle out of a neighbouring cell.
+     */
+    private static final int RESOLVE_ITERATIONS = 2;
+
+    /**
+     * The game rules deciding which boxes block which circles.
+     */
+    private final CollisionRules rules;
+    /**
+     * The circle bodies of all mobile objects.
+     */
+    private final List<TilePhysicsBody> circles = new ArrayList<>();
+    /**
+     * The bodies queued for removal before the next step.
+     */
+    private final List<TilePhysicsBody> bodiesToDestroy = new ArrayList<>();
+    /**
+     * The bomb bodies created since the last step, armed once their occupants are found.
+     */
+    private final List<TilePhysicsBody> newBombs = new ArrayList<>();
+    /**
+     * The bomb bodies that still have occupants standing on them.
+     */
+    private final List<TilePhysicsBody> occupiedBombs = new ArrayList<>();
+    /**
+     * The wall layout of the map, {@code null} until the walls are built.
+     */
+    private OccupancyGrid grid;
+    /**
+     * The box body in every cell, indexed by {@code x + y * width}, {@code null} for cells without a box.
+     */
+    private TilePhysicsBody[] boxes = new TilePhysicsBody[0];
+    /**
+     * Width of the map in cells.
+     */
+    private int width;
+
+    /**
+     * Constructs a new empty {@code TilePhysicsBackend}.
+     *
+     * @param rules The {@link CollisionRules} applied to the contacts.
+     */
+    public TilePhysicsBackend(CollisionRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Creates a circle body for a mobile object.
+     *
+     * @param owner  The mobile object the body belongs to.
+     * @param x      The starting x-coordinate in world units.
+     * @param y      The starting y-coordinate in world units.
+     * @param radius The radius of the circle.
+     * @return The created {@link PhysicsBody}.
+     */
+    @Override
+    public PhysicsBody createCircle(MobileObject owner, float x, float y, float radius) {
+        TilePhysicsBody body = new TilePhysicsBody(owner, x, y, radius);
+        circles.add(body);
+        return body;
+    }
+
+    /**
+     * Creates a box body of one cell for a stationary object.
+     * Boxes created before the walls are built (the walls themselves) are not stored, as the grid already holds them.
+     *
+     * @param owner The stationary object the body belongs to.
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     * @return The created {@link PhysicsBody}.
+     */
+    @Override
+    public PhysicsBody createBox(StationaryObject owner, int x, int y) {
+        TilePhysicsBody body = new TilePhysicsBody(owner, x, y);
+        int index = getIndex(x, y);
+        if (index >= 0) boxes[index] = body;
+        if (owner instanceof Bomb) newBombs.add(body); // Armed in the next step
+        return body;
+    }
+
+    /**
+     * Does nothing, as the rules are checked for every overlap while stepping.
+     *
+     * @param owner The mobile object whose rules changed.
+     */
+    @Override
+    public void updateCollisionFilter(MobileObject owner) {
+        // The rules are queried on every step
+    }
+
+    /**
+     * Keeps the grid of the loaded map for the wall collisions and allocates the box array for its size.
+     *
+     * @param grid  The {@link OccupancyGrid} of the map.
+     * @param walls The walls of the map, indexed by their cell coordinates (x,y string).
+     */
+    @Override
+    public void buildWalls(OccupancyGrid grid, Map<String, StationaryObject> walls) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        TilePhysicsBody[] oldBoxes = boxes;
+        this.boxes = new TilePhysicsBody[grid.getWidth() * grid.getHeight()];
+        for (TilePhysicsBody box : oldBoxes) {
+            if (box != null) boxes[getIndex((int) box.getX(), (int) box.getY())] = box;
+        }
+    }
+
+    /**
+     * Does nothing, as the {@link GameMap} already clears destroyed walls from the shared {@link OccupancyGrid}.
+     *
+     * @param x The x-coordinate of the wall.
+     * @param y The y-coordinate of the wall.
+     */
+    @Override
+    public void removeWall(int x, int y) {
+        // The grid is updated by the map
+    }
+
+    /**
+     * Removes a body immediately.
+     *
+     * @param body The body to remove.
+     */
+    @Override
+    public void destroyBody(PhysicsBody body) {
+        TilePhysicsBody tileBody = (TilePhysicsBody) body;
+        if (tileBody.getMobileOwner() != null) {
+            int i = circles.indexOf(tileBody);
+            if (i < 0) return;
+            circles.set(i, circles.get(circles.size() - 1)); // Swap with the last circle, the order does not matter
+            circles.remove(circles.size() - 1);
+        } else {
+            int index = getIndex((int) tileBody.getX(), (int) tileBody.getY());
+            if (index >= 0 && boxes[index] == tileBody) boxes[index] = null;
+        }
+    }
+
+    /**
+     * Queues a body for removal before the next step, as bodies must not be removed while a step iterates over them.
+     *
+     * @param body The body to remove.
+     */
+    @Override
+    public void destroyBodyLater(PhysicsBody body) {
+        bodiesToDestroy.add((TilePhysicsBody) body);
+    }
+
+    /**
+     * Removes the queued bodies and moves every circle by its velocity while resolving its collisions with the boxes.
+     * Circles do not collide with each other.
+     *
+     * @param timeStep The length of the step in seconds.
+     */
+    @Override
+    public void step(float timeStep) {
+        for (int i = 0; i < bodiesToDestroy.size(); i++) {
+            destroyBody(bodiesToDestroy.get(i));
+        }
+        bodiesToDestroy.clear();
+        armNewBombs();
+
+        for (int i = 0; i < circles.size(); i++) {
+            TilePhysicsBody body = circles.get(i);
+            if (!body.isActive()) continue; // Deactivated bodies neither move nor collide
+            // Moving along one axis at a time keeps a circle from cutting through the corner between two walls
+            body.setPosition(body.getX() + body.getVelocityX() * timeStep, body.getY());
+            resolveOverlaps(body);
+            body.setPosition(body.getX(), body.getY() + body.getVelocityY() * timeStep);
+            resolveOverlaps(body);
+        }
+        updateOccupiedBombs();
+    }
+
+    /**
+     * Does nothing, as the backend holds no native resources.
+     */
+    @Override
+    public void dispose() {
+        // Nothing to release
+    }
+
+    /**
+     * Adds the circles overlapping the bombs created since the last step as their occupants and arms the bombs.
+     */
+    private void armNewBombs() {
+        for (int i = 0; i < newBombs.size(); i++) {
+            TilePhysicsBody bombBody = newBombs.get(i);
+            Bomb bomb = (Bomb) bombBody.getStationaryOwner();
+            for (int j = 0; j < circles.size(); j++) {
+                TilePhysicsBody circle = circles.get(j);
+                if (isOverlapping(circle, (int) bombBody.getX(), (int) bombBody.getY())) {
+                    bomb.addOccupant(circle.getMobileOwner()); // Standing on the bomb since it was placed
+                }
+            }
+            bomb.arm();
+            if (bomb.hasOccupants()) occupiedBombs.add(bombBody);
+        }
+        newBombs.clear();
+    }
+
+    /**
+     * Removes the occupants that have left their bomb. Bombs without occupants or that were removed are no longer checked.
+     */
+    private void updateOccupiedBombs() {
+        for (int i = occupiedBombs.size() - 1; i >= 0; i--) {
+            TilePhysicsBody bombBody = occupiedBombs.get(i);
+            Bomb bomb = (Bomb) bombBody.getStationaryOwner();
+            int index = getIndex((int) bombBody.getX(), (int) bombBody.getY());
+            if (index >= 0 && boxes[index] == bombBody) {
+                for (int j = 0; j < circles.size(); j++) {
+                    TilePhysicsBody circle = circles.get(j);
+                    if (bomb.isOccupant(circle.getMobileOwner())
+                        && !isOverlapping(circle, (int) bombBody.getX(), (int) bombBody.getY())) {
+                        bomb.removeOccupant(circle.getMobileOwner()); // Left the bomb
+                    }
+                }
+            }
+            if (index < 0 || boxes[index] != bombBody || !bomb.hasOccupants()) {
+                occupiedBombs.set(i, occupiedBombs.get(occupiedBombs.size() - 1)); // Swap with the last bomb
+                occupiedBombs.remove(occupiedBombs.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Checks if a circle overlaps the box of a cell.
+     *
+     * @param body  The circle body.
+     * @param cellX The x-coordinate of the cell.
+     * @param cellY The y-coordinate of the cell.
+     * @return {@code true} if they overlap, {@code false} otherwise.
+     */
+    private static boolean isOverlapping(TilePhysicsBody body, int cellX, int cellY) {
+        float dx = body.getX() - Math.max(cellX - 0.5f, Math.min(body.getX(), cellX + 0.5f));
+        float dy = body.getY() - Math.max(cellY - 0.5f, Math.min(body.getY(), cellY + 0.5f));
+        return dx * dx + dy * dy < body.getRadius() * body.getRadius();
+    }
+
+    /**
+     * Pushes a circle out of all blocking cells it overlaps.
+     *
+     * @param body The circle body to resolve.
+     */
+    private void resolveOverlaps(TilePhysicsBody body) {
+        float radius = body.getRadius();
+        for (int iteration = 0; iteration < RESOLVE_ITERATIONS; iteration++) {
+            int minX = Math.round(body.getX() - radius);
+            int maxX = Math.round(body.getX() + radius);
+            int minY = Math.round(body.getY() - radius);
+            int maxY = Math.round(body.getY() + radius);
+            boolean resolved = true;
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    if (isBlocking(body.getMobileOwner(), x, y) && pushOut(body, x, y)) resolved = false;
+                }
+            }
+            if (resolved) return;
+        }
+    }
+
+    /**
+     * Pushes a circle out of the box of one cell if they overlap.
+     *
+     * @param body  The circle body.
+     * @param cellX The x-coordinate of the cell.
+     * @param cellY The y-coordinate of the cell.
+     * @return {@code true} if the circle was moved, {@code false} if it did not overlap the box.
+     */
+    private boolean pushOut(TilePhysicsBody body, int cellX, int cellY) {
+        float radius = body.getRadius();
+        // Closest point of the box to the center of the circle
+        float closestX = Math.max(cellX - 0.5f, Math.min(body.getX(), cellX + 0.5f));
+        float closestY = Math.max(cellY - 0.5f, Math.min(body.getY(), cellY + 0.5f));
+        float dx = body.getX() - closestX;
+        float dy = body.getY() - closestY;
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared >= radius * radius) return false;
+
+        if (distanceSquared > 0) {
+            float distance = (float) Math.sqrt(distanceSquared);
+            float depth = radius - distance;
+            body.setPosition(body.getX() + dx / distance * depth, body.getY() + dy / distance * depth);
+        } else {
+            // The center is inside the box, leave it along the axis with the smallest penetration
+            float offsetX = body.getX() - cellX;
+            float offsetY = body.getY() - cellY;
+            if (Math.abs(offsetX) > Math.abs(offsetY)) {
+                body.setPosition(cellX + Math.signum(offsetX) * (0.5f + radius), body.getY());
+            } else {
+                body.setPosition(body.getX(), cellY + (offsetY < 0 ? -1 : 1) * (0.5f + radius));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a cell blocks the movement of a mobile object.
+     *
+     * @param owner The moving object.
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     * @return {@code true} if the cell blocks the object, {@code false} otherwise.
+     */
+    private boolean isBlocking(MobileObject owner, int x, int y) {
+        if (grid != null && grid.isWall(x, y)) return rules.isBlockedByWalls(owner);
+        int index = getIndex(x, y);
+        if (index < 0 || boxes[index] == null) return false;
+        StationaryObject box = boxes[index].getStationaryOwner();
+        if (box instanceof Bomb bomb) return rules.isBlockedByBomb(owner, bomb);
+        return true;
+    }
+
+    /**
+     * Gets the index of a cell in the box array.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return The index, or {@code -1} if the cell is outside of the array.
+     */
+    private int getIndex(int x, int y) {
+        if (x < 0 || y < 0 || x >= width) return -1;
+        int index = x + y * width;
+        return index < boxes.length ? index : -1;
+    }
+}
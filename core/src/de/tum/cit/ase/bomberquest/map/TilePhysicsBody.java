@@ -0,0 +1,179 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * A {@link PhysicsBody} of the {@link TilePhysicsBackend}.
+ * Bodies of mobile objects are circles that move with their velocity, bodies of stationary objects are boxes of one cell.
+ */
+public class TilePhysicsBody implements PhysicsBody {
+    /**
+     * The mobile object this body belongs to, {@code null} for boxes.
+     */
+    private final MobileObject mobileOwner;
+    /**
+     * The stationary object this body belongs to, {@code null} for circles.
+     */
+    private final StationaryObject stationaryOwner;
+    /**
+     * The radius of the circle, {@code 0.5} for boxes.
+     */
+    private final float radius;
+    /**
+     * The x-coordinate of the body's center.
+     */
+    private float x;
+    /**
+     * The y-coordinate of the body's center.
+     */
+    private float y;
+    /**
+     * The velocity in x-direction in world units per second.
+     */
+    private float velocityX;
+    /**
+     * The velocity in y-direction in world units per second.
+     */
+    private float velocityY;
+    /**
+     * Whether the body takes part in the physics steps.
+     */
+    private boolean active = true;
+
+    /**
+     * Constructs the circular body of a mobile object.
+     *
+     * @param owner  The mobile object the body belongs to.
+     * @param x      The starting x-coordinate in world units.
+     * @param y      The starting y-coordinate in world units.
+     * @param radius The radius of the circle.
+     */
+    public TilePhysicsBody(MobileObject owner, float x, float y, float radius) {
+        this.mobileOwner = owner;
+        this.stationaryOwner = null;
+        this.radius = radius;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Constructs the box body of a stationary object.
+     *
+     * @param owner The stationary object the body belongs to.
+     * @param x     The x-coordinate of the cell.
+     * @param y     The y-coordinate of the cell.
+     */
+    public TilePhysicsBody(StationaryObject owner, int x, int y) {
+        this.mobileOwner = null;
+        this.stationaryOwner = owner;
+        this.radius = 0.5f;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Gets the x-coordinate of the body's center.
+     *
+     * @return The x-coordinate in world units.
+     */
+    @Override
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate of the body's center.
+     *
+     * @return The y-coordinate in world units.
+     */
+    @Override
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Sets the velocity the body moves with in the following physics steps.
+     *
+     * @param velocityX The velocity in x-direction in world units per second.
+     * @param velocityY The velocity in y-direction in world units per second.
+     */
+    @Override
+    public void setLinearVelocity(float velocityX, float velocityY) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+    }
+
+    /**
+     * Moves the body to a position immediately, without resolving collisions.
+     *
+     * @param x The new x-coordinate in world units.
+     * @param y The new y-coordinate in world units.
+     */
+    @Override
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Activates or deactivates the body. Inactive bodies are skipped by the physics steps.
+     *
+     * @param active {@code true} to simulate the body, {@code false} to leave it out.
+     */
+    @Override
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    /**
+     * Checks if the body takes part in the physics steps.
+     *
+     * @return {@code true} if the body is active, {@code false} otherwise.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Gets the velocity in x-direction.
+     *
+     * @return The velocity in world units per second.
+     */
+    public float getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Gets the velocity in y-direction.
+     *
+     * @return The velocity in world units per second.
+     */
+    public float getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Gets the radius of the circle.
+     *
+     * @return The radius in world units.
+     */
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the mobile object this body belongs to.
+     *
+     * @return The owning {@link MobileObject}, or {@code null} if this is a box.
+     */
+    public MobileObject getMobileOwner() {
+        return mobileOwner;
+    }
+
+    /**
+     * Gets the stationary object this body belongs to.
+     *
+     * @return The owning {@link StationaryObject}, or {@code null} if this is a circle.
+     */
+    public StationaryObject getStationaryOwner() {
+        return stationaryOwner;
+    }
+}
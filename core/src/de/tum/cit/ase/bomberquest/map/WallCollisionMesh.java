@@ -0,0 +1,217 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.Map;
+
+/**
+ * The static collision geometry of all walls of the game map.
+ * Instead of one Box2D body per wall, the walls are merged into a few bodies at load time:
+ * <ul>
+ *     <li>Indestructible walls never change, so only their faces that border a non-indestructible cell are kept,
+ *     and neighbouring faces on the same line are merged into a single edge fixture of one static body.</li>
+ *     <li>Destructible walls are grouped into one static body per chunk of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} cells,
+ *     with one box fixture per wall, so a destroyed wall only removes its own fixture.</li>
+ * </ul>
+ * All bodies of the mesh carry the mesh as user data, so contacts with walls can be recognized by their body.
+ */
+public class WallCollisionMesh {
+    /**
+     * Side length (in cells) of the chunks destructible walls are grouped into.
+     */
+    public static final int CHUNK_SIZE = 8;
+
+    /**
+     * The static body holding the merged edges of all indestructible walls.
+     */
+    private final Body indestructibleBody;
+    /**
+     * The fixture of every destructible wall, indexed by {@code (x - minX) + (y - minY) * width}, {@code null} for other cells.
+     */
+    private final Fixture[] wallFixtures;
+    /**
+     * The lowest x-coordinate of the cells covered by the mesh.
+     */
+    private final int minX;
+    /**
+     * The lowest y-coordinate of the cells covered by the mesh.
+     */
+    private final int minY;
+    /**
+     * Width of the covered area in cells.
+     */
+    private final int width;
+    /**
+     * Height of the covered area in cells.
+     */
+    private final int height;
+
+    /**
+     * Constructs the collision mesh for all walls of a loaded map.
+     *
+     * @param world  The Box2D world the bodies are created in.
+     * @param grid   The {@link OccupancyGrid} of the map, used to find the indestructible walls.
+     * @param walls  The walls of the map, indexed by their cell coordinates (x,y string).
+     * @param filter The collision filter applied to all fixtures of the mesh.
+     */
+    public WallCollisionMesh(World world, OccupancyGrid grid, Map<String, StationaryObject> walls, Filter filter) {
+        this(world, grid, walls, filter, 0, 0, grid.getWidth(), grid.getHeight());
+    }
+
+    /**
+     * Constructs the collision mesh for the walls in a rectangular area of a loaded map,
+     * e.g. one region of a {@link PartitionedPhysicsBackend}. Walls outside of the area are left out.
+     *
+     * @param world  The Box2D world the bodies are created in.
+     * @param grid   The {@link OccupancyGrid} of the map, used to find the indestructible walls.
+     * @param walls  The walls of the map, indexed by their cell coordinates (x,y string).
+     * @param filter The collision filter applied to all fixtures of the mesh.
+     * @param minX   The lowest x-coordinate of the area (inclusive).
+     * @param minY   The lowest y-coordinate of the area (inclusive).
+     * @param maxX   The highest x-coordinate of the area (exclusive).
+     * @param maxY   The highest y-coordinate of the area (exclusive).
+     */
+    public WallCollisionMesh(World world, OccupancyGrid grid, Map<String, StationaryObject> walls, Filter filter,
+                             int minX, int minY, int maxX, int maxY) {
+        this.minX = Math.max(minX, 0);
+        this.minY = Math.max(minY, 0);
+        this.width = Math.max(Math.min(maxX, grid.getWidth()) - this.minX, 0);
+        this.height = Math.max(Math.min(maxY, grid.getHeight()) - this.minY, 0);
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        this.indestructibleBody = world.createBody(bodyDef);
+        this.indestructibleBody.setUserData(this);
+        buildIndestructibleEdges(grid, filter);
+        this.wallFixtures = new Fixture[width * height];
+
+        int chunksX = Math.max((width + CHUNK_SIZE - 1) / CHUNK_SIZE, 1);
+        int chunksY = Math.max((height + CHUNK_SIZE - 1) / CHUNK_SIZE, 1);
+        Body[] chunkBodies = new Body[chunksX * chunksY]; // Created lazily, chunks without destructible walls get no body
+        PolygonShape box = new PolygonShape();
+        Vector2 center = new Vector2();
+        // Only the cells of the area are visited, so a region of a huge map does not scan the walls of all other regions
+        for (int localY = 0; localY < height; localY++) {
+            for (int localX = 0; localX < width; localX++) {
+                int x = this.minX + localX;
+                int y = this.minY + localY;
+                if (grid.get(x, y) != OccupancyGrid.DESTRUCTIBLE) continue;
+                if (!(walls.get(x + "," + y) instanceof DestructibleWall wall)) continue;
+                int chunk = localX / CHUNK_SIZE + (localY / CHUNK_SIZE) * chunksX;
+                if (chunkBodies[chunk] == null) {
+                    chunkBodies[chunk] = world.createBody(bodyDef);
+                    chunkBodies[chunk].setUserData(this);
+                }
+                // The chunk body sits at the origin, so the box is placed at the wall's position
+                box.setAsBox(0.5f, 0.5f, center.set(x, y), 0);
+                Fixture fixture = chunkBodies[chunk].createFixture(box, 1.0f);
+                fixture.setUserData(wall);
+                fixture.setFilterData(filter);
+                wallFixtures[localX + localY * width] = fixture;
+            }
+        }
+        box.dispose();
+    }
+
+    /**
+     * Removes the fixture of a destroyed destructible wall from its chunk body, leaving the other walls of the chunk untouched.
+     *
+     * @param x The x-coordinate of the wall.
+     * @param y The y-coordinate of the wall.
+     */
+    public void removeWall(int x, int y) {
+        if (!contains(x, y)) return;
+        int index = (x - minX) + (y - minY) * width;
+        Fixture fixture = wallFixtures[index];
+        if (fixture != null) {
+            fixture.getBody().destroyFixture(fixture);
+            wallFixtures[index] = null;
+        }
+    }
+
+    /**
+     * Checks if a cell lies in the area covered by the mesh.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell is covered, {@code false} otherwise.
+     */
+    private boolean contains(int x, int y) {
+        return x >= minX && y >= minY && x < minX + width && y < minY + height;
+    }
+
+    /**
+     * Creates the edge fixtures for the exposed faces of the indestructible walls in the covered area.
+     * Horizontal faces are merged along rows, vertical faces along columns.
+     *
+     * @param grid   The {@link OccupancyGrid} of the map.
+     * @param filter The collision filter of the edge fixtures.
+     */
+    private void buildIndestructibleEdges(OccupancyGrid grid, Filter filter) {
+        EdgeShape edge = new EdgeShape();
+        int maxX = minX + width;
+        int maxY = minY + height;
+        for (int side = -1; side <= 1; side += 2) {
+            // Top (side 1) and bottom (side -1) faces
+            for (int y = minY; y < maxY; y++) {
+                int runStart = -1;
+                for (int x = minX; x <= maxX; x++) {
+                    boolean exposed = x < maxX && isSolid(grid, x, y) && !isSolid(grid, x, y + side);
+                    if (exposed && runStart < 0) {
+                        runStart = x;
+                    } else if (!exposed && runStart >= 0) {
+                        addEdge(edge, filter, runStart - 0.5f, y + side * 0.5f, x - 0.5f, y + side * 0.5f);
+                        runStart = -1;
+                    }
+                }
+            }
+            // Right (side 1) and left (side -1) faces
+            for (int x = minX; x < maxX; x++) {
+                int runStart = -1;
+                for (int y = minY; y <= maxY; y++) {
+                    boolean exposed = y < maxY && isSolid(grid, x, y) && !isSolid(grid, x + side, y);
+                    if (exposed && runStart < 0) {
+                        runStart = y;
+                    } else if (!exposed && runStart >= 0) {
+                        addEdge(edge, filter, x + side * 0.5f, runStart - 0.5f, x + side * 0.5f, y - 0.5f);
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+        edge.dispose();
+    }
+
+    /**
+     * Adds one edge fixture to the indestructible body.
+     *
+     * @param edge   The reusable edge shape.
+     * @param filter The collision filter of the fixture.
+     * @param x1     The x-coordinate of the first vertex.
+     * @param y1     The y-coordinate of the first vertex.
+     * @param x2     The x-coordinate of the second vertex.
+     * @param y2     The y-coordinate of the second vertex.
+     */
+    private void addEdge(EdgeShape edge, Filter filter, float x1, float y1, float x2, float y2) {
+        edge.set(x1, y1, x2, y2);
+        indestructibleBody.createFixture(edge, 1.0f).setFilterData(filter);
+    }
+
+    /**
+     * Checks if a cell contains an indestructible wall.
+     *
+     * @param grid The {@link OccupancyGrid} of the map.
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @return {@code true} if the cell is indestructible, {@code false} otherwise.
+     */
+    private static boolean isSolid(OccupancyGrid grid, int x, int y) {
+        return grid.get(x, y) == OccupancyGrid.INDESTRUCTIBLE;
+    }
+}
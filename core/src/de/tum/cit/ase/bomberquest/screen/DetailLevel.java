@@ -0,0 +1,32 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+/**
+ * Enumeration of the levels of detail the map is drawn with, chosen by the zoom of the map camera.
+ * The {@link MapRenderer} only draws the layers added for the current level.
+ */
+public enum DetailLevel {
+    /**
+     * Textures and animations of every object, while cells are large enough to make them out.
+     */
+    DETAILED,
+    /**
+     * A tactical view for far zoomed-out cameras: the ground and walls come from a texture with one texel per cell,
+     * objects are flat-colored cells, and blasts and plus points are left out.
+     */
+    TACTICAL;
+
+    /**
+     * The zoom of the map camera from which the {@link #TACTICAL} level is used, i.e. a cell is 16 pixels or smaller.
+     */
+    public static final float TACTICAL_ZOOM = 4;
+
+    /**
+     * Gets the level of detail for a camera zoom.
+     *
+     * @param zoom The zoom of the map camera, {@code 1} for the normal size.
+     * @return The level of detail to draw with.
+     */
+    public static DetailLevel forZoom(float zoom) {
+        return zoom >= TACTICAL_ZOOM ? TACTICAL : DETAILED;
+    }
+}
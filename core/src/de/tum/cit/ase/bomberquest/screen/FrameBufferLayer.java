@@ -0,0 +1,236 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+import de.tum.cit.ase.bomberquest.map.StationaryObject;
+import de.tum.cit.ase.bomberquest.texture.Textures;
+
+/**
+ * The ground and the walls of the game map, baked into textures when the map is loaded.
+ * The map is split into the chunks of its {@link GroundCells}, each rendered once at the original
+ * texture resolution into its own {@link FrameBuffer}, so drawing the layer costs one scaled quad per visible chunk.
+ * When a wall is destroyed, only its cell is cleared and rendered again inside the frame buffer of its chunk.
+ * Every chunk takes {@code (GroundCells.CHUNK_SIZE * TILE_SIZE_PX)^2} texels of video memory, so the {@link TileMapLayer} is the
+ * better choice for very large maps. Power-ups are animated and are drawn with the other sprites instead.
+ */
+public class FrameBufferLayer implements RenderLayer {
+    /**
+     * Side length (in texels) of the frame buffer of a chunk.
+     */
+    private static final int CHUNK_SIZE_PX = GroundCells.CHUNK_SIZE * GameScreen.TILE_SIZE_PX;
+
+    /**
+     * The ground and the walls that are baked.
+     */
+    private final GroundCells cells;
+    /**
+     * The SpriteBatch used to bake and to draw the chunks.
+     */
+    private final SpriteBatch spriteBatch;
+    /**
+     * The frame buffer of every chunk, indexed by {@code chunkX + chunkY * chunksX}.
+     */
+    private final FrameBuffer[] buffers;
+    /**
+     * The texture of every chunk, flipped because frame buffers store their rows from the bottom up.
+     */
+    private final TextureRegion[] textures;
+    /**
+     * The projection used while baking, in texels of the chunk.
+     */
+    private final Matrix4 bakeProjection = new Matrix4();
+
+    /**
+     * Constructs the frame buffer layer and bakes the ground and the walls of a loaded map.
+     * Must be called on the render thread.
+     *
+     * @param cells       The ground and the walls of the map, owned by the layer from now on.
+     * @param spriteBatch The SpriteBatch to bake and draw with, not currently drawing.
+     * @throws IllegalStateException If the graphics driver cannot create the frame buffers.
+     * @throws GdxRuntimeException   If the graphics driver does not support frame buffers at all.
+     */
+    public FrameBufferLayer(GroundCells cells, SpriteBatch spriteBatch) {
+        this.cells = cells;
+        this.spriteBatch = spriteBatch;
+        this.buffers = new FrameBuffer[cells.getChunkCount()];
+        this.textures = new TextureRegion[cells.getChunkCount()];
+        try {
+            for (int chunk = 0; chunk < buffers.length; chunk++) {
+                buffers[chunk] = new FrameBuffer(Pixmap.Format.RGBA8888, CHUNK_SIZE_PX, CHUNK_SIZE_PX, false);
+                Texture texture = buffers[chunk].getColorBufferTexture();
+                texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+                textures[chunk] = new TextureRegion(texture);
+                textures[chunk].flip(false, true);
+                bakeChunk(chunk);
+            }
+        } catch (IllegalStateException | GdxRuntimeException e) {
+            dispose(); // Release the buffers created before the failing one
+            throw e;
+        }
+    }
+
+    /**
+     * Gets how the content of the layer changes.
+     *
+     * @return {@link LayerKind#STATIC}, the layer draws its baked textures.
+     */
+    @Override
+    public LayerKind getKind() {
+        return LayerKind.STATIC;
+    }
+
+    /**
+     * Checks if the layer has nothing to draw. The ground always covers the map.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @return Always {@code false}.
+     */
+    @Override
+    public boolean isEmpty(RenderSnapshot snapshot) {
+        return false;
+    }
+
+    /**
+     * Draws the chunks visible to the camera.
+     * Must be called outside of {@code spriteBatch.begin()} and {@code spriteBatch.end()}.
+     *
+     * @param spriteBatch The SpriteBatch to draw with, the same one the layer bakes with.
+     * @param camera      The camera the map is viewed with.
+     * @param snapshot    Not used, the walls are taken from the map.
+     * @param alpha       Not used, the layer does not move.
+     */
+    @Override
+    public void render(SpriteBatch spriteBatch, OrthographicCamera camera, RenderSnapshot snapshot, float alpha) {
+        float chunkSizePx = GroundCells.CHUNK_SIZE * GameScreen.TILE_SIZE_PX * GameScreen.SCALE;
+        cells.updateVisibleChunks(camera, 0); // The baked chunks already contain the textures reaching into them
+        spriteBatch.setProjectionMatrix(camera.combined);
+        spriteBatch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA); // The baked colors are premultiplied
+        spriteBatch.begin();
+        for (int chunkY = cells.getFirstVisibleY(); chunkY <= cells.getLastVisibleY(); chunkY++) {
+            for (int chunkX = cells.getFirstVisibleX(); chunkX <= cells.getLastVisibleX(); chunkX++) {
+                spriteBatch.draw(textures[chunkX + chunkY * cells.getChunksX()], chunkX * chunkSizePx, chunkY * chunkSizePx, chunkSizePx, chunkSizePx); // Chunks outside of the view are skipped
+            }
+        }
+        spriteBatch.end();
+        spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /**
+     * Removes a destroyed wall from the layer and bakes its cell again.
+     * Only the cell is cleared; the ground and the walls below and to the left of it are drawn again,
+     * as they are the only ones whose textures can reach into the cell.
+     *
+     * @param x The x-coordinate of the wall's cell.
+     * @param y The y-coordinate of the wall's cell.
+     */
+    @Override
+    public void wallDestroyed(int x, int y) {
+        if (!cells.removeWall(x, y)) return;
+        int chunk = cells.getChunk(x, y);
+        int localX = (x - cells.getChunkMinX(chunk)) * GameScreen.TILE_SIZE_PX;
+        int localY = (y - cells.getChunkMinY(chunk)) * GameScreen.TILE_SIZE_PX;
+        buffers[chunk].begin();
+        Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+        Gdx.gl.glScissor(localX, localY, GameScreen.TILE_SIZE_PX, GameScreen.TILE_SIZE_PX); // Keep the rest of the chunk
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        beginBaking(chunk);
+        bakeCells(Math.max(x - 1, 0), Math.max(y - 1, 0), x + 1, y + 1);
+        endBaking();
+        Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+        buffers[chunk].end();
+    }
+
+    /**
+     * Bakes the ground and the walls of a chunk into its frame buffer.
+     *
+     * @param chunk The index of the chunk.
+     */
+    private void bakeChunk(int chunk) {
+        int minX = cells.getChunkMinX(chunk);
+        int minY = cells.getChunkMinY(chunk);
+        buffers[chunk].begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        beginBaking(chunk);
+        bakeCells(minX, minY, Math.min(minX + GroundCells.CHUNK_SIZE, cells.getWidth()), Math.min(minY + GroundCells.CHUNK_SIZE, cells.getHeight()));
+        endBaking();
+        buffers[chunk].end();
+    }
+
+    /**
+     * Starts the sprite batch for baking into the frame buffer of a chunk.
+     * The colors are stored premultiplied with their alpha, so walls over empty cells keep their transparency.
+     *
+     * @param chunk The index of the chunk.
+     */
+    private void beginBaking(int chunk) {
+        int minX = cells.getChunkMinX(chunk);
+        int minY = cells.getChunkMinY(chunk);
+        bakeProjection.setToOrtho2D(minX * GameScreen.TILE_SIZE_PX, minY * GameScreen.TILE_SIZE_PX, CHUNK_SIZE_PX, CHUNK_SIZE_PX);
+        spriteBatch.setProjectionMatrix(bakeProjection);
+        spriteBatch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        spriteBatch.begin();
+    }
+
+    /**
+     * Sends the baked sprites to the frame buffer and restores the default blending of the sprite batch.
+     */
+    private void endBaking() {
+        spriteBatch.end();
+        spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /**
+     * Draws the ground and then the walls of an area of cells, at the original texture resolution.
+     * Must be called between {@link #beginBaking} and {@link #endBaking}.
+     *
+     * @param minX The x-coordinate of the first cell.
+     * @param minY The y-coordinate of the first cell.
+     * @param maxX The x-coordinate after the last cell.
+     * @param maxY The y-coordinate after the last cell.
+     */
+    private void bakeCells(int minX, int minY, int maxX, int maxY) {
+        for (int x = minX; x < Math.min(maxX, cells.getGroundWidth()); x++) {
+            for (int y = minY; y < Math.min(maxY, cells.getGroundHeight()); y++) {
+                bake(Textures.GROUND, x, y);
+            }
+        }
+        for (int x = minX; x < maxX; x++) {
+            for (int y = minY; y < maxY; y++) {
+                StationaryObject wall = cells.getWall(x, y);
+                if (wall != null) bake(wall.getCurrentAppearance(), x, y);
+            }
+        }
+    }
+
+    /**
+     * Draws a texture at a cell into the frame buffer being baked.
+     *
+     * @param texture The texture to draw.
+     * @param x       The x-coordinate of the cell.
+     * @param y       The y-coordinate of the cell.
+     */
+    private void bake(TextureRegion texture, int x, int y) {
+        spriteBatch.draw(texture, x * GameScreen.TILE_SIZE_PX, y * GameScreen.TILE_SIZE_PX);
+    }
+
+    /**
+     * Releases the frame buffers on the graphics card.
+     */
+    @Override
+    public void dispose() {
+        for (FrameBuffer buffer : buffers) {
+            if (buffer != null) buffer.dispose();
+        }
+    }
+}
@@ -8,24 +8,23 @@
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import de.tum.cit.ase.bomberquest.BomberQuestGame;
 import de.tum.cit.ase.bomberquest.audio.BackgroundTrack;
 import de.tum.cit.ase.bomberquest.audio.SoundEffects;
 import de.tum.cit.ase.bomberquest.map.*;
-import de.tum.cit.ase.bomberquest.texture.Drawable;
 import de.tum.cit.ase.bomberquest.texture.Textures;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.EnumSet;
 
 /**
  * The GameScreen class is responsible for rendering the gameplay screen.
@@ -48,6 +47,12 @@ public class GameScreen implements Screen {
      */
     public static final int SCALE = 4;
 
+    /**
+     * The zoom levels of the map camera, from the normal size to the farthest zoomed-out view.
+     * From {@link DetailLevel#TACTICAL_ZOOM} on, the map is drawn as a tactical view.
+     */
+    private static final float[] ZOOM_LEVELS = {1, 2, 4, 8, 16, 32};
+
     /**
      * The main game class instance.
      */
@@ -64,10 +69,23 @@ public class GameScreen implements Screen {
      * The game map containing all game objects.
      */
     private final GameMap map;
+    /**
+     * The simulation running the game map on its own thread.
+     */
+    private final GameSimulation simulation;
+    /**
+     * The renderer drawing the map layer by layer: the cached ground and walls first, then the sprites on top,
+     * with cheaper layers replacing the detailed ones when the camera is zoomed out.
+     */
+    private final MapRenderer mapRenderer;
     /**
      * The Heads-Up Display for showing game information.
      */
     private final Hud hud;
+    /**
+     * The minimap shown by the HUD on large maps, {@code null} on small ones.
+     */
+    private final Minimap minimap;
     /**
      * The camera used to view the game map.
      */
@@ -80,6 +98,10 @@ public class GameScreen implements Screen {
      * Flag to track if the game is paused.
      */
     private boolean isPaused = false; // Flag to track pause state
+    /**
+     * The index of the current zoom level in {@link #ZOOM_LEVELS}.
+     */
+    private int zoomLevel = 0;
 
 
     /**
@@ -92,7 +114,24 @@ public GameScreen(BomberQuestGame game) {
         this.spriteBatch = game.getSpriteBatch();
         this.stage = new Stage(new ScreenViewport());
         this.map = game.getMap();
+        this.simulation = new GameSimulation(map);
+        this.mapRenderer = new MapRenderer(spriteBatch, map);
+        EnumSet<DetailLevel> detailed = EnumSet.of(DetailLevel.DETAILED);
+        EnumSet<DetailLevel> tactical = EnumSet.of(DetailLevel.TACTICAL);
+        TextureRegion white = game.getSkin().getRegion("white");
+        // Cache the ground and walls before the simulation starts
+        mapRenderer.addLayer(createGroundLayer(map, game.getSettings().getGroundLayer(), spriteBatch), detailed);
+        mapRenderer.addLayer(new OverviewLayer(new GroundCells(map)), tactical);
+        mapRenderer.addLayer(new SnapshotLayer(SpriteLayer.ITEMS, LayerKind.ANIMATED), detailed); // exit, power-ups, bombs
+        mapRenderer.addLayer(new MarkerLayer(SpriteLayer.ITEMS, LayerKind.ANIMATED, white), tactical);
+        mapRenderer.addLayer(new SnapshotLayer(SpriteLayer.BLASTS, LayerKind.ANIMATED), detailed); // blasts are left out when zoomed out
+        mapRenderer.addLayer(new SnapshotLayer(SpriteLayer.ENTITIES, LayerKind.DYNAMIC), detailed); // players and enemies
+        mapRenderer.addLayer(new MarkerLayer(SpriteLayer.ENTITIES, LayerKind.DYNAMIC, white), tactical);
+        mapRenderer.addLayer(new SnapshotLayer(SpriteLayer.EFFECTS, LayerKind.ANIMATED), detailed); // plus points are left out when zoomed out
         this.hud = new Hud(spriteBatch, game.getSkin().getFont("font"), game.getSkin().getFont("bold"));
+        this.minimap = Minimap.isWanted(map) ? new Minimap(map, simulation.getMinimapChanges(), white) : null;
+        hud.setMinimap(minimap);
+        simulation.setMinimapWanted(minimap != null); // Only a minimap needs the markers of the whole map
         // Create and configure the camera for the game view
         this.mapCamera = new OrthographicCamera();
         this.mapCamera.setToOrtho(false);
@@ -114,23 +153,34 @@ public void draw(Batch batch, float parentAlpha) {
     }
 
     /**
-     * Draws a {@link Drawable} object on the screen using the provided {@link SpriteBatch}.
-     * The texture will be scaled by the game scale and the tile size.
-     * This method should only be called between `spriteBatch.begin()` and `spriteBatch.end()`,
-     * for example, within the {@link #renderMap()} method.
+     * Creates the layer drawing the ground and the walls of a map, as selected in the {@link Settings}.
+     * Automatically, large maps are drawn as a single quad by the {@link TileMapLayer}, so their cost does not grow with
+     * the map, and smaller maps by the chunked {@link StaticLayer}. Layers the graphics driver does not support fall
+     * back to the {@link StaticLayer}.
      *
-     * @param spriteBatch The SpriteBatch to draw with.
-     * @param drawable    The Drawable object to render.
+     * @param map         The loaded game map.
+     * @param type        The selected {@link GroundLayerType}.
+     * @param spriteBatch The SpriteBatch of the game, used to bake the {@link FrameBufferLayer}.
+     * @return The layer to draw below all other sprites.
      */
-    private static void draw(SpriteBatch spriteBatch, Drawable drawable) {
-        TextureRegion texture = drawable.getCurrentAppearance();
-        // Drawable coordinates are in tiles, so we need to scale them to pixels
-        float x = drawable.getX() * TILE_SIZE_PX * SCALE;
-        float y = drawable.getY() * TILE_SIZE_PX * SCALE;
-        // Additionally scale everything by the game scale
-        float width = texture.getRegionWidth() * SCALE;
-        float height = texture.getRegionHeight() * SCALE;
-        spriteBatch.draw(texture, x, y, width, height);
+    private static RenderLayer createGroundLayer(GameMap map, GroundLayerType type, SpriteBatch spriteBatch) {
+        GroundCells cells = new GroundCells(map);
+        if (type == GroundLayerType.AUTOMATIC) {
+            type = cells.getWidth() * cells.getHeight() < TileMapLayer.MIN_CELLS ? GroundLayerType.SPRITE_CACHE : GroundLayerType.TILE_SHADER;
+        }
+        if (type == GroundLayerType.FRAME_BUFFER) {
+            try {
+                return new FrameBufferLayer(cells, spriteBatch);
+            } catch (IllegalStateException | GdxRuntimeException e) {
+                Gdx.app.error("GameScreen", "Frame buffers not supported, caching sprites instead: " + e.getMessage());
+            }
+        } else if (type == GroundLayerType.TILE_SHADER && TileMapLayer.canDraw(cells)) {
+            ShaderProgram shader = TileMapLayer.createShader();
+            if (shader.isCompiled()) return new TileMapLayer(cells, shader);
+            Gdx.app.error("GameScreen", "Tile map shader not supported, caching sprites instead: " + shader.getLog());
+            shader.dispose();
+        }
+        return new StaticLayer(cells);
     }
 
     /**
@@ -145,18 +195,24 @@ public void render(float deltaTime) {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             BackgroundTrack.BACKGROUND.pause();
             game.goToMenu();
+            return; // The screen has been disposed and must not draw anymore
         }
 
 
+        handleZoom();
+
         // Clear the previous frame from the screen, or else the picture smears
         ScreenUtils.clear(Color.BLACK);
 
-        // Cap frame time to 250ms to prevent spiral of death
+        // Cap frame time to 250ms, it is only used for the HUD animations
         float frameTime = Math.min(deltaTime, 0.250f);
         if (!isPaused) {
-            map.tick(frameTime); // Update the map state
+            simulation.submitInput(InputFrame.sample()); // The map is updated on the simulation thread
         }
-        updateCamera(); // Update the camera
+        RenderSnapshot snapshot = simulation.getSnapshot(); // The latest state published by the simulation
+        float alpha = snapshot.getAlpha(map.getTimeStep()); // How far to interpolate towards the latest state
+        updateCamera(snapshot, alpha); // Update the camera
+        reportView(); // Let the next snapshots leave out what the camera cannot see
 
 
         OrthographicCamera hudCamera = hud.getCamera();
@@ -167,13 +223,14 @@ public void render(float deltaTime) {
         spriteBatch.end();
 
         // Render the map on the screen
-        renderMap();
+        renderMap(snapshot, alpha);
 
         // Render the HUD_BACKGROUND on the screen
-        hud.render(map.getPlayer1(), map.getPlayer2(), map.getTimer(), map.getNumberOfEnemies(), map.isExitOpen(), frameTime);
+        hud.render(snapshot, frameTime);
 
-        if (!isPaused && map.isGameOver()) {
+        if (!isPaused && snapshot.isGameOver()) {
             isPaused = true; // Pause the game after showing the dialog
+            simulation.stop(); // The simulation has finished, wait for it before reading the final state
             BackgroundTrack.BACKGROUND.stop();
             showGameOverDialog(map.isGameOver());
         }
@@ -184,19 +241,44 @@ public void render(float deltaTime) {
 
 
     /**
-     * Updates the camera to follow the player while keeping it within map boundaries.
+     * Zooms the map camera in with the plus key and out with the minus key.
+     * Zooming out stops once the whole map is visible.
+     */
+    private void handleZoom() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.EQUALS) || Gdx.input.isKeyJustPressed(Input.Keys.PLUS)
+            || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_ADD)) {
+            zoomLevel = Math.max(zoomLevel - 1, 0);
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.MINUS) || Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_SUBTRACT)) {
+            float mapWidthPx = (map.getMAX_X() + 1) * TILE_SIZE_PX * SCALE;
+            float mapHeightPx = (map.getMAX_Y() + 1) * TILE_SIZE_PX * SCALE;
+            boolean mapVisible = mapWidthPx <= mapCamera.viewportWidth * ZOOM_LEVELS[zoomLevel]
+                && mapHeightPx <= mapCamera.viewportHeight * ZOOM_LEVELS[zoomLevel];
+            if (!mapVisible) zoomLevel = Math.min(zoomLevel + 1, ZOOM_LEVELS.length - 1);
+        }
+    }
+
+    /**
+     * Updates the camera to follow the player while keeping it within map boundaries, at the current zoom level.
      * If the map is smaller than the screen, the camera is centered on the map.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @param alpha    The interpolation factor towards the snapshot.
      */
-    private void updateCamera() {
-        float viewportHalfWidth = mapCamera.viewportWidth / 2f;  // Half-width of the viewport
-        float viewportHalfHeight = mapCamera.viewportHeight / 2f; // Half-height of the viewport
+    private void updateCamera(RenderSnapshot snapshot, float alpha) {
+        mapCamera.setToOrtho(false);
+        mapCamera.zoom = ZOOM_LEVELS[zoomLevel];
+        float viewportWidth = mapCamera.viewportWidth * mapCamera.zoom; // The area of the map visible at this zoom
+        float viewportHeight = mapCamera.viewportHeight * mapCamera.zoom;
+        float viewportHalfWidth = viewportWidth / 2f;  // Half-width of the viewport
+        float viewportHalfHeight = viewportHeight / 2f; // Half-height of the viewport
 
         float mapWidthPx = (map.getMAX_X() + 1) * TILE_SIZE_PX * SCALE;
         float mapHeightPx = (map.getMAX_Y() + 1) * TILE_SIZE_PX * SCALE;
 
         // Calculate the 15% screen margin
-        float screenMarginX = mapCamera.viewportWidth * 0.1f;
-        float screenMarginY = mapCamera.viewportHeight * 0.1f;
+        float screenMarginX = viewportWidth * 0.1f;
+        float screenMarginY = viewportHeight * 0.1f;
 
         // Calculate max and min camera bounds with the margin in mind
         float maxCameraX = Math.max(viewportHalfWidth, mapWidthPx - viewportHalfWidth + screenMarginX);
@@ -206,68 +288,40 @@ private void updateCamera() {
         float minCameraY = Math.min(viewportHalfHeight - screenMarginY, mapHeightPx - viewportHalfHeight);
 
         // Get player's position
-        float playerX = map.getPlayer1().getX() * TILE_SIZE_PX * SCALE;
-        float playerY = map.getPlayer1().getY() * TILE_SIZE_PX * SCALE;
+        float playerX = snapshot.getPlayer1X(alpha) * TILE_SIZE_PX * SCALE;
+        float playerY = snapshot.getPlayer1Y(alpha) * TILE_SIZE_PX * SCALE;
 
         // Clamp the camera position to ensure it stays within the new map bounds
-        float cameraX = (mapWidthPx <= mapCamera.viewportWidth * 0.8 || map.getPlayer2() != null) ? mapWidthPx / 2f : Math.max(minCameraX, Math.min(playerX, maxCameraX));
-        float cameraY = (mapHeightPx <= mapCamera.viewportHeight * 0.8 || map.getPlayer2() != null) ? mapHeightPx / 2f : Math.max(minCameraY, Math.min(playerY, maxCameraY));
+        float cameraX = (mapWidthPx <= viewportWidth * 0.8 || map.getPlayer2() != null) ? mapWidthPx / 2f : Math.max(minCameraX, Math.min(playerX, maxCameraX));
+        float cameraY = (mapHeightPx <= viewportHeight * 0.8 || map.getPlayer2() != null) ? mapHeightPx / 2f : Math.max(minCameraY, Math.min(playerY, maxCameraY));
 
         // Update camera properties
-        mapCamera.setToOrtho(false);
         mapCamera.position.set(cameraX, cameraY, 0);
         mapCamera.update(); // Apply the changes
     }
 
     /**
-     * Renders the game map and all its elements in layers to the screen.
-     * The rendering order ensures that objects are drawn in the correct order for visual depth.
+     * Reports the cells visible to the map camera to the simulation, so it only captures the objects on screen.
+     * The ground and the walls are culled by their own layer with the same camera.
      */
-    private void renderMap() {
-        // This configures the spriteBatch to use the camera's perspective when rendering
-        spriteBatch.setProjectionMatrix(mapCamera.combined);
-
-        // Start drawing
-        spriteBatch.begin();
-
-        // Render everything in the map here, in order from lowest to highest (later things appear on top)
-        // You may want to add a method to GameMap to return all the drawables in the correct order
-
-        //ground first
-        for (int i = 0; i < map.getMAX_X(); i++) {
-            for (int j = 0; j < map.getMAX_Y(); j++) {
-                draw(spriteBatch, new Ground(i, j));
-            }
-        }
-        if (map.getExit() != null) draw(spriteBatch, map.getExit());
-
-        //walls (destructible and indestructible)
-        for (StationaryObject obj : map.getWalls().values()) {
-            draw(spriteBatch, obj);
-        }
-        //bombs
-        for (Bomb bomb : map.getBombs()) {
-            draw(spriteBatch, bomb);
-        }
-        //blasts
-        for (Blast blast : map.getBlasts()) {
-            draw(spriteBatch, blast);
-        }
-
-
-        List<MobileObject> entities = new ArrayList<>(map.getEnemies());
-        entities.add(map.getPlayer1());
-        if (map.getPlayer2() != null) entities.add(map.getPlayer2());
-        entities.sort(Comparator.comparing(MobileObject::getY).reversed());
-        for (MobileObject object : entities) {
-            draw(spriteBatch, object);
-        }
-        for (PlusPoints plusPoints : map.getPlusPoints()) {
-            draw(spriteBatch, plusPoints);
-        }
+    private void reportView() {
+        float cellPx = TILE_SIZE_PX * SCALE;
+        float left = mapCamera.position.x - mapCamera.viewportWidth * mapCamera.zoom / 2f;
+        float bottom = mapCamera.position.y - mapCamera.viewportHeight * mapCamera.zoom / 2f;
+        simulation.setView((int) Math.floor(left / cellPx), (int) Math.floor(bottom / cellPx),
+            (int) Math.ceil((left + mapCamera.viewportWidth * mapCamera.zoom) / cellPx),
+            (int) Math.ceil((bottom + mapCamera.viewportHeight * mapCamera.zoom) / cellPx));
+    }
 
-        // Finish drawing, i.e. send the drawn items to the graphics card
-        spriteBatch.end();
+    /**
+     * Renders the game map and all its elements in layers to the screen.
+     * The {@link MapRenderer} draws its layers in the order they were added, so later layers appear on top.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @param alpha    The interpolation factor towards the snapshot.
+     */
+    private void renderMap(RenderSnapshot snapshot, float alpha) {
+        mapRenderer.render(mapCamera, snapshot, alpha);
     }
 
     /**
@@ -342,20 +396,22 @@ public void resize(int width, int height) {
 
     /**
      * Called when this screen becomes the current screen for the game.
-     * Sets the input processor to the stage for UI interactions.
+     * Sets the input processor to the stage for UI interactions and starts the simulation thread.
      */
     @Override
     public void show() {
         Gdx.input.setInputProcessor(stage); // Set input processor in show()
         System.out.println(Gdx.input.getInputProcessor());
+        simulation.start(); // Run the map on its own thread while the screen is shown
     }
 
     /**
      * Called when this screen is no longer the current screen for the game.
-     * Typically used for pausing resources or saving game state, but not used in this implementation.
+     * Stops the simulation thread, so the map does not keep running behind the menu.
      */
     @Override
     public void hide() {
+        simulation.stop();
     }
 
     /**
@@ -376,10 +432,14 @@ public void resume() {
 
     /**
      * Called when this screen should release all resources.
-     * Disposes of the stage, which in turn disposes of its contained actors and resources.
+     * Stops the simulation thread, releases the layers of the map and the minimap and disposes of the stage,
+     * which in turn disposes of its contained actors and resources.
      */
     @Override
     public void dispose() {
+        simulation.stop();
+        mapRenderer.dispose();
+        if (minimap != null) minimap.dispose();
         stage.dispose();
     }
 
@@ -0,0 +1,267 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import de.tum.cit.ase.bomberquest.map.GameMap;
+import de.tum.cit.ase.bomberquest.map.PowerUp;
+import de.tum.cit.ase.bomberquest.map.StationaryObject;
+
+/**
+ * The cells of a loaded map as drawn by the layers for the ground and the walls, which almost never change.
+ * The walls are collected from the map once, so the layers never read the map while the simulation runs; power-ups are
+ * left out, as they are animated and drawn with the other sprites. The cells are also split into chunks of
+ * {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} cells for the layers that draw the map chunk by chunk.
+ */
+public class GroundCells {
+    /**
+     * Side length (in cells) of the chunks.
+     */
+    public static final int CHUNK_SIZE = 16;
+
+    /**
+     * Width of the map in cells.
+     */
+    private final int width;
+    /**
+     * Height of the map in cells.
+     */
+    private final int height;
+    /**
+     * Width of the ground in cells, which like the sprites leaves out the last column of the map.
+     */
+    private final int groundWidth;
+    /**
+     * Height of the ground in cells, which like the sprites leaves out the last row of the map.
+     */
+    private final int groundHeight;
+    /**
+     * The wall in every cell, indexed by {@code x + y * width}, {@code null} for cells without a drawn wall.
+     */
+    private final StationaryObject[] walls;
+    /**
+     * Number of chunks in x-direction.
+     */
+    private final int chunksX;
+    /**
+     * Number of chunks in y-direction.
+     */
+    private final int chunksY;
+    /**
+     * The x-coordinate of the first chunk found visible by {@link #updateVisibleChunks}.
+     */
+    private int firstVisibleX;
+    /**
+     * The y-coordinate of the first chunk found visible by {@link #updateVisibleChunks}.
+     */
+    private int firstVisibleY;
+    /**
+     * The x-coordinate of the last chunk found visible by {@link #updateVisibleChunks} (inclusive).
+     */
+    private int lastVisibleX;
+    /**
+     * The y-coordinate of the last chunk found visible by {@link #updateVisibleChunks} (inclusive).
+     */
+    private int lastVisibleY;
+
+    /**
+     * Collects the walls of a loaded map.
+     * Must be called before the simulation of the map starts.
+     *
+     * @param map The loaded game map.
+     */
+    public GroundCells(GameMap map) {
+        this.width = map.getMAX_X() + 1;
+        this.height = map.getMAX_Y() + 1;
+        this.groundWidth = map.getMAX_X();
+        this.groundHeight = map.getMAX_Y();
+        this.walls = new StationaryObject[width * height];
+        for (StationaryObject wall : map.getWalls().values()) {
+            if (wall instanceof PowerUp || !isInside(wall.getX(), wall.getY())) continue; // Power-ups are animated
+            walls[(int) wall.getX() + (int) wall.getY() * width] = wall;
+        }
+        this.chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    /**
+     * Gets the width of the map.
+     *
+     * @return The width in cells.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the map.
+     *
+     * @return The height in cells.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the width of the ground, one cell less than the map.
+     *
+     * @return The width of the ground in cells.
+     */
+    public int getGroundWidth() {
+        return groundWidth;
+    }
+
+    /**
+     * Gets the height of the ground, one cell less than the map.
+     *
+     * @return The height of the ground in cells.
+     */
+    public int getGroundHeight() {
+        return groundHeight;
+    }
+
+    /**
+     * Checks if a cell is covered by the ground.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the ground is drawn in the cell, {@code false} otherwise.
+     */
+    public boolean hasGround(int x, int y) {
+        return x >= 0 && y >= 0 && x < groundWidth && y < groundHeight;
+    }
+
+    /**
+     * Gets the wall drawn in a cell.
+     *
+     * @param x The x-coordinate of the cell, which must lie on the map.
+     * @param y The y-coordinate of the cell, which must lie on the map.
+     * @return The wall, or {@code null} if no wall is drawn in the cell.
+     */
+    public StationaryObject getWall(int x, int y) {
+        return walls[x + y * width];
+    }
+
+    /**
+     * Removes a destroyed wall.
+     *
+     * @param x The x-coordinate of the wall's cell.
+     * @param y The y-coordinate of the wall's cell.
+     * @return {@code true} if a drawn wall was removed, {@code false} if the cell held none.
+     */
+    public boolean removeWall(int x, int y) {
+        if (!isInside(x, y) || walls[x + y * width] == null) return false;
+        walls[x + y * width] = null;
+        return true;
+    }
+
+    /**
+     * Checks if a cell lies on the map.
+     *
+     * @param x The x-coordinate of the cell.
+     * @param y The y-coordinate of the cell.
+     * @return {@code true} if the cell lies on the map, {@code false} otherwise.
+     */
+    public boolean isInside(float x, float y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Gets the number of chunks in x-direction.
+     *
+     * @return The number of chunks.
+     */
+    public int getChunksX() {
+        return chunksX;
+    }
+
+    /**
+     * Gets the number of chunks.
+     *
+     * @return The number of chunks, indexed by {@code chunkX + chunkY * getChunksX()}.
+     */
+    public int getChunkCount() {
+        return chunksX * chunksY;
+    }
+
+    /**
+     * Gets the chunk a cell lies in.
+     *
+     * @param x The x-coordinate of the cell, which must lie on the map.
+     * @param y The y-coordinate of the cell, which must lie on the map.
+     * @return The index of the chunk.
+     */
+    public int getChunk(int x, int y) {
+        return x / CHUNK_SIZE + (y / CHUNK_SIZE) * chunksX;
+    }
+
+    /**
+     * Gets the x-coordinate of the first cell of a chunk.
+     *
+     * @param chunk The index of the chunk.
+     * @return The x-coordinate of the cell.
+     */
+    public int getChunkMinX(int chunk) {
+        return (chunk % chunksX) * CHUNK_SIZE;
+    }
+
+    /**
+     * Gets the y-coordinate of the first cell of a chunk.
+     *
+     * @param chunk The index of the chunk.
+     * @return The y-coordinate of the cell.
+     */
+    public int getChunkMinY(int chunk) {
+        return (chunk / chunksX) * CHUNK_SIZE;
+    }
+
+    /**
+     * Finds the chunks visible to a camera, to be read with {@link #getFirstVisibleX()} and the like.
+     *
+     * @param camera The camera the map is viewed with.
+     * @param margin The number of extra chunks on every side, e.g. for textures larger than a cell.
+     */
+    public void updateVisibleChunks(OrthographicCamera camera, int margin) {
+        float chunkSizePx = CHUNK_SIZE * GameScreen.TILE_SIZE_PX * GameScreen.SCALE;
+        float left = camera.position.x - camera.viewportWidth * camera.zoom / 2f;
+        float bottom = camera.position.y - camera.viewportHeight * camera.zoom / 2f;
+        firstVisibleX = Math.max((int) Math.floor(left / chunkSizePx) - margin, 0);
+        firstVisibleY = Math.max((int) Math.floor(bottom / chunkSizePx) - margin, 0);
+        lastVisibleX = Math.min((int) Math.floor((left + camera.viewportWidth * camera.zoom) / chunkSizePx) + margin, chunksX - 1);
+        lastVisibleY = Math.min((int) Math.floor((bottom + camera.viewportHeight * camera.zoom) / chunkSizePx) + margin, chunksY - 1);
+    }
+
+    /**
+     * Gets the x-coordinate of the first visible chunk.
+     *
+     * @return The chunk x-coordinate.
+     */
+    public int getFirstVisibleX() {
+        return firstVisibleX;
+    }
+
+    /**
+     * Gets the y-coordinate of the first visible chunk.
+     *
+     * @return The chunk y-coordinate.
+     */
+    public int getFirstVisibleY() {
+        return firstVisibleY;
+    }
+
+    /**
+     * Gets the x-coordinate of the last visible chunk (inclusive).
+     *
+     * @return The chunk x-coordinate.
+     */
+    public int getLastVisibleX() {
+        return lastVisibleX;
+    }
+
+    /**
+     * Gets the y-coordinate of the last visible chunk (inclusive).
+     *
+     * @return The chunk y-coordinate.
+     */
+    public int getLastVisibleY() {
+        return lastVisibleY;
+    }
+}
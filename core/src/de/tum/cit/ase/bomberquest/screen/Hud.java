@@ -4,7 +4,7 @@
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import de.tum.cit.ase.bomberquest.map.Player;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
 import de.tum.cit.ase.bomberquest.texture.Animations;
 import de.tum.cit.ase.bomberquest.texture.Textures;
 
@@ -12,7 +12,7 @@
  * A Heads-Up Display (HUD) that displays game information on the screen.
  * The HUD is a fixed screen element that overlays the game world and presents
  * essential information to the player, such as score, timer, number of enemies,
- * player stats (like bomb count and blast radius), and game status indicators.
+ * player stats (like bomb count and blast radius), game status indicators and, on large maps, a minimap.
  * It utilizes a separate {@link OrthographicCamera} to remain static on the screen,
  * regardless of the game world camera's position.
  */
@@ -30,22 +30,16 @@ public class Hud {
      * Scale factor applied to HUD elements for visual consistency.
      */
     private static final float SCALE = 3.5f;
+    /**
+     * The distance of the minimap from the top right corner of the screen.
+     */
+    private static final float MINIMAP_MARGIN = 15;
     /**
      * The SpriteBatch used to draw the HUD elements.
      * This SpriteBatch is shared with the {@link GameScreen} to ensure efficient rendering
      * and avoid unnecessary resource creation.
      */
     private final SpriteBatch spriteBatch;
-    /**
-     * The font used to render standard text on the HUD.
-     * This font is used for displaying scores, timers, and other numerical information.
-     */
-    private final BitmapFont font;
-    /**
-     * A bold version of the font used for emphasizing text on the HUD.
-     * Typically used for player names or headings to make them stand out.
-     */
-    private final BitmapFont bold;
     /**
      * The OrthographicCamera dedicated to rendering the HUD.
      * This camera is configured to cover the entire screen and is not affected by the game world camera,
@@ -56,6 +50,34 @@ public class Hud {
      * Elapsed time for animations within the HUD, such as the exit sign.
      */
     private float elapsedTime;
+    /**
+     * The minimap shown in the top right corner, {@code null} if the map is too small to need one.
+     */
+    private Minimap minimap;
+    /**
+     * The points of player 1 and player 2.
+     */
+    private final HudText[] pointsTexts;
+    /**
+     * The blast radius of player 1 and player 2.
+     */
+    private final HudText[] blastRadiusTexts;
+    /**
+     * The number of concurrent bombs of player 1 and player 2.
+     */
+    private final HudText[] bombsTexts;
+    /**
+     * The names of player 1 and player 2.
+     */
+    private final HudText[] nameTexts;
+    /**
+     * The remaining time.
+     */
+    private final HudText timerText;
+    /**
+     * The number of remaining enemies.
+     */
+    private final HudText enemiesText;
 
     /**
      * Constructor for the Hud.
@@ -67,11 +89,15 @@ public class Hud {
      */
     public Hud(SpriteBatch spriteBatch, BitmapFont font, BitmapFont bold) {
         this.spriteBatch = spriteBatch;
-        this.font = font;
-        this.bold = bold;
         this.camera = new OrthographicCamera();
         camera.setToOrtho(false); // Sets the camera to orthographic projection, covering the entire screen
         elapsedTime = 0;
+        this.pointsTexts = new HudText[]{new HudText(font), new HudText(font)};
+        this.blastRadiusTexts = new HudText[]{new HudText(font), new HudText(font)};
+        this.bombsTexts = new HudText[]{new HudText(font), new HudText(font)};
+        this.nameTexts = new HudText[]{new HudText(bold), new HudText(bold)};
+        this.timerText = new HudText(font);
+        this.enemiesText = new HudText(font);
     }
 
 
@@ -96,34 +122,36 @@ private static void draw(SpriteBatch spriteBatch, TextureRegion texture, float x
      * Draws the HUD elements specific to a player (score, blast radius, bomb count).
      * This method is used for rendering the player-specific section of the HUD,
      * including icons and numerical values representing player stats.
+     * The values are drawn from {@link HudText}s, so they are only laid out again when they change.
      *
      * @param spriteBatch The SpriteBatch to draw with (should be the HUD's spriteBatch).
-     * @param player      The Player object whose stats are to be displayed.
+     * @param snapshot    The {@link RenderSnapshot} holding the player's stats.
+     * @param index       The index of the player, {@code 0} for player 1 and {@code 1} for player 2.
      * @param startX      The starting x-coordinate for drawing the player's HUD elements.
      */
-    private void drawHudPlayer(SpriteBatch spriteBatch, Player player, float startX) {
+    private void drawHudPlayer(SpriteBatch spriteBatch, RenderSnapshot snapshot, int index, float startX) {
         draw(spriteBatch, Textures.STAR, startX, ((HUD_Y - 9) / 3 * 2) + 15); // Score icon
         draw(spriteBatch, Textures.BLAST_HUD, startX, ((HUD_Y - 9) / 3) + 15); // Blast radius icon
         draw(spriteBatch, Textures.BOMB_HUD, startX, 15); // Bomb count icon
-        font.draw(spriteBatch, player.getPoints() + "", startX + 16 * SCALE + 15, ((HUD_Y - 9) / 3 * 2) + 57); // Player score value
-        font.draw(spriteBatch, player.getBlastRadius() + "", startX + 16 * SCALE + 15, ((HUD_Y - 9) / 3) + 57); // Player blast radius value
-        font.draw(spriteBatch, player.getConcurrentBombs() + "", startX + 16 * SCALE + 15, 57); // Player bomb count value
-        bold.draw(spriteBatch, player.getName(), startX - 5, HUD_Y + 30); // Player name in bold
+        pointsTexts[index].draw(spriteBatch, snapshot.getPlayerPoints(index), startX + 16 * SCALE + 15, ((HUD_Y - 9) / 3 * 2) + 57); // Player score value
+        blastRadiusTexts[index].draw(spriteBatch, snapshot.getPlayerBlastRadius(index), startX + 16 * SCALE + 15, ((HUD_Y - 9) / 3) + 57); // Player blast radius value
+        bombsTexts[index].draw(spriteBatch, snapshot.getPlayerConcurrentBombs(index), startX + 16 * SCALE + 15, 57); // Player bomb count value
+        nameTexts[index].draw(spriteBatch, snapshot.getPlayerName(index), startX - 5, HUD_Y + 30); // Player name in bold
     }
 
     /**
      * Renders the entire HUD on the screen.
      * This method draws the background, player-specific HUDs, and the main HUD elements
-     * such as timer, enemy count, and exit status.
+     * such as timer, enemy count, and exit status, and the minimap if there is one.
      *
-     * @param player1   The Player object for player 1, whose HUD will be rendered.
-     * @param player2   The Player object for player 2, whose HUD will be rendered (can be null for single player).
-     * @param timer     The current game timer value to be displayed.
-     * @param enemies   The number of enemies remaining in the game to be displayed.
-     * @param exitOpen  A boolean indicating if the exit is open, to display the correct exit status icon.
+     * @param snapshot  The latest {@link RenderSnapshot}, holding the stats of the players, the timer, the number of
+     *                  enemies, the exit status and the markers of the minimap.
      * @param frameTime The time elapsed since the last frame, used for animating HUD elements.
      */
-    public void render(Player player1, Player player2, int timer, int enemies, boolean exitOpen, float frameTime) {
+    public void render(RenderSnapshot snapshot, float frameTime) {
+        int timer = snapshot.getTimer();
+        int enemies = snapshot.getNumberOfEnemies();
+        boolean exitOpen = snapshot.isExitOpen();
         elapsedTime += frameTime;
         // Render from the camera's perspective
         spriteBatch.setProjectionMatrix(camera.combined);
@@ -136,20 +164,20 @@ public void render(Player player1, Player player2, int timer, int enemies, boole
 
         //player1 hud
         spriteBatch.draw(texture, 0, 0, HUD_X, HUD_Y); // Draw HUD background for player 1
-        drawHudPlayer(spriteBatch, player1, 17); // Draw player 1 specific HUD elements
+        drawHudPlayer(spriteBatch, snapshot, 0, 17); // Draw player 1 specific HUD elements
 
         //player2 hud
-        if (player2 != null) {
+        if (snapshot.getPlayerCount() > 1) {
             spriteBatch.draw(texture, maxX - HUD_X, 0, HUD_X, HUD_Y); // Draw HUD background for player 2 if exists
-            drawHudPlayer(spriteBatch, player2, maxX - HUD_X + 17); // Draw player 2 specific HUD elements
+            drawHudPlayer(spriteBatch, snapshot, 1, maxX - HUD_X + 17); // Draw player 2 specific HUD elements
         }
 
         //main hud
         spriteBatch.draw(texture, 0, maxY - HUD_Y, HUD_X, HUD_Y); // Draw main HUD background
         draw(spriteBatch, Textures.TIMER, 17, ((HUD_Y - 9) / 3 * 2) + maxY - HUD_Y + 15); // Timer icon
         draw(spriteBatch, Textures.ENEMY_HUD, 17, ((HUD_Y - 9) / 3) + maxY - HUD_Y + 15); // Enemy count icon
-        font.draw(spriteBatch, timer + "", 17 + 16 * SCALE + 15, ((HUD_Y - 9) / 3 * 2) + maxY - HUD_Y + 57); // Timer value
-        font.draw(spriteBatch, enemies + "", 17 + 16 * SCALE + 15, ((HUD_Y - 9) / 3) + maxY - HUD_Y + 57); // Enemy count value
+        timerText.draw(spriteBatch, timer, 17 + 16 * SCALE + 15, ((HUD_Y - 9) / 3 * 2) + maxY - HUD_Y + 57); // Timer value
+        enemiesText.draw(spriteBatch, enemies, 17 + 16 * SCALE + 15, ((HUD_Y - 9) / 3) + maxY - HUD_Y + 57); // Enemy count value
         if (exitOpen) {
             draw(spriteBatch, Animations.EXIT_OPENED.getKeyFrame(elapsedTime, true), 18, 15 + maxY - HUD_Y); // Animated open exit icon
             draw(spriteBatch, Textures.CHECK_MARK, 18 + 16 * SCALE + 12, 15 + maxY - HUD_Y); // Check mark icon for open exit
@@ -158,6 +186,11 @@ public void render(Player player1, Player player2, int timer, int enemies, boole
             draw(spriteBatch, Textures.CROSS_MARK, 18 + 16 * SCALE + 12, 15 + maxY - HUD_Y); // Cross mark icon for closed exit
         }
 
+        //minimap
+        if (minimap != null) {
+            minimap.render(spriteBatch, maxX - minimap.getWidth() - MINIMAP_MARGIN, maxY - minimap.getHeight() - MINIMAP_MARGIN, snapshot);
+        }
+
 
         // Finish drawing
         spriteBatch.end();
@@ -193,6 +226,15 @@ public float getHudY() {
         return HUD_Y;
     }
 
+    /**
+     * Sets the minimap shown in the top right corner of the HUD.
+     *
+     * @param minimap The {@link Minimap} to show, or {@code null} to show none.
+     */
+    public void setMinimap(Minimap minimap) {
+        this.minimap = minimap;
+    }
+
     /**
      * Gets the OrthographicCamera used for rendering the HUD.
      *
@@ -0,0 +1,132 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+
+/**
+ * One text of the {@link Hud} that keeps its laid out glyphs from frame to frame.
+ * Most HUD values, like the timer or the points, change rarely compared to the frame rate, so the text is only laid out
+ * again when its value changes and merely moved when only its position changes. Numbers below {@link #CACHED_NUMBERS}
+ * are turned into strings once and reused, so drawing an unchanged value produces no garbage.
+ */
+public class HudText {
+    /**
+     * The number of non-negative numbers whose strings are cached.
+     */
+    private static final int CACHED_NUMBERS = 1000;
+    /**
+     * The strings of the numbers from {@code 0} to {@code CACHED_NUMBERS - 1}, created when first needed.
+     */
+    private static final String[] NUMBERS = new String[CACHED_NUMBERS];
+
+    /**
+     * The glyphs of the current text, laid out at the current position.
+     */
+    private final BitmapFontCache cache;
+    /**
+     * The current text, {@code null} before the first draw.
+     */
+    private String text;
+    /**
+     * The current number, only valid if {@link #text} shows a number.
+     */
+    private int number;
+    /**
+     * Whether {@link #text} shows {@link #number}.
+     */
+    private boolean showsNumber;
+    /**
+     * The x-coordinate the text was laid out at.
+     */
+    private float layoutX;
+    /**
+     * The y-coordinate the text was laid out at.
+     */
+    private float layoutY;
+
+    /**
+     * Constructs a new HUD text without content.
+     *
+     * @param font The BitmapFont to draw the text with, in its current color.
+     */
+    public HudText(BitmapFont font) {
+        this.cache = font.newFontCache();
+        cache.setColor(font.getColor());
+    }
+
+    /**
+     * Draws a number, laying it out again only if it changed since the last frame.
+     *
+     * @param batch  The Batch to draw with, between {@code begin()} and {@code end()}.
+     * @param number The number to draw.
+     * @param x      The x-coordinate of the text's left edge.
+     * @param y      The y-coordinate of the text's top edge.
+     */
+    public void draw(Batch batch, int number, float x, float y) {
+        if (!showsNumber || number != this.number) {
+            layout(toText(number), x, y);
+            this.number = number;
+            this.showsNumber = true;
+        }
+        drawAt(batch, x, y);
+    }
+
+    /**
+     * Draws a text, laying it out again only if it changed since the last frame.
+     *
+     * @param batch The Batch to draw with, between {@code begin()} and {@code end()}.
+     * @param text  The text to draw.
+     * @param x     The x-coordinate of the text's left edge.
+     * @param y     The y-coordinate of the text's top edge.
+     */
+    public void draw(Batch batch, String text, float x, float y) {
+        if (showsNumber || !text.equals(this.text)) {
+            layout(text, x, y);
+            this.showsNumber = false;
+        }
+        drawAt(batch, x, y);
+    }
+
+    /**
+     * Lays out a new text at a position.
+     *
+     * @param text The text.
+     * @param x    The x-coordinate of the text's left edge.
+     * @param y    The y-coordinate of the text's top edge.
+     */
+    private void layout(String text, float x, float y) {
+        this.text = text;
+        this.layoutX = x;
+        this.layoutY = y;
+        cache.setText(text, x, y); // Also resets the offset of the glyphs
+    }
+
+    /**
+     * Moves the laid out glyphs to a position if needed and draws them.
+     *
+     * @param batch The Batch to draw with.
+     * @param x     The x-coordinate of the text's left edge.
+     * @param y     The y-coordinate of the text's top edge.
+     */
+    private void drawAt(Batch batch, float x, float y) {
+        cache.setPosition(x - layoutX, y - layoutY); // Offsets the glyphs if only the position changed, e.g. after a resize
+        cache.draw(batch);
+    }
+
+    /**
+     * Gets the string of a number, cached for small non-negative numbers.
+     *
+     * @param number The number.
+     * @return The decimal string of the number.
+     */
+    static String toText(int number) {
+        if (number < 0 || number >= CACHED_NUMBERS) return Integer.toString(number);
+        String text = NUMBERS[number];
+        if (text == null) {
+            text = Integer.toString(number);
+            NUMBERS[number] = text;
+        }
+        return text;
+    }
+}
@@ -0,0 +1,19 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+/**
+ * Enumeration of how the content of a {@link RenderLayer} changes, which decides how the {@link MapRenderer} draws it.
+ */
+public enum LayerKind {
+    /**
+     * Content that almost never changes, cached on the graphics card by the layer and drawn without the sprite batch.
+     */
+    STATIC,
+    /**
+     * Content that stays in place but changes its appearance, submitted to the sprite batch at its latest state.
+     */
+    ANIMATED,
+    /**
+     * Moving content, submitted to the sprite batch at positions interpolated between two snapshots.
+     */
+    DYNAMIC
+}
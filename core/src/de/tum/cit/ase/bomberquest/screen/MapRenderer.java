@@ -0,0 +1,117 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+import de.tum.cit.ase.bomberquest.map.GameMap;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+import de.tum.cit.ase.bomberquest.map.StationaryObject;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Draws the game map as an ordered list of {@link RenderLayer}s, the first layer at the bottom.
+ * The renderer owns the sprite batch state: consecutive layers drawn with the batch share one
+ * {@code begin()}/{@code end()} pair, {@link LayerKind#STATIC} layers draw their own cached buffers between them,
+ * and empty layers are skipped. Every layer is added for the {@link DetailLevel}s it is drawn at, so zooming out
+ * swaps detailed layers for cheaper ones. New layers are added with {@link #addLayer} without changing the screen.
+ */
+public class MapRenderer implements Disposable {
+    /**
+     * The SpriteBatch used by the layers that are not static.
+     */
+    private final SpriteBatch spriteBatch;
+    /**
+     * The game map whose destroyed walls are passed on to the layers.
+     */
+    private final GameMap map;
+    /**
+     * The layers in drawing order.
+     */
+    private final List<RenderLayer> layers = new ArrayList<>();
+    /**
+     * The levels of detail each layer is drawn at, in the same order as {@link #layers}.
+     */
+    private final List<EnumSet<DetailLevel>> levels = new ArrayList<>();
+
+    /**
+     * Constructs a new renderer without layers.
+     *
+     * @param spriteBatch The SpriteBatch to draw the layers with.
+     * @param map         The game map to draw.
+     */
+    public MapRenderer(SpriteBatch spriteBatch, GameMap map) {
+        this.spriteBatch = spriteBatch;
+        this.map = map;
+    }
+
+    /**
+     * Adds a layer on top of all layers added before, drawn at every level of detail.
+     * The renderer disposes of it when it is disposed.
+     *
+     * @param layer The layer to add.
+     */
+    public void addLayer(RenderLayer layer) {
+        addLayer(layer, EnumSet.allOf(DetailLevel.class));
+    }
+
+    /**
+     * Adds a layer on top of all layers added before, drawn only at some levels of detail.
+     * The renderer disposes of it when it is disposed.
+     *
+     * @param layer  The layer to add.
+     * @param levels The levels of detail the layer is drawn at.
+     */
+    public void addLayer(RenderLayer layer, EnumSet<DetailLevel> levels) {
+        this.layers.add(layer);
+        this.levels.add(levels);
+    }
+
+    /**
+     * Passes the walls destroyed since the last frame on to all layers and draws the layers that belong to the
+     * camera's level of detail and have something to draw.
+     *
+     * @param camera   The camera the map is viewed with.
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @param alpha    The interpolation factor towards the snapshot.
+     */
+    public void render(OrthographicCamera camera, RenderSnapshot snapshot, float alpha) {
+        StationaryObject destroyed;
+        while ((destroyed = map.pollDestroyedWall()) != null) {
+            for (int i = 0; i < layers.size(); i++) {
+                layers.get(i).wallDestroyed((int) destroyed.getX(), (int) destroyed.getY()); // Hidden layers stay up to date
+            }
+        }
+
+        DetailLevel level = DetailLevel.forZoom(camera.zoom);
+        // This configures the spriteBatch to use the camera's perspective when rendering
+        spriteBatch.setProjectionMatrix(camera.combined);
+        boolean drawing = false;
+        for (int i = 0; i < layers.size(); i++) {
+            RenderLayer layer = layers.get(i);
+            if (!levels.get(i).contains(level) || layer.isEmpty(snapshot)) continue;
+            boolean cached = layer.getKind() == LayerKind.STATIC;
+            if (cached && drawing) {
+                spriteBatch.end(); // Send the sprites below to the graphics card before the cached buffer
+                drawing = false;
+            } else if (!cached && !drawing) {
+                spriteBatch.begin();
+                drawing = true;
+            }
+            layer.render(spriteBatch, camera, snapshot, alpha);
+        }
+        if (drawing) spriteBatch.end();
+    }
+
+    /**
+     * Releases the resources of all layers.
+     */
+    @Override
+    public void dispose() {
+        for (RenderLayer layer : layers) {
+            layer.dispose();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+import de.tum.cit.ase.bomberquest.map.SpriteLayer;
+
+/**
+ * A layer drawing one {@link SpriteLayer} of the latest {@link RenderSnapshot} for the {@link DetailLevel#TACTICAL} view:
+ * every sprite becomes a cell-sized quad of its flat map color instead of its animated texture,
+ * so objects stay visible when their textures would be only a few pixels large.
+ */
+public class MarkerLayer implements RenderLayer {
+    /**
+     * The group of sprites of the snapshot drawn by this layer.
+     */
+    private final SpriteLayer spriteLayer;
+    /**
+     * How the content of the layer changes.
+     */
+    private final LayerKind kind;
+    /**
+     * A plain white texture region, tinted with the color of each sprite.
+     */
+    private final TextureRegion white;
+
+    /**
+     * Constructs a new marker layer.
+     *
+     * @param spriteLayer The group of sprites of the snapshot to draw.
+     * @param kind        {@link LayerKind#ANIMATED} for objects that never move, {@link LayerKind#DYNAMIC} otherwise.
+     * @param white       A plain white texture region.
+     */
+    public MarkerLayer(SpriteLayer spriteLayer, LayerKind kind, TextureRegion white) {
+        if (kind == LayerKind.STATIC) {
+            throw new IllegalArgumentException("Marker layers are drawn with the sprite batch and cannot be static");
+        }
+        this.spriteLayer = spriteLayer;
+        this.kind = kind;
+        this.white = white;
+    }
+
+    /**
+     * Gets how the content of the layer changes.
+     *
+     * @return {@link LayerKind#ANIMATED} or {@link LayerKind#DYNAMIC}.
+     */
+    @Override
+    public LayerKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Checks if the snapshot holds no sprites of this layer.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @return {@code true} if there is nothing to draw, {@code false} otherwise.
+     */
+    @Override
+    public boolean isEmpty(RenderSnapshot snapshot) {
+        return snapshot.getLayerStart(spriteLayer) == snapshot.getLayerEnd(spriteLayer);
+    }
+
+    /**
+     * Draws a flat-colored cell for every sprite of this layer.
+     * Must be called between {@code spriteBatch.begin()} and {@code spriteBatch.end()}.
+     *
+     * @param spriteBatch The SpriteBatch to draw with.
+     * @param camera      The camera the map is viewed with.
+     * @param snapshot    The latest {@link RenderSnapshot} of the simulation.
+     * @param alpha       The interpolation factor towards the snapshot.
+     */
+    @Override
+    public void render(SpriteBatch spriteBatch, OrthographicCamera camera, RenderSnapshot snapshot, float alpha) {
+        float factor = kind == LayerKind.DYNAMIC ? alpha : 1; // Objects that never move need no interpolation
+        float cellPx = GameScreen.TILE_SIZE_PX * GameScreen.SCALE;
+        int end = snapshot.getLayerEnd(spriteLayer);
+        for (int i = snapshot.getLayerStart(spriteLayer); i < end; i++) {
+            spriteBatch.setPackedColor(snapshot.getMapColor(i));
+            spriteBatch.draw(white, snapshot.getX(i, factor) * cellPx, snapshot.getY(i, factor) * cellPx, cellPx, cellPx);
+        }
+        spriteBatch.setPackedColor(Color.WHITE_FLOAT_BITS);
+    }
+}
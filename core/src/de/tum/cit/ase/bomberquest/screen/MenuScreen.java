@@ -22,6 +22,7 @@
 import de.tum.cit.ase.bomberquest.BomberQuestGame;
 import de.tum.cit.ase.bomberquest.audio.BackgroundTrack;
 import de.tum.cit.ase.bomberquest.audio.SoundEffects;
+import de.tum.cit.ase.bomberquest.map.GroundLayerType;
 import de.tum.cit.ase.bomberquest.map.Settings;
 import de.tum.cit.ase.bomberquest.texture.Textures;
 
@@ -372,7 +373,8 @@ protected void result(Object object) {
     }
 
     /**
-     * Shows the settings dialog, allowing users to modify game settings like AI, bombs, timer, and power-up chance.
+     * Shows the settings dialog, allowing users to modify game settings like AI, bombs, timer, power-up chance,
+     * the simulation rate and how the ground is drawn.
      *
      * @param game The main game class instance.
      */
@@ -385,6 +387,11 @@ private void showSettingsDialog(BomberQuestGame game) {
         timerSlider.setValue(settings.getTimer());
         Slider powerUpChanceSlider = new Slider(10, 40, 5, false, game.getSkin());
         powerUpChanceSlider.setValue(settings.getPowerUpChance());
+        Slider tickRateSlider = new Slider(30, 240, 30, false, game.getSkin());
+        tickRateSlider.setValue(settings.getTickRate());
+        Slider maxSubStepsSlider = new Slider(1, 10, 1, false, game.getSkin());
+        maxSubStepsSlider.setValue(settings.getMaxSubSteps());
+        TextButton groundLayerButton = new TextButton(settings.getGroundLayer().getDisplayName(), game.getSkin(), "mini");
         Dialog dialog = new Dialog("", game.getSkin()) {
             @Override
             protected void result(Object object) {
@@ -394,6 +401,9 @@ protected void result(Object object) {
                     settings.setAliensBombs(aliensBombsButton.getText().toString().trim().equals("Yes"));
                     settings.setTimer((int) timerSlider.getValue());
                     settings.setPowerUpChance((int) powerUpChanceSlider.getValue());
+                    settings.setTickRate((int) tickRateSlider.getValue());
+                    settings.setMaxSubSteps((int) maxSubStepsSlider.getValue());
+                    settings.setGroundLayer(findGroundLayer(groundLayerButton.getText().toString()));
                     game.createNewMap();
                     continueButton.setDisabled(true);
                 }
@@ -453,9 +463,57 @@ public void changed(ChangeEvent changeEvent, Actor actor) {
                 powerUpChanceLabel.setText("PowerUp Chance: " + (int) powerUpChanceSlider.getValue() + "%");
             }
         });
+
+        Label tickRateLabel = new Label("Tick Rate: " + settings.getTickRate() + "/s", game.getSkin());
+        dialog.getContentTable().add(tickRateLabel).pad(20f);
+        dialog.getContentTable().add(tickRateSlider).pad(20f).row();
+        tickRateSlider.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent changeEvent, Actor actor) {
+                tickRateLabel.setText("Tick Rate: " + (int) tickRateSlider.getValue() + "/s");
+            }
+        });
+
+        Label maxSubStepsLabel = new Label("Catch-up Ticks: " + settings.getMaxSubSteps(), game.getSkin());
+        dialog.getContentTable().add(maxSubStepsLabel).pad(20f);
+        dialog.getContentTable().add(maxSubStepsSlider).pad(20f).row();
+        maxSubStepsSlider.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent changeEvent, Actor actor) {
+                maxSubStepsLabel.setText("Catch-up Ticks: " + (int) maxSubStepsSlider.getValue());
+            }
+        });
+
+        Label groundLayerLabel = new Label("Ground Drawing", game.getSkin());
+        dialog.getContentTable().add(groundLayerLabel).pad(20f);
+        groundLayerButton.getLabel().setFontScale(0.85f);
+        dialog.getContentTable().add(groundLayerButton).pad(20f).size(240f, 50f).row();
+        groundLayerButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent changeEvent, Actor actor) {
+                SoundEffects.BUTTON_CLICK.play();
+                // Cycle through the ways of drawing the ground
+                GroundLayerType[] types = GroundLayerType.values();
+                GroundLayerType next = types[(findGroundLayer(groundLayerButton.getText().toString()).ordinal() + 1) % types.length];
+                groundLayerButton.setText(next.getDisplayName());
+            }
+        });
         dialogUI(game, dialog, "", "Save");
     }
 
+    /**
+     * Finds the ground layer type shown on a button of the settings dialog.
+     *
+     * @param displayName The text of the button.
+     * @return The {@link GroundLayerType} with this display name, or {@link GroundLayerType#AUTOMATIC} if there is none.
+     */
+    private static GroundLayerType findGroundLayer(String displayName) {
+        for (GroundLayerType type : GroundLayerType.values()) {
+            if (type.getDisplayName().equals(displayName.trim())) return type;
+        }
+        return GroundLayerType.AUTOMATIC;
+    }
+
     /**
      * Shows a confirmation dialog for loading a new map, warning about unsaved progress loss.
      *
@@ -0,0 +1,212 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import de.tum.cit.ase.bomberquest.map.GameMap;
+import de.tum.cit.ase.bomberquest.map.MinimapChanges;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+
+/**
+ * A minimap of the whole game map for the {@link Hud}, with one pixel per cell.
+ * The ground and walls are drawn into a {@link Pixmap} once; afterwards only the cells reported by the
+ * {@link MinimapChanges} of the simulation are repainted, each uploaded as a single texel, so a frame costs a few
+ * texel uploads at most, whatever the size of the map. Players and enemies are drawn on top as small dots.
+ */
+public class Minimap implements Disposable {
+    /**
+     * The side length in cells from which a map is large enough to get a minimap.
+     */
+    public static final int MIN_MAP_SIZE = 64;
+
+    /**
+     * The maximum width and height of the minimap on the screen in pixels.
+     */
+    private static final float MAX_SIZE_PX = 240;
+    /**
+     * The number of changed cells in a frame from which the whole pixmap is uploaded instead of single texels.
+     */
+    private static final int MAX_TEXEL_UPLOADS = 256;
+    /**
+     * The smallest size of a player or enemy dot on the screen in pixels.
+     */
+    private static final float MIN_DOT_SIZE_PX = 3;
+    /**
+     * The color of cells with a bomb.
+     */
+    private static final Color BOMB_COLOR = Color.BLACK;
+    /**
+     * The color of cells with a blast.
+     */
+    private static final Color BLAST_COLOR = Color.ORANGE;
+
+    /**
+     * The changes of the simulated map, drained every frame.
+     */
+    private final MinimapChanges source;
+    /**
+     * A plain white texture region, tinted for the dots.
+     */
+    private final TextureRegion white;
+    /**
+     * The colors of all cells, the top row of the map first.
+     */
+    private final Pixmap pixmap;
+    /**
+     * The texture showing the pixmap.
+     */
+    private final Texture texture;
+    /**
+     * A single texel, used to upload one changed cell.
+     */
+    private final Pixmap texel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+    /**
+     * The changes taken from the source in the current frame, reused from frame to frame.
+     */
+    private final IntArray changes = new IntArray();
+    /**
+     * Width of the map in cells.
+     */
+    private final int width;
+    /**
+     * Height of the map in cells.
+     */
+    private final int height;
+    /**
+     * Width of the ground area in cells, i.e. the cells that show the ground when they are empty.
+     */
+    private final int groundWidth;
+    /**
+     * Height of the ground area in cells.
+     */
+    private final int groundHeight;
+    /**
+     * The size of a cell on the screen in pixels.
+     */
+    private final float cellSizePx;
+
+    /**
+     * Constructs the minimap of a loaded map. Must be called on the render thread.
+     *
+     * @param map    The game map to show.
+     * @param source The changes of the map's simulation.
+     * @param white  A plain white texture region.
+     */
+    public Minimap(GameMap map, MinimapChanges source, TextureRegion white) {
+        this.source = source;
+        this.white = white;
+        this.width = map.getMAX_X() + 1;
+        this.height = map.getMAX_Y() + 1;
+        this.groundWidth = map.getMAX_X();
+        this.groundHeight = map.getMAX_Y();
+        this.cellSizePx = MAX_SIZE_PX / Math.max(width, height);
+        this.pixmap = OverviewLayer.drawCells(new GroundCells(map));
+        this.texture = new Texture(pixmap);
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Nearest); // Small maps are enlarged, large ones shrunk
+        texel.setBlending(Pixmap.Blending.None);
+    }
+
+    /**
+     * Checks if a map is large enough to get a minimap.
+     *
+     * @param map The loaded game map.
+     * @return {@code true} if the map should get a minimap, {@code false} otherwise.
+     */
+    public static boolean isWanted(GameMap map) {
+        return map.getMAX_X() + 1 >= MIN_MAP_SIZE || map.getMAX_Y() + 1 >= MIN_MAP_SIZE;
+    }
+
+    /**
+     * Repaints the changed cells and draws the minimap with the players and enemies of the snapshot.
+     * Must be called between {@code spriteBatch.begin()} and {@code spriteBatch.end()}.
+     *
+     * @param spriteBatch The SpriteBatch to draw with.
+     * @param x           The x-coordinate of the minimap's bottom left corner on the screen.
+     * @param y           The y-coordinate of the minimap's bottom left corner on the screen.
+     * @param snapshot    The latest {@link RenderSnapshot} of the simulation.
+     */
+    public void render(SpriteBatch spriteBatch, float x, float y, RenderSnapshot snapshot) {
+        update();
+        spriteBatch.draw(texture, x, y, getWidth(), getHeight());
+
+        float dotSize = Math.max(cellSizePx, MIN_DOT_SIZE_PX);
+        for (int i = 0; i < snapshot.getMarkerCount(); i++) {
+            spriteBatch.setPackedColor(snapshot.getMarkerColor(i));
+            spriteBatch.draw(white, x + (snapshot.getMarkerX(i) + 0.5f) * cellSizePx - dotSize / 2,
+                y + (snapshot.getMarkerY(i) + 0.5f) * cellSizePx - dotSize / 2, dotSize, dotSize);
+        }
+        spriteBatch.setPackedColor(Color.WHITE_FLOAT_BITS);
+    }
+
+    /**
+     * Repaints the cells changed since the last frame and uploads them.
+     * Every cell is uploaded as a single texel, unless so many changed that one upload of the whole pixmap is cheaper.
+     */
+    private void update() {
+        changes.clear();
+        source.drainTo(changes);
+        if (changes.isEmpty()) return;
+        boolean uploadAll = changes.size > MAX_TEXEL_UPLOADS;
+        for (int i = 0; i < changes.size; i++) {
+            int cell = MinimapChanges.getCell(changes.get(i));
+            int cellX = cell % width;
+            int cellY = cell / width;
+            int color = colorOf(cellX, cellY, MinimapChanges.getMark(changes.get(i)));
+            pixmap.drawPixel(cellX, height - 1 - cellY, color);
+            if (!uploadAll) {
+                texel.drawPixel(0, 0, color);
+                texture.draw(texel, cellX, height - 1 - cellY);
+            }
+        }
+        if (uploadAll) texture.draw(pixmap, 0, 0);
+    }
+
+    /**
+     * Gets the color of a cell with a marking.
+     * A cell without marking shows the ground, as bombs and blasts only appear where there is no wall.
+     *
+     * @param x    The x-coordinate of the cell.
+     * @param y    The y-coordinate of the cell.
+     * @param mark The marking of the cell.
+     * @return The color as RGBA8888.
+     */
+    private int colorOf(int x, int y, int mark) {
+        return switch (mark) {
+            case MinimapChanges.BOMB -> Color.rgba8888(BOMB_COLOR);
+            case MinimapChanges.BLAST -> Color.rgba8888(BLAST_COLOR);
+            default -> x < groundWidth && y < groundHeight ? Color.rgba8888(OverviewLayer.GROUND_COLOR) : 0;
+        };
+    }
+
+    /**
+     * Gets the width of the minimap on the screen.
+     *
+     * @return The width in pixels.
+     */
+    public float getWidth() {
+        return width * cellSizePx;
+    }
+
+    /**
+     * Gets the height of the minimap on the screen.
+     *
+     * @return The height in pixels.
+     */
+    public float getHeight() {
+        return height * cellSizePx;
+    }
+
+    /**
+     * Releases the texture and the pixmaps.
+     */
+    @Override
+    public void dispose() {
+        texture.dispose();
+        pixmap.dispose();
+        texel.dispose();
+    }
+}
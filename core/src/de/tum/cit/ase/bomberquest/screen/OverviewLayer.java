@@ -0,0 +1,130 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+import de.tum.cit.ase.bomberquest.map.StationaryObject;
+
+/**
+ * The ground and the walls of the game map for the {@link DetailLevel#TACTICAL} view, downsampled to one texel per cell.
+ * The whole map is a single texture drawn as one quad, so the layer costs the same no matter how many cells are visible.
+ * Each texel has the {@link de.tum.cit.ase.bomberquest.texture.Drawable#getMapColor() map color} of the cell's wall,
+ * and a destroyed wall only uploads its texel again. Power-ups are drawn with the other objects instead.
+ */
+public class OverviewLayer implements RenderLayer {
+    /**
+     * The color of cells without a wall.
+     */
+    static final Color GROUND_COLOR = Color.DARK_GRAY;
+
+    /**
+     * The ground and the walls shown by the layer.
+     */
+    private final GroundCells cells;
+    /**
+     * The texture with one texel per cell, the top row of the map first.
+     */
+    private final Texture texture;
+    /**
+     * A single texel, used to upload the cell of a destroyed wall.
+     */
+    private final Pixmap texel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+
+    /**
+     * Constructs the overview layer and draws the ground and the walls of a loaded map into its texture.
+     * Must be called on the render thread.
+     *
+     * @param cells The ground and the walls of the map, owned by the layer from now on.
+     */
+    public OverviewLayer(GroundCells cells) {
+        this.cells = cells;
+        Pixmap pixmap = drawCells(cells);
+        this.texture = new Texture(pixmap);
+        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        pixmap.dispose(); // The texture is not managed, so the pixmap is not needed to restore it
+        texel.setBlending(Pixmap.Blending.None);
+    }
+
+    /**
+     * Draws the ground and the walls of a map into a new pixmap with one pixel per cell, the top row of the map first.
+     *
+     * @param cells The ground and the walls of the map.
+     * @return The pixmap, to be disposed of by the caller.
+     */
+    static Pixmap drawCells(GroundCells cells) {
+        int height = cells.getHeight();
+        Pixmap pixmap = new Pixmap(cells.getWidth(), height, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        pixmap.setColor(GROUND_COLOR);
+        pixmap.fillRectangle(0, 1, cells.getGroundWidth(), cells.getGroundHeight()); // Like the sprites, the ground leaves out the last row and column
+        for (int x = 0; x < cells.getWidth(); x++) {
+            for (int y = 0; y < height; y++) {
+                StationaryObject wall = cells.getWall(x, y);
+                if (wall != null) pixmap.drawPixel(x, height - 1 - y, Color.rgba8888(wall.getMapColor()));
+            }
+        }
+        return pixmap;
+    }
+
+    /**
+     * Gets how the content of the layer changes.
+     *
+     * @return {@link LayerKind#ANIMATED}, the texture only changes when a wall is destroyed.
+     */
+    @Override
+    public LayerKind getKind() {
+        return LayerKind.ANIMATED;
+    }
+
+    /**
+     * Checks if the layer has nothing to draw. The ground always covers the map.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @return Always {@code false}.
+     */
+    @Override
+    public boolean isEmpty(RenderSnapshot snapshot) {
+        return false;
+    }
+
+    /**
+     * Draws the texture over the whole map.
+     * Must be called between {@code spriteBatch.begin()} and {@code spriteBatch.end()}.
+     *
+     * @param spriteBatch The SpriteBatch to draw with.
+     * @param camera      The camera the map is viewed with.
+     * @param snapshot    Not used, the walls are taken from the map.
+     * @param alpha       Not used, the layer does not move.
+     */
+    @Override
+    public void render(SpriteBatch spriteBatch, OrthographicCamera camera, RenderSnapshot snapshot, float alpha) {
+        float cellPx = GameScreen.TILE_SIZE_PX * GameScreen.SCALE;
+        spriteBatch.draw(texture, 0, 0, cells.getWidth() * cellPx, cells.getHeight() * cellPx);
+    }
+
+    /**
+     * Replaces the texel of a destroyed wall with the ground.
+     *
+     * @param x The x-coordinate of the wall's cell.
+     * @param y The y-coordinate of the wall's cell.
+     */
+    @Override
+    public void wallDestroyed(int x, int y) {
+        if (!cells.removeWall(x, y)) return;
+        texel.setColor(cells.hasGround(x, y) ? GROUND_COLOR : Color.CLEAR);
+        texel.fill();
+        texture.draw(texel, x, cells.getHeight() - 1 - y);
+    }
+
+    /**
+     * Releases the texture and the texel.
+     */
+    @Override
+    public void dispose() {
+        texture.dispose();
+        texel.dispose();
+    }
+}
@@ -0,0 +1,60 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+
+/**
+ * One layer of the game map drawn by the {@link MapRenderer}, like the ground and walls or the entities.
+ * Layers are drawn in the order they were added, so later layers appear on top.
+ * New layers, e.g. debug overlays, are added to the renderer without changing the other layers.
+ */
+public interface RenderLayer extends Disposable {
+
+    /**
+     * Gets how the content of the layer changes.
+     * {@link LayerKind#STATIC} layers are drawn outside of {@code spriteBatch.begin()} and {@code spriteBatch.end()},
+     * all others inside.
+     *
+     * @return The {@link LayerKind} of the layer.
+     */
+    LayerKind getKind();
+
+    /**
+     * Checks if the layer has nothing to draw for a snapshot, so the renderer can skip it.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @return {@code true} if the layer is empty, {@code false} otherwise.
+     */
+    boolean isEmpty(RenderSnapshot snapshot);
+
+    /**
+     * Draws the layer.
+     *
+     * @param spriteBatch The SpriteBatch to draw with, already using the camera's projection.
+     * @param camera      The camera the map is viewed with.
+     * @param snapshot    The latest {@link RenderSnapshot} of the simulation.
+     * @param alpha       The interpolation factor towards the snapshot.
+     */
+    void render(SpriteBatch spriteBatch, OrthographicCamera camera, RenderSnapshot snapshot, float alpha);
+
+    /**
+     * Called on the render thread for every wall destroyed since the last frame, before the layers are drawn.
+     * Layers that do not show walls do nothing.
+     *
+     * @param x The x-coordinate of the wall's cell.
+     * @param y The y-coordinate of the wall's cell.
+     */
+    default void wallDestroyed(int x, int y) {
+        // Nothing to update
+    }
+
+    /**
+     * Releases the resources of the layer. Layers without own resources do nothing.
+     */
+    @Override
+    default void dispose() {
+        // Nothing to release
+    }
+}
@@ -0,0 +1,96 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+import de.tum.cit.ase.bomberquest.map.SpriteLayer;
+
+/**
+ * A layer drawing one {@link SpriteLayer} of the latest {@link RenderSnapshot} with the sprite batch.
+ * The snapshot is reused by the simulation, so the layer owns no copies of the sprites and submits its range as is.
+ * {@link LayerKind#ANIMATED} layers hold objects that never move and are drawn at their latest position,
+ * {@link LayerKind#DYNAMIC} layers are drawn between the previous and the latest position of every sprite.
+ */
+public class SnapshotLayer implements RenderLayer {
+    /**
+     * The group of sprites of the snapshot drawn by this layer.
+     */
+    private final SpriteLayer spriteLayer;
+    /**
+     * How the content of the layer changes.
+     */
+    private final LayerKind kind;
+
+    /**
+     * Constructs a new snapshot layer.
+     *
+     * @param spriteLayer The group of sprites of the snapshot to draw.
+     * @param kind        {@link LayerKind#ANIMATED} or {@link LayerKind#DYNAMIC}.
+     */
+    public SnapshotLayer(SpriteLayer spriteLayer, LayerKind kind) {
+        if (kind == LayerKind.STATIC) {
+            throw new IllegalArgumentException("Snapshot layers are drawn with the sprite batch and cannot be static");
+        }
+        this.spriteLayer = spriteLayer;
+        this.kind = kind;
+    }
+
+    /**
+     * Gets how the content of the layer changes.
+     *
+     * @return {@link LayerKind#ANIMATED} or {@link LayerKind#DYNAMIC}.
+     */
+    @Override
+    public LayerKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Checks if the snapshot holds no sprites of this layer, e.g. because none of them are on screen.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @return {@code true} if there is nothing to draw, {@code false} otherwise.
+     */
+    @Override
+    public boolean isEmpty(RenderSnapshot snapshot) {
+        return snapshot.getLayerStart(spriteLayer) == snapshot.getLayerEnd(spriteLayer);
+    }
+
+    /**
+     * Draws the sprites of this layer in their drawing order, so later sprites appear on top.
+     * Must be called between {@code spriteBatch.begin()} and {@code spriteBatch.end()}.
+     *
+     * @param spriteBatch The SpriteBatch to draw with.
+     * @param camera      The camera the map is viewed with.
+     * @param snapshot    The latest {@link RenderSnapshot} of the simulation.
+     * @param alpha       The interpolation factor towards the snapshot.
+     */
+    @Override
+    public void render(SpriteBatch spriteBatch, OrthographicCamera camera, RenderSnapshot snapshot, float alpha) {
+        float factor = kind == LayerKind.DYNAMIC ? alpha : 1; // Objects that never move need no interpolation
+        int end = snapshot.getLayerEnd(spriteLayer);
+        for (int i = snapshot.getLayerStart(spriteLayer); i < end; i++) {
+            draw(spriteBatch, snapshot.getAppearance(i), snapshot.getX(i, factor), snapshot.getY(i, factor));
+        }
+    }
+
+    /**
+     * Draws a texture at a position given in tiles, scaled by the game scale and the tile size.
+     * This method should only be called between `spriteBatch.begin()` and `spriteBatch.end()`.
+     *
+     * @param spriteBatch The SpriteBatch to draw with.
+     * @param texture     The texture to draw.
+     * @param tileX       The x-coordinate in tiles.
+     * @param tileY       The y-coordinate in tiles.
+     */
+    private static void draw(SpriteBatch spriteBatch, TextureRegion texture, float tileX, float tileY) {
+        // Drawable coordinates are in tiles, so we need to scale them to pixels
+        float x = tileX * GameScreen.TILE_SIZE_PX * GameScreen.SCALE;
+        float y = tileY * GameScreen.TILE_SIZE_PX * GameScreen.SCALE;
+        // Additionally scale everything by the game scale
+        float width = texture.getRegionWidth() * GameScreen.SCALE;
+        float height = texture.getRegionHeight() * GameScreen.SCALE;
+        spriteBatch.draw(texture, x, y, width, height);
+    }
+}
@@ -0,0 +1,167 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+import de.tum.cit.ase.bomberquest.map.StationaryObject;
+import de.tum.cit.ase.bomberquest.texture.Textures;
+
+/**
+ * The ground and the walls of the game map, which almost never change, cached on the graphics card.
+ * The map is split into the chunks of its {@link GroundCells}, each stored as one cache of a
+ * {@link SpriteCache}, so drawing the layer costs one draw call per visible chunk instead of one sprite per cell.
+ * When a wall is destroyed, only the cache of its chunk is rebuilt. Power-ups are animated and are drawn with the
+ * other sprites instead.
+ */
+public class StaticLayer implements RenderLayer {
+    /**
+     * The ground and the walls that are cached.
+     */
+    private final GroundCells cells;
+    /**
+     * The cache holding the sprites of all chunks.
+     */
+    private final SpriteCache cache;
+    /**
+     * The cache id of every chunk, indexed by {@code chunkX + chunkY * chunksX}.
+     */
+    private final int[] cacheIds;
+    /**
+     * Whether the cache of each chunk has to be rebuilt before it is drawn again.
+     */
+    private final boolean[] dirty;
+
+    /**
+     * Constructs the static layer and caches the ground and the walls of a loaded map.
+     * Must be called on the render thread.
+     *
+     * @param cells The ground and the walls of the map, owned by the layer from now on.
+     */
+    public StaticLayer(GroundCells cells) {
+        this.cells = cells;
+        int sprites = cells.getGroundWidth() * cells.getGroundHeight(); // One ground tile per cell
+        for (int x = 0; x < cells.getWidth(); x++) {
+            for (int y = 0; y < cells.getHeight(); y++) {
+                if (cells.getWall(x, y) != null) sprites++;
+            }
+        }
+        this.cacheIds = new int[cells.getChunkCount()];
+        this.dirty = new boolean[cells.getChunkCount()];
+        // Without indices the cache is not limited to 8191 sprites; walls are only ever removed, so rebuilt chunks fit
+        this.cache = new SpriteCache(Math.max(sprites, 1), false);
+        for (int chunk = 0; chunk < cacheIds.length; chunk++) {
+            cache.beginCache();
+            addChunk(chunk);
+            cacheIds[chunk] = cache.endCache();
+        }
+    }
+
+    /**
+     * Gets how the content of the layer changes.
+     *
+     * @return {@link LayerKind#STATIC}, the layer draws its own cache.
+     */
+    @Override
+    public LayerKind getKind() {
+        return LayerKind.STATIC;
+    }
+
+    /**
+     * Checks if the layer has nothing to draw. The ground always covers the map.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @return Always {@code false}.
+     */
+    @Override
+    public boolean isEmpty(RenderSnapshot snapshot) {
+        return false;
+    }
+
+    /**
+     * Rebuilds only the chunks that changed since the last frame and draws the chunks visible to the camera.
+     * Must be called outside of {@code spriteBatch.begin()} and {@code spriteBatch.end()}.
+     *
+     * @param spriteBatch Not used, the layer draws with its own cache.
+     * @param camera      The camera the map is viewed with.
+     * @param snapshot    Not used, the walls are taken from the map.
+     * @param alpha       Not used, the layer does not move.
+     */
+    @Override
+    public void render(SpriteBatch spriteBatch, OrthographicCamera camera, RenderSnapshot snapshot, float alpha) {
+        for (int chunk = 0; chunk < cacheIds.length; chunk++) {
+            if (dirty[chunk]) {
+                cache.beginCache(cacheIds[chunk]); // Redefine the chunk in place, it holds fewer sprites than before
+                addChunk(chunk);
+                cache.endCache();
+                dirty[chunk] = false;
+            }
+        }
+
+        cells.updateVisibleChunks(camera, 1); // One extra chunk on every side covers textures larger than a cell
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        for (int chunkY = cells.getFirstVisibleY(); chunkY <= cells.getLastVisibleY(); chunkY++) {
+            for (int chunkX = cells.getFirstVisibleX(); chunkX <= cells.getLastVisibleX(); chunkX++) {
+                cache.draw(cacheIds[chunkX + chunkY * cells.getChunksX()]); // Chunks outside of the view are skipped
+            }
+        }
+        cache.end();
+    }
+
+    /**
+     * Removes a destroyed wall from the layer and marks its chunk for rebuilding.
+     *
+     * @param x The x-coordinate of the wall's cell.
+     * @param y The y-coordinate of the wall's cell.
+     */
+    @Override
+    public void wallDestroyed(int x, int y) {
+        if (cells.removeWall(x, y)) dirty[cells.getChunk(x, y)] = true;
+    }
+
+    /**
+     * Adds the ground and the walls of a chunk to the cache currently being defined.
+     * The ground is drawn first, so the walls appear on top of it.
+     *
+     * @param chunk The index of the chunk.
+     */
+    private void addChunk(int chunk) {
+        int minX = cells.getChunkMinX(chunk);
+        int minY = cells.getChunkMinY(chunk);
+        int maxX = Math.min(minX + GroundCells.CHUNK_SIZE, cells.getWidth());
+        int maxY = Math.min(minY + GroundCells.CHUNK_SIZE, cells.getHeight());
+        for (int x = minX; x < Math.min(maxX, cells.getGroundWidth()); x++) {
+            for (int y = minY; y < Math.min(maxY, cells.getGroundHeight()); y++) {
+                add(Textures.GROUND, x, y);
+            }
+        }
+        for (int x = minX; x < maxX; x++) {
+            for (int y = minY; y < maxY; y++) {
+                StationaryObject wall = cells.getWall(x, y);
+                if (wall != null) add(wall.getCurrentAppearance(), x, y);
+            }
+        }
+    }
+
+    /**
+     * Adds a texture at a cell to the cache currently being defined, scaled like the sprites of the {@link GameScreen}.
+     *
+     * @param texture The texture to add.
+     * @param x       The x-coordinate of the cell.
+     * @param y       The y-coordinate of the cell.
+     */
+    private void add(TextureRegion texture, int x, int y) {
+        cache.add(texture, x * GameScreen.TILE_SIZE_PX * GameScreen.SCALE, y * GameScreen.TILE_SIZE_PX * GameScreen.SCALE,
+            texture.getRegionWidth() * GameScreen.SCALE, texture.getRegionHeight() * GameScreen.SCALE);
+    }
+
+    /**
+     * Releases the cache on the graphics card.
+     */
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
@@ -0,0 +1,263 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.BufferUtils;
+import de.tum.cit.ase.bomberquest.map.RenderSnapshot;
+import de.tum.cit.ase.bomberquest.map.StationaryObject;
+import de.tum.cit.ase.bomberquest.texture.Textures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The ground and the walls of a large game map, drawn by a shader as a single quad.
+ * Instead of one sprite per cell, the layer uploads a small texture with one texel per cell, holding the position of
+ * the cell's wall in the texture atlas. The fragment shader looks up the cell of every pixel and samples the ground
+ * and the wall from the atlas, so drawing the layer costs one draw call and no geometry, whatever the size of the map.
+ * When a wall is destroyed, only its texel is uploaded again.
+ * <p>
+ * The layer needs every cached wall to be exactly one cell large; use {@link #canDraw} before creating it and fall back
+ * to the {@link StaticLayer} otherwise.
+ */
+public class TileMapLayer implements RenderLayer {
+    /**
+     * The number of cells from which a map is drawn with this layer instead of the {@link StaticLayer}.
+     */
+    public static final int MIN_CELLS = 128 * 128;
+
+    /**
+     * The texel of a cell without a wall, an atlas position no region can have.
+     */
+    private static final int NO_WALL = 0xFFFFFFFF;
+
+    /**
+     * The vertex shader, passing the position in cells to the fragment shader.
+     */
+    private static final String VERTEX_SHADER = """
+        attribute vec2 a_position;
+        uniform mat4 u_projTrans;
+        uniform float u_cellSize;
+        varying vec2 v_cell;
+        void main() {
+            v_cell = a_position / u_cellSize;
+            gl_Position = u_projTrans * vec4(a_position, 0.0, 1.0);
+        }
+        """;
+
+    /**
+     * The fragment shader, drawing the ground and the wall of the cell a pixel lies in.
+     * The atlas position of the wall is stored as two 16-bit numbers in the four channels of the cell's texel.
+     */
+    private static final String FRAGMENT_SHADER = """
+        #ifdef GL_ES
+        precision highp float;
+        #endif
+        uniform sampler2D u_atlas;
+        uniform sampler2D u_cells;
+        uniform vec2 u_atlasSize;
+        uniform vec2 u_mapSize;
+        uniform vec2 u_groundSize;
+        uniform vec2 u_ground;
+        uniform float u_tileSize;
+        varying vec2 v_cell;
+        vec4 sampleTile(vec2 region, vec2 local) {
+            vec2 texel = min(floor(vec2(local.x, 1.0 - local.y) * u_tileSize), vec2(u_tileSize - 1.0));
+            return texture2D(u_atlas, (region + texel + 0.5) / u_atlasSize);
+        }
+        void main() {
+            vec2 cell = floor(v_cell);
+            vec2 local = v_cell - cell;
+            vec4 color = vec4(0.0);
+            if (cell.x < u_groundSize.x && cell.y < u_groundSize.y) {
+                color = sampleTile(u_ground, local);
+            }
+            vec4 wall = floor(texture2D(u_cells, (cell + 0.5) / u_mapSize) * 255.0 + 0.5);
+            vec2 region = vec2(wall.r * 256.0 + wall.g, wall.b * 256.0 + wall.a);
+            if (region.x < 65535.0) {
+                vec4 wallColor = sampleTile(region, local);
+                color = mix(color, wallColor, wallColor.a);
+            }
+            gl_FragColor = color;
+        }
+        """;
+
+    /**
+     * The ground and the walls that are drawn.
+     */
+    private final GroundCells ground;
+    /**
+     * The shader drawing the quad.
+     */
+    private final ShaderProgram shader;
+    /**
+     * The quad covering the whole map.
+     */
+    private final Mesh quad;
+    /**
+     * The texture with one texel per cell, holding the atlas position of the cell's wall.
+     */
+    private final Texture cells;
+    /**
+     * The atlas texture all walls and the ground are regions of.
+     */
+    private final Texture atlas;
+    /**
+     * The buffer used to upload a single texel.
+     */
+    private final ByteBuffer texel = BufferUtils.newByteBuffer(4);
+
+    /**
+     * Constructs the tile map layer and uploads the walls of a loaded map.
+     * Must be called on the render thread.
+     *
+     * @param ground The ground and the walls of the map, which must pass {@link #canDraw}, owned by the layer from now on.
+     * @param shader The compiled shader created with {@link #createShader()}, disposed of with the layer.
+     */
+    public TileMapLayer(GroundCells ground, ShaderProgram shader) {
+        this.ground = ground;
+        this.shader = shader;
+        int width = ground.getWidth();
+        int height = ground.getHeight();
+        this.atlas = Textures.GROUND.getTexture();
+
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None); // The texels are numbers, they must not be blended
+        pixmap.setColor(NO_WALL);
+        pixmap.fill();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                StationaryObject wall = ground.getWall(x, y);
+                if (wall == null) continue;
+                TextureRegion appearance = wall.getCurrentAppearance();
+                pixmap.drawPixel(x, y, appearance.getRegionX() << 16 | appearance.getRegionY());
+            }
+        }
+        this.cells = new Texture(pixmap);
+        cells.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        pixmap.dispose(); // The texture is not managed, so the pixmap is not needed to restore it
+
+        float cellPx = GameScreen.TILE_SIZE_PX * GameScreen.SCALE;
+        this.quad = new Mesh(true, 4, 6, new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE));
+        quad.setVertices(new float[]{0, 0, width * cellPx, 0, width * cellPx, height * cellPx, 0, height * cellPx});
+        quad.setIndices(new short[]{0, 1, 2, 2, 3, 0});
+    }
+
+    /**
+     * Creates the shader of the layer. The caller has to check {@link ShaderProgram#isCompiled()},
+     * as older graphics drivers may not support it.
+     *
+     * @return The shader program.
+     */
+    public static ShaderProgram createShader() {
+        return new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+    }
+
+    /**
+     * Checks if the layer can draw the walls of a map, i.e. if all of them are exactly one cell large
+     * and packed into the same atlas as the ground.
+     *
+     * @param cells The ground and the walls of the map.
+     * @return {@code true} if the layer can draw the map, {@code false} if the {@link StaticLayer} has to be used.
+     */
+    public static boolean canDraw(GroundCells cells) {
+        for (int x = 0; x < cells.getWidth(); x++) {
+            for (int y = 0; y < cells.getHeight(); y++) {
+                StationaryObject wall = cells.getWall(x, y);
+                if (wall == null) continue;
+                TextureRegion appearance = wall.getCurrentAppearance();
+                if (appearance.getTexture() != Textures.GROUND.getTexture()
+                    || appearance.getRegionWidth() != GameScreen.TILE_SIZE_PX || appearance.getRegionHeight() != GameScreen.TILE_SIZE_PX) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets how the content of the layer changes.
+     *
+     * @return {@link LayerKind#STATIC}, the layer draws its own quad.
+     */
+    @Override
+    public LayerKind getKind() {
+        return LayerKind.STATIC;
+    }
+
+    /**
+     * Checks if the layer has nothing to draw. The ground always covers the map.
+     *
+     * @param snapshot The latest {@link RenderSnapshot} of the simulation.
+     * @return Always {@code false}.
+     */
+    @Override
+    public boolean isEmpty(RenderSnapshot snapshot) {
+        return false;
+    }
+
+    /**
+     * Draws the quad covering the map.
+     * Must be called outside of {@code spriteBatch.begin()} and {@code spriteBatch.end()}.
+     *
+     * @param spriteBatch Not used, the layer draws with its own shader.
+     * @param camera      The camera the map is viewed with.
+     * @param snapshot    Not used, the walls are taken from the map.
+     * @param alpha       Not used, the layer does not move.
+     */
+    @Override
+    public void render(SpriteBatch spriteBatch, OrthographicCamera camera, RenderSnapshot snapshot, float alpha) {
+
+        cells.bind(1);
+        atlas.bind(0); // Leaves texture unit 0 active, as the sprite batch expects
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", camera.combined);
+        shader.setUniformi("u_atlas", 0);
+        shader.setUniformi("u_cells", 1);
+        shader.setUniformf("u_atlasSize", atlas.getWidth(), atlas.getHeight());
+        shader.setUniformf("u_mapSize", ground.getWidth(), ground.getHeight());
+        shader.setUniformf("u_groundSize", ground.getGroundWidth(), ground.getGroundHeight()); // Like the sprites, the ground leaves out the last row and column
+        shader.setUniformf("u_ground", Textures.GROUND.getRegionX(), Textures.GROUND.getRegionY());
+        shader.setUniformf("u_tileSize", GameScreen.TILE_SIZE_PX);
+        shader.setUniformf("u_cellSize", GameScreen.TILE_SIZE_PX * GameScreen.SCALE);
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        quad.render(shader, GL20.GL_TRIANGLES);
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Removes a destroyed wall by uploading the empty texel of its cell.
+     *
+     * @param x The x-coordinate of the wall's cell.
+     * @param y The y-coordinate of the wall's cell.
+     */
+    @Override
+    public void wallDestroyed(int x, int y) {
+        if (!ground.removeWall(x, y)) return;
+        texel.clear();
+        texel.putInt(NO_WALL);
+        texel.flip();
+        cells.bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, x, y, 1, 1, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, texel);
+    }
+
+    /**
+     * Releases the shader, the quad and the cell texture. The atlas belongs to the textures of the game.
+     */
+    @Override
+    public void dispose() {
+        shader.dispose();
+        quad.dispose();
+        cells.dispose();
+    }
+}
@@ -1,5 +1,6 @@
 package de.tum.cit.ase.bomberquest.texture;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -17,6 +18,16 @@ public interface Drawable {
      */
     TextureRegion getCurrentAppearance();
 
+    /**
+     * Gets the flat color representing the Drawable in zoomed-out views, where its texture would be too small to see.
+     * The color must not be modified.
+     *
+     * @return The color, {@link Color#GRAY} unless overridden.
+     */
+    default Color getMapColor() {
+        return Color.GRAY;
+    }
+
     /**
      * Gets the X coordinate of the drawable in the game world grid.
      * Note that this is a TILE coordinate, not a pixel coordinate.
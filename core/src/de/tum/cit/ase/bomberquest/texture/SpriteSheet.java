@@ -2,13 +2,18 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /**
  * Enumerates all spritesheets used in the game and provides helper methods for grabbing texture regions from them.
  * It is assumed that every spritesheet has some standard grid size which can be used for easier coordinate specification.
  * See the assets/texture folder for the actual texture files (plus some more samples which are not enumerated here).
- * Feel free to add your own spritesheets and use them in the game!
+ * The spritesheets are not loaded one by one: the {@code packTextures} Gradle task of the core module packs them,
+ * together with the other images of the game, into a single {@link TextureAtlas}, so the sprites of all sheets share one
+ * texture and the {@code SpriteBatch} does not have to flush when switching between them.
+ * Feel free to add your own spritesheets and use them in the game, and add their files to the task!
  * This enum facilitates the management and access of game textures, making texture handling more organized and efficient.
  *
  * @see Texture A whole image loaded into memory, used as a source for texture regions.
@@ -38,9 +43,15 @@ public enum SpriteSheet {
 
 
     /**
-     * The {@link Texture} object representing the loaded spritesheet image.
+     * The location of the packed texture atlas, written by the {@code packTextures} Gradle task into the build directory
+     * of core and found on the classpath, as it is not part of the assets folder.
      */
-    private final Texture spritesheet;
+    private static final String ATLAS_FILE = "assets/texture/atlas/textures.atlas";
+
+    /**
+     * The region of the packed texture atlas holding the whole spritesheet image.
+     */
+    private final TextureRegion spritesheet;
     /**
      * The width of a single grid cell within this spritesheet.
      */
@@ -53,14 +64,14 @@ public enum SpriteSheet {
     /**
      * Constructor for each variant of this enum.
      * Every {@code SpriteSheet} variant is associated with a corresponding image file, grid cell width, and height.
-     * It loads the texture from the assets and initializes the grid dimensions.
+     * It looks up the spritesheet in the texture atlas and initializes the grid dimensions.
      *
-     * @param filename The filename of the spritesheet image in the "texture/" directory.
+     * @param filename The filename of the spritesheet image in the "texture/" directory, which names its region in the atlas.
      * @param width    The width of a single grid cell in pixels within the spritesheet.
      * @param height   The height of a single grid cell in pixels within the spritesheet.
      */
     SpriteSheet(String filename, int width, int height) {
-        this.spritesheet = new Texture(Gdx.files.internal("assets/texture/" + filename));
+        this.spritesheet = findRegion(filename.substring(0, filename.lastIndexOf('.')));
         this.width = width;
         this.height = height;
     }
@@ -75,6 +86,7 @@ public enum SpriteSheet {
      * @return A {@link TextureRegion} representing the sprite at the specified row and column.
      */
     public TextureRegion at(int row, int column) {
+        // The coordinates are relative to the spritesheet's region in the atlas
         return new TextureRegion(
                 spritesheet,
                 (column - 1) * this.width,
@@ -84,4 +96,29 @@ public TextureRegion at(int row, int column) {
         );
     }
 
-}
\ No newline at end of file
+    /**
+     * Looks up an image packed into the texture atlas, e.g. a whole spritesheet or the background.
+     *
+     * @param name The filename of the image without its extension.
+     * @return A {@link TextureRegion} covering the image.
+     */
+    public static TextureRegion findRegion(String name) {
+        TextureRegion region = Atlas.INSTANCE.findRegion(name);
+        if (region == null) {
+            throw new GdxRuntimeException("Image '" + name + "' is missing from " + ATLAS_FILE + ", run the packTextures task");
+        }
+        return region;
+    }
+
+    /**
+     * Holds the texture atlas, which is loaded when the first region is looked up.
+     * Enum constants are created before the static fields of their enum, so the atlas cannot be a field of the enum itself.
+     */
+    private static class Atlas {
+        /**
+         * The texture atlas containing all packed images.
+         */
+        private static final TextureAtlas INSTANCE = new TextureAtlas(Gdx.files.internal(ATLAS_FILE));
+    }
+
+}
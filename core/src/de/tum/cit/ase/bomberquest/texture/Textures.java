@@ -1,7 +1,5 @@
 package de.tum.cit.ase.bomberquest.texture;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -11,6 +9,7 @@
  * improving performance and maintainability.
  * This class centralizes the access to all static textures used in the BomberQuest game,
  * ensuring textures are loaded once and reused throughout the application.
+ * All of them are regions of the single texture atlas of the {@link SpriteSheet}s.
  */
 public class Textures {
 
@@ -99,17 +98,17 @@ public class Textures {
     /**
      * TextureRegion for the entire HUD background panel.
      */
-    public static final TextureRegion HUD = new TextureRegion(new Texture(Gdx.files.internal("assets/texture/Hud.png")), 0, 0, 48, 96);
+    public static final TextureRegion HUD = new TextureRegion(SpriteSheet.findRegion("Hud"), 0, 0, 48, 96);
 
     /**
-     * Texture for the game background image.
+     * TextureRegion for the game background image.
      */
-    public static final Texture BACKGROUND = new Texture(Gdx.files.internal("assets/texture/Background.png"));
+    public static final TextureRegion BACKGROUND = SpriteSheet.findRegion("Background");
 
     /**
-     * Texture for the game logo image, displayed in menus.
+     * TextureRegion for the game logo image, displayed in menus.
      */
-    public static final Texture GAME_LOGO = new Texture(Gdx.files.internal("assets/texture/Game Logo.png"));
+    public static final TextureRegion GAME_LOGO = SpriteSheet.findRegion("Game Logo");
 
 
 }
\ No newline at end of file